@@ -0,0 +1,27 @@
+// 스레드 모드별 처리량 비교용 k6 스크립트
+// BASE_URL 의 사용자 API 에 VUS 개의 동시 연결로 상품 목록(DB 조회)과 로그인 없는 커서 조회를 섞어 보낸다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    scenarios: {
+        concurrent: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 1000),
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const categoryId = 1 + Math.floor(Math.random() * 10);
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/products/new?page=0&size=20`],
+        ['GET', `${BASE_URL}/products/${categoryId}/cursor`],
+    ]);
+
+    responses.forEach((response) => check(response, { 'status is 200': (r) => r.status === 200 }));
+}
@@ -1,10 +1,12 @@
 package com.devcourse.kurlymurly.api.admin;
 
+import com.devcourse.kurlymurly.application.order.OrderFacade;
 import com.devcourse.kurlymurly.application.product.ProductFacade;
 import com.devcourse.kurlymurly.domain.service.OrderService;
 import com.devcourse.kurlymurly.domain.service.OrderSupportService;
 import com.devcourse.kurlymurly.domain.service.ProductCommand;
 import com.devcourse.kurlymurly.domain.service.ReviewCommand;
+import com.devcourse.kurlymurly.domain.service.StockCommand;
 import com.devcourse.kurlymurly.web.common.KurlyResponse;
 import com.devcourse.kurlymurly.web.order.AnswerOrderSupport;
 import com.devcourse.kurlymurly.web.product.ProductRequest;
@@ -33,20 +35,26 @@ import static org.springframework.http.HttpStatus.OK;
 public class AdminController {
     private final ProductFacade productFacade;
     private final ProductCommand productCommand;
+    private final StockCommand stockCommand;
     private final ReviewCommand reviewCommand;
+    private final OrderFacade orderFacade;
     private final OrderService orderService;
     private final OrderSupportService orderSupportService;
 
     public AdminController(
             ProductFacade productFacade,
             ProductCommand productCommand,
+            StockCommand stockCommand,
             ReviewCommand reviewCommand,
+            OrderFacade orderFacade,
             OrderService orderService,
             OrderSupportService orderSupportService
     ) {
         this.productFacade = productFacade;
         this.productCommand = productCommand;
+        this.stockCommand = stockCommand;
         this.reviewCommand = reviewCommand;
+        this.orderFacade = orderFacade;
         this.orderService = orderService;
         this.orderSupportService = orderSupportService;
     }
@@ -54,7 +62,8 @@ public class AdminController {
     @Tag(name = "admin")
     @Operation(summary = "[관리자 토큰 필요] 새로운 상품을 등록한다.", responses = {
             @ApiResponse(responseCode = "200", description = "성공적으로 상품을 등록했습니다."),
-            @ApiResponse(responseCode = "401", description = "권한이 없는 토큰이거나 토큰을 보내지 않은 경우")
+            @ApiResponse(responseCode = "401", description = "권한이 없는 토큰이거나 토큰을 보내지 않은 경우"),
+            @ApiResponse(responseCode = "503", description = "이미지 업로드 대기열이 가득 차서 등록을 받을 수 없는 경우")
     })
     @PostMapping("/products")
     @ResponseStatus(OK)
@@ -81,6 +90,23 @@ public class AdminController {
         return KurlyResponse.noData();
     }
 
+    @Tag(name = "admin")
+    @Operation(summary = "[관리자 토큰 필요] 상품 재고를 입고하는 API", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 재고를 더했습니다."),
+            @ApiResponse(responseCode = "400", description = "입고 수량이 0 이하인 경우"),
+            @ApiResponse(responseCode = "401", description = "권한이 없는 토큰이거나 토큰을 보내지 않은 경우"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 상품입니다.")
+    })
+    @PostMapping("/products/{productId}/stock")
+    @ResponseStatus(OK)
+    public KurlyResponse<Void> addStock(
+            @PathVariable Long productId,
+            @RequestBody @Valid ProductRequest.Stock request
+    ) {
+        stockCommand.addStock(productId, request.quantity());
+        return KurlyResponse.noData();
+    }
+
     @Tag(name = "admin")
     @Operation(summary = "[관리자 토큰 필요] 상품을 삭제한다.", responses = {
             @ApiResponse(responseCode = "200", description = "성공적으로 상품을 삭제했습니다."),
@@ -152,7 +178,7 @@ public class AdminController {
     public KurlyResponse<Void> changeToDone(
             @PathVariable Long orderId
     ) {
-        orderService.cancelOrder(orderId);
+        orderFacade.cancelOrder(orderId);
         return KurlyResponse.noData();
     }
 
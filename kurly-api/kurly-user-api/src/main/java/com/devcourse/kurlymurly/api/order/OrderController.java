@@ -1,5 +1,6 @@
 package com.devcourse.kurlymurly.api.order;
 
+import com.devcourse.kurlymurly.application.order.OrderFacade;
 import com.devcourse.kurlymurly.auth.AuthUser;
 import com.devcourse.kurlymurly.domain.service.OrderService;
 import com.devcourse.kurlymurly.web.common.KurlyResponse;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,27 +18,29 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 import static org.springframework.http.HttpStatus.OK;
 
 @Tag(name = "order", description = "주문 API")
 @RestController
 @RequestMapping("/orders")
 public class OrderController {
+    private final OrderFacade orderFacade;
     private final OrderService orderService;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderFacade orderFacade, OrderService orderService) {
+        this.orderFacade = orderFacade;
         this.orderService = orderService;
     }
 
     @Tag(name = "order")
     @Operation(summary = "[토큰] 주문 생성", description = "[토큰 필요] 유저의 주문을 생성한다.", responses = {
             @ApiResponse(responseCode = "200", description = "성공적으로 주문을 생성한 경우"),
-            @ApiResponse(responseCode = "401", description = "토큰을 넣지 않은 경우")
+            @ApiResponse(responseCode = "401", description = "토큰을 넣지 않은 경우"),
+            @ApiResponse(responseCode = "409", description = "상품의 재고가 부족한 경우")
     })
     @PostMapping
     @ResponseStatus(OK)
@@ -44,7 +48,7 @@ public class OrderController {
             @AuthenticationPrincipal AuthUser user,
             @RequestBody @Valid CreateOrder.Request request
     ) {
-        CreateOrder.Response response = orderService.createOrder(user.getUser(), request);
+        CreateOrder.Response response = orderFacade.createOrder(user.getUser(), request);
         return KurlyResponse.ok(response);
     }
 
@@ -61,16 +65,17 @@ public class OrderController {
     }
 
     @Tag(name = "order")
-    @Operation(summary = "[토큰] 주문 내역 간단히 조회", description = "[토큰 필요] 해당 유저의 주문 내역을 간단한 정보로 조회한다.", responses = {
+    @Operation(summary = "[토큰] 주문 내역 간단히 조회", description = "[토큰 필요] 해당 유저의 주문 내역을 간단한 정보로 10개씩 조회한다.", responses = {
             @ApiResponse(responseCode = "200", description = "성공적으로 주문 내역을 간단하게 조회한 경우"),
             @ApiResponse(responseCode = "401", description = "토큰을 넣지 않은 경우"),
     })
     @GetMapping
     @ResponseStatus(OK)
-    public KurlyResponse<List<GetOrderResponse.SimpleInfo>> getOrderListOfUserByUserId(
-            @AuthenticationPrincipal AuthUser user
+    public KurlyResponse<Slice<GetOrderResponse.SimpleInfo>> getOrderListOfUserByUserId(
+            @AuthenticationPrincipal AuthUser user,
+            @RequestParam(required = false) Long start
     ) {
-        List<GetOrderResponse.SimpleInfo> simpleOrderInfos = orderService.findOrderListSimpleFormByUserId(user.getId());
+        Slice<GetOrderResponse.SimpleInfo> simpleOrderInfos = orderService.findOrderListSimpleFormByUserId(user.getId(), start);
         return KurlyResponse.ok(simpleOrderInfos);
     }
 
@@ -88,7 +93,7 @@ public class OrderController {
             @AuthenticationPrincipal AuthUser user,
             @PathVariable Long id
     ) {
-        orderService.toCancelByUser(id, user.getId());
+        orderFacade.cancelByUser(id, user.getId());
         return KurlyResponse.noData();
     }
 }
@@ -2,9 +2,11 @@ package com.devcourse.kurlymurly.api.product;
 
 import com.devcourse.kurlymurly.application.product.ProductFacade;
 import com.devcourse.kurlymurly.auth.AuthUser;
+import com.devcourse.kurlymurly.web.common.KurlyCursorSlice;
 import com.devcourse.kurlymurly.web.common.KurlyPagingRequest;
 import com.devcourse.kurlymurly.web.common.KurlyResponse;
 import com.devcourse.kurlymurly.web.product.FavoriteResponse;
+import com.devcourse.kurlymurly.web.product.ProductRequest;
 import com.devcourse.kurlymurly.web.product.ProductResponse;
 import com.devcourse.kurlymurly.web.product.ReviewRequest;
 import com.devcourse.kurlymurly.web.product.ReviewResponse;
@@ -23,6 +25,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -76,7 +79,7 @@ public class ProductController {
     }
 
     @Tag(name = "product")
-    @Operation(summary = "베스트 상품 페이지 가져오기", description = "베스트 상품 목록을 페이징으로 보여준다.")
+    @Operation(summary = "베스트 상품 페이지 가져오기", description = "최근 주문, 후기, 찜이 많은 순서로 베스트 상품 목록을 페이징으로 보여준다.")
     @GetMapping("/best")
     @ResponseStatus(OK)
     public KurlyResponse<Page<ProductResponse.GetSimple>> getProductPagingOfBestProducts(
@@ -86,6 +89,72 @@ public class ProductController {
         return KurlyResponse.ok(responses);
     }
 
+    @Tag(name = "product")
+    @Operation(summary = "카테고리 베스트 상품 페이지 가져오기", description = "카테고리 안에서 최근 주문, 후기, 찜이 많은 순서로 베스트 상품 목록을 페이징으로 보여준다.")
+    @GetMapping("/{categoryId}/best")
+    @ResponseStatus(OK)
+    public KurlyResponse<Page<ProductResponse.GetSimple>> getProductPagingOfBestProductsOfCategory(
+            @PathVariable Long categoryId,
+            @ModelAttribute KurlyPagingRequest request
+    ) {
+        Page<ProductResponse.GetSimple> responses = productFacade.loadBestProductPageResponseOfCategory(categoryId, request);
+        return KurlyResponse.ok(responses);
+    }
+
+    @Tag(name = "product")
+    @Operation(summary = "상품 검색", description = "상품 이름, 설명, 상세 정보에서 검색어와 가까운 순서로 상품을 보여준다.")
+    @GetMapping("/search")
+    @ResponseStatus(OK)
+    public KurlyResponse<List<ProductResponse.GetSimple>> searchProducts(
+            @ModelAttribute ProductRequest.Search request
+    ) {
+        List<ProductResponse.GetSimple> responses = productFacade.searchProducts(request);
+        return KurlyResponse.ok(responses);
+    }
+
+    @Tag(name = "product")
+    @Operation(summary = "상품 이름 자동완성", description = "입력 중인 글자로 시작하는 상품 이름을 주문이 많은 순서로 보여준다. 받침이나 모음을 입력하는 중이어도 찾는다.")
+    @GetMapping("/autocomplete")
+    @ResponseStatus(OK)
+    public KurlyResponse<List<ProductResponse.Suggestion>> autocomplete(@RequestParam String keyword) {
+        List<ProductResponse.Suggestion> responses = productFacade.autocomplete(keyword);
+        return KurlyResponse.ok(responses);
+    }
+
+    @Tag(name = "product")
+    @Operation(summary = "카테고리 상품 커서 페이지 가져오기", description = "카테고리에 맞는 상품 목록을 최신순 커서 페이징으로 보여준다.")
+    @GetMapping("/{categoryId}/cursor")
+    @ResponseStatus(OK)
+    public KurlyResponse<KurlyCursorSlice<ProductResponse.GetSimple>> getProductSliceOfCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor
+    ) {
+        KurlyCursorSlice<ProductResponse.GetSimple> responses = productFacade.loadProductSliceResponse(categoryId, cursor);
+        return KurlyResponse.ok(responses);
+    }
+
+    @Tag(name = "product")
+    @Operation(summary = "신상품 커서 페이지 가져오기", description = "신상품 목록을 최신순 커서 페이징으로 보여준다.")
+    @GetMapping("/new/cursor")
+    @ResponseStatus(OK)
+    public KurlyResponse<KurlyCursorSlice<ProductResponse.GetSimple>> getProductSliceOfNewProducts(
+            @RequestParam(required = false) String cursor
+    ) {
+        KurlyCursorSlice<ProductResponse.GetSimple> responses = productFacade.loadNewProductSliceResponse(cursor);
+        return KurlyResponse.ok(responses);
+    }
+
+    @Tag(name = "product")
+    @Operation(summary = "베스트 상품 커서 페이지 가져오기", description = "베스트 상품 목록을 순위순 커서 페이징으로 보여준다.")
+    @GetMapping("/best/cursor")
+    @ResponseStatus(OK)
+    public KurlyResponse<KurlyCursorSlice<ProductResponse.GetSimple>> getProductSliceOfBestProducts(
+            @RequestParam(required = false) String cursor
+    ) {
+        KurlyCursorSlice<ProductResponse.GetSimple> responses = productFacade.loadBestProductSliceResponse(cursor);
+        return KurlyResponse.ok(responses);
+    }
+
     @Tag(name = "review")
     @Operation(summary = "상품 리뷰 가져오기", description = "해당 상품에 대한 리뷰 조회 API", responses = {
             @ApiResponse(responseCode = "200", description = "[페이징 정보] 성공적으로 상품의 후기를 가져온 상태"),
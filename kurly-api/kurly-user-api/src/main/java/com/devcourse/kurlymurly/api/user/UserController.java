@@ -52,16 +52,17 @@ public class UserController {
     }
 
     @Tag(name = "user")
-    @Operation(summary = "[토큰] 유저 리뷰 조회", description = "[토큰 필요] 사용자가 작성한 리뷰 조회 API", responses = {
+    @Operation(summary = "[토큰] 유저 리뷰 조회", description = "[토큰 필요] 사용자가 작성한 리뷰를 10개씩 가져오는 API", responses = {
             @ApiResponse(responseCode = "200", description = "성공적으로 상품의 후기를 가져온 상태"),
             @ApiResponse(responseCode = "401", description = "토큰을 넣지 않아서 발생하는 에러")
     })
     @GetMapping("/reviews")
     @ResponseStatus(OK)
-    public KurlyResponse<List<ReviewResponse.Reviewed>> loadAllReviewsOnMyPage(
-            @AuthenticationPrincipal AuthUser user
+    public KurlyResponse<Slice<ReviewResponse.Reviewed>> loadAllReviewsOnMyPage(
+            @AuthenticationPrincipal AuthUser user,
+            @RequestParam(required = false) Long start
     ) {
-        List<ReviewResponse.Reviewed> response = productFacade.loadReviewsOfUser(user.getId());
+        Slice<ReviewResponse.Reviewed> response = productFacade.loadReviewsOfUser(user.getId(), start);
         return KurlyResponse.ok(response);
     }
 
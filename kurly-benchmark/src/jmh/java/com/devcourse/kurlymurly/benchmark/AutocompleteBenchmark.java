@@ -0,0 +1,71 @@
+package com.devcourse.kurlymurly.benchmark;
+
+import com.devcourse.kurlymurly.domain.product.search.AutocompleteIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 질의의 지연 시간 분포를 잰다. SampleTime 결과의 p0.99 가 1ms 아래인지 본다.
+ * 질의는 입력하는 중간 상태(초성만, 받침 입력 중)를 섞었다. 색인은 읽기 전용이므로 여러 스레드에서 락 없이 동시에 읽는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class AutocompleteBenchmark {
+    private static final String[] WORDS = {
+            "국내산", "제주", "한우", "등심", "닭가슴살", "사과", "감귤", "냉동", "스테이크", "샐러드",
+            "우유", "요거트", "고구마", "삼겹살", "연어", "블루베리", "두부", "김치", "샌드위치", "과일"
+    };
+    private static final String[] UNITS = {"300g", "500g", "1kg", "2입", "1팩"};
+    private static final String[] QUERIES = {"ㄷ", "닭", "닭가", "닭가슴살 ", "제주 감", "과", "ㄱㅗ", "국내산한", "블루", "삼겹살1"};
+
+    @Param({"100000", "1000000"})
+    private int products;
+
+    private AutocompleteIndex index;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        String query() {
+            next = (next + 1) % QUERIES.length;
+            return QUERIES[next];
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        AutocompleteIndex.Builder builder = AutocompleteIndex.builder(10);
+        for (int i = 0; i < products; i++) {
+            String name = pick(random, WORDS) + " " + pick(random, WORDS) + " " + pick(random, UNITS) + " " + i;
+            // 주문 수는 소수 상품에 몰리도록 멱법칙에 가깝게 만든다.
+            long orders = (long) (1_000 / Math.pow(1 + random.nextInt(products), 0.7));
+            builder.add(i + 1, name, orders);
+        }
+        index = builder.build();
+    }
+
+    @Benchmark
+    public List<AutocompleteIndex.Suggestion> suggest(Cursor cursor) {
+        return index.suggest(cursor.query(), 10);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
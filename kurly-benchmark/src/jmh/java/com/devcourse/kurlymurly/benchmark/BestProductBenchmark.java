@@ -0,0 +1,121 @@
+package com.devcourse.kurlymurly.benchmark;
+
+import com.devcourse.kurlymurly.domain.product.best.BestProductRanking;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.devcourse.kurlymurly.benchmark.ProductDataSet.PAGE_SIZE;
+
+/**
+ * 베스트 상품 한 페이지를 status = 'BEST' 조회와 개수 쿼리(변경 전), 미리 계산한 순위표에서 id 를 잘라 IN 으로 조회(변경 후)로 비교한다.
+ * 변경 전 쿼리를 위해 합성 데이터의 비율대로 상품 3% 를 BEST 로 바꾸고 V3 의 (status, created_at, id) 인덱스를 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BestProductBenchmark {
+    private static final int RANKING_LIMIT = 100;
+
+    private static final String STATUS_PAGE = """
+            SELECT p.image_url, p.delivery, p.name, p.description, p.price, p.review_count, p.is_kurly_only, p.status
+            FROM products p
+            WHERE p.status = 'BEST'
+            ORDER BY p.created_at DESC
+            LIMIT ? OFFSET ?""";
+
+    private static final String STATUS_COUNT = "SELECT COUNT(p.id) FROM products p WHERE p.status = 'BEST'";
+
+    private static final String RANKED_PAGE = """
+            SELECT p.id, p.image_url, p.delivery, p.name, p.description, p.price, p.review_count, p.is_kurly_only, p.status
+            FROM products p
+            WHERE p.id IN (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    @Param({"1", "10"})
+    private int page;
+
+    private Connection connection;
+    private PreparedStatement statusPage;
+    private PreparedStatement statusCount;
+    private PreparedStatement rankedPage;
+    private BestProductRanking ranking;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = ProductDataSet.create("best", rows);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE products SET status = 'BEST' WHERE MOD(id, 33) = 0 AND status = 'NORMAL'");
+            statement.execute("CREATE INDEX idx_products_status_created ON products (status, created_at, id)");
+            statement.execute("ANALYZE");
+        }
+
+        statusPage = connection.prepareStatement(STATUS_PAGE);
+        statusCount = connection.prepareStatement(STATUS_COUNT);
+        rankedPage = connection.prepareStatement(RANKED_PAGE);
+
+        SplittableRandom random = new SplittableRandom(42);
+        BestProductRanking.Builder builder = BestProductRanking.builder(RANKING_LIMIT);
+        for (long id = 1; id <= rows; id++) {
+            if (id % 50 != 0) {
+                builder.add(BestProductRanking.ALL_CATEGORIES, id, random.nextDouble());
+            }
+        }
+        ranking = builder.build(LocalDateTime.now());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        ProductDataSet.drop(connection);
+    }
+
+    @Benchmark
+    public long statusScan() throws SQLException {
+        statusPage.setInt(1, PAGE_SIZE);
+        statusPage.setInt(2, (page - 1) * PAGE_SIZE);
+        long checksum = sumPrices(statusPage, 5);
+
+        try (ResultSet resultSet = statusCount.executeQuery()) {
+            resultSet.next();
+            return checksum + resultSet.getLong(1);
+        }
+    }
+
+    @Benchmark
+    public long rankedSnapshot() throws SQLException {
+        List<Long> ids = ranking.page(BestProductRanking.ALL_CATEGORIES, (long) (page - 1) * PAGE_SIZE, PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            rankedPage.setLong(i + 1, ids.get(i));
+        }
+        return sumPrices(rankedPage, 6) + ranking.size(BestProductRanking.ALL_CATEGORIES);
+    }
+
+    private long sumPrices(PreparedStatement statement, int priceColumn) throws SQLException {
+        long checksum = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                checksum += resultSet.getInt(priceColumn);
+            }
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,142 @@
+package com.devcourse.kurlymurly.benchmark;
+
+import com.devcourse.kurlymurly.data.metrics.StatementCounter;
+import com.devcourse.kurlymurly.data.metrics.StatementMetrics;
+import com.devcourse.kurlymurly.domain.user.cart.Cart;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * 장바구니 10만 건을 저장할 때 IDENTITY 와 pooled 테이블 생성기의 실행 시간, DB 왕복 횟수를 비교한다.
+ * IDENTITY 는 INSERT 마다 생성된 키를 받아야 해서 배치가 꺼지고, pooled 는 100건씩 한 번에 보낸다.
+ * statements 보조 지표가 실제로 실행된 SQL(배치는 1회) 수이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CartInsertBenchmark {
+    private static final int CART_COUNT = 100_000;
+    private static final int BATCH_SIZE = 100;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:carts;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        StatementMetrics statementMetrics = new StatementMetrics(Duration.ofSeconds(10));
+
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(Cart.class)
+                .addAnnotatedClass(IdentityCart.class)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true");
+        configuration.getProperties().put(AvailableSettings.DATASOURCE, statementMetrics.observe(dataSource));
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            session.createNativeMutationQuery("TRUNCATE TABLE carts").executeUpdate();
+            session.createNativeMutationQuery("TRUNCATE TABLE identity_carts").executeUpdate();
+            transaction.commit();
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RoundTrips {
+        public long statements;
+    }
+
+    @Benchmark
+    public long pooledTableIds(RoundTrips roundTrips) {
+        return insert(roundTrips, i -> new Cart(i % 1_000, i % 5_000, 1));
+    }
+
+    @Benchmark
+    public long identityIds(RoundTrips roundTrips) {
+        return insert(roundTrips, i -> new IdentityCart(i % 1_000, i % 5_000, 1));
+    }
+
+    private long insert(RoundTrips roundTrips, LongFunction<Object> cart) {
+        try (StatementCounter.Scope scope = StatementCounter.open();
+             Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (long i = 1; i <= CART_COUNT; i++) {
+                session.persist(cart.apply(i));
+                if (i % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            transaction.commit();
+
+            roundTrips.statements += scope.count();
+            return scope.count();
+        }
+    }
+
+    @Entity
+    @Table(name = "identity_carts")
+    public static class IdentityCart {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false)
+        private Long userId;
+
+        @Column(nullable = false)
+        private Long productId;
+
+        @Column(nullable = false)
+        private int quantity;
+
+        protected IdentityCart() {
+        }
+
+        IdentityCart(long userId, long productId, int quantity) {
+            this.userId = userId;
+            this.productId = productId;
+            this.quantity = quantity;
+        }
+    }
+}
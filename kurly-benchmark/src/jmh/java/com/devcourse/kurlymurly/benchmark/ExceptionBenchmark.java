@@ -0,0 +1,76 @@
+package com.devcourse.kurlymurly.benchmark;
+
+import com.devcourse.kurlymurly.common.exception.ErrorCode;
+import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.KURLY_SERVER_ERROR;
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.PRODUCT_NOT_FOUND;
+
+/**
+ * 스택 트레이스를 채우던 이전 예외와 비즈니스 규칙 예외(스택 없음)의 throw/catch 비용을 비교한다.
+ * depth 는 예외가 던져지는 지점까지의 호출 깊이로, 컨트롤러 → 서비스 → 리포지토리까지 쌓인 스택을 흉내 낸다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionBenchmark {
+    /** 변경 전 KurlyBaseException 처럼 항상 스택 트레이스를 채우는 예외 */
+    private static class StackfulException extends RuntimeException {
+        private final ErrorCode errorCode;
+
+        StackfulException(ErrorCode errorCode) {
+            super(errorCode.getMessage());
+            this.errorCode = errorCode;
+        }
+    }
+
+    @Param({"10", "100"})
+    private int depth;
+
+    @Benchmark
+    public ErrorCode stackful() {
+        try {
+            throwAt(depth, () -> new StackfulException(PRODUCT_NOT_FOUND));
+        } catch (StackfulException e) {
+            return e.errorCode;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public ErrorCode businessRule() {
+        try {
+            throwAt(depth, () -> new KurlyBaseException(PRODUCT_NOT_FOUND));
+        } catch (KurlyBaseException e) {
+            return e.getErrorCode();
+        }
+        return null;
+    }
+
+    @Benchmark
+    public ErrorCode serverError() {
+        try {
+            throwAt(depth, () -> new KurlyBaseException(KURLY_SERVER_ERROR));
+        } catch (KurlyBaseException e) {
+            return e.getErrorCode();
+        }
+        return null;
+    }
+
+    private void throwAt(int remaining, Supplier<RuntimeException> exception) {
+        if (remaining == 0) {
+            throw exception.get();
+        }
+        throwAt(remaining - 1, exception);
+    }
+}
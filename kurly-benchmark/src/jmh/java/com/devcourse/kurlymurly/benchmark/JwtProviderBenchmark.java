@@ -0,0 +1,90 @@
+package com.devcourse.kurlymurly.benchmark;
+
+import com.devcourse.kurlymurly.auth.CustomUserDetailService;
+import com.devcourse.kurlymurly.auth.jwt.ClaimsCache;
+import com.devcourse.kurlymurly.auth.jwt.JwtProvider;
+import com.devcourse.kurlymurly.auth.jwt.PrincipalCache;
+import com.devcourse.kurlymurly.domain.user.User;
+import com.devcourse.kurlymurly.domain.user.UserInfo;
+import com.devcourse.kurlymurly.domain.user.UserRepository;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급과 JWT 필터가 매 요청 호출하는 getAuthentication 비용을 측정한다.
+ * lookupCost 는 회원 조회(DB 왕복)를 흉내 낸 CPU 소모량이고, principalCache 로 사용자 캐시 사용 여부를 바꾼다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtProviderBenchmark {
+    private static final String LOGIN_ID = "kurly1234";
+
+    @Param({"true", "false"})
+    private boolean principalCache;
+
+    @Param({"0", "10000"})
+    private long lookupCost;
+
+    private JwtProvider jwtProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        String secretKey = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+        PrincipalCache cache = new PrincipalCache(principalCache ? 10_000 : 0, Duration.ofMinutes(1));
+        CustomUserDetailService userDetailService = new CustomUserDetailService(userRepository(lookupCost));
+
+        jwtProvider = new JwtProvider(secretKey, userDetailService, cache, new ClaimsCache(10_000));
+        authentication = new UsernamePasswordAuthenticationToken(LOGIN_ID, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = jwtProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtProvider.getAuthentication(token);
+    }
+
+    private static UserRepository userRepository(long lookupCost) {
+        User user = new User("수연장", LOGIN_ID, "password", "kurly@gmail.com",
+                new UserInfo(LocalDate.of(2000, 1, 1), "문희조", "MAN"), "010-1234-5678");
+
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByLoginId")) {
+                        Blackhole.consumeCPU(lookupCost);
+                        return Optional.of(user);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+}
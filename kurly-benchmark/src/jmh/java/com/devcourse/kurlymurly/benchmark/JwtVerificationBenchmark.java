@@ -0,0 +1,81 @@
+package com.devcourse.kurlymurly.benchmark;
+
+import com.devcourse.kurlymurly.auth.jwt.ClaimsCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 파서를 새로 만들어 검증하던 방식과 파서 재사용, 검증 결과 캐시를 비교한다.
+ * tokenCount 는 동시에 쓰이는 서로 다른 토큰 수로, 캐시가 모두 담을 수 있는 범위에서 측정한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+    private static final long EXPIRATION_TIME = 30 * 60 * 1000L;
+
+    @Param({"1", "1000"})
+    private int tokenCount;
+
+    private Key key;
+    private JwtParser parser;
+    private ClaimsCache claimsCache;
+    private String[] tokens;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        claimsCache = new ClaimsCache(10_000);
+
+        long now = System.currentTimeMillis();
+        tokens = new String[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            tokens[i] = Jwts.builder()
+                    .setSubject("user" + i)
+                    .claim("authority", "ROLE_USER")
+                    .setIssuedAt(new Date(now))
+                    .setExpiration(new Date(now + EXPIRATION_TIME))
+                    .signWith(key, SignatureAlgorithm.HS256)
+                    .compact();
+        }
+    }
+
+    @Benchmark
+    public Claims newParserPerRequest() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(nextToken()).getBody();
+    }
+
+    @Benchmark
+    public Claims reusedParser() {
+        return parser.parseClaimsJws(nextToken()).getBody();
+    }
+
+    @Benchmark
+    public Claims cachedClaims() {
+        return claimsCache.get(nextToken(), token -> parser.parseClaimsJws(token).getBody());
+    }
+
+    private String nextToken() {
+        String token = tokens[cursor];
+        cursor = (cursor + 1) % tokens.length;
+        return token;
+    }
+}
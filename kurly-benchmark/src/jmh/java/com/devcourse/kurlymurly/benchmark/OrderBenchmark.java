@@ -0,0 +1,82 @@
+package com.devcourse.kurlymurly.benchmark;
+
+import com.devcourse.kurlymurly.domain.order.Order;
+import com.devcourse.kurlymurly.domain.order.OrderLine;
+import com.devcourse.kurlymurly.domain.order.PaymentInfo;
+import com.devcourse.kurlymurly.domain.order.ShippingInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 주문 상태 전이, 주문 상품 요약, 결제 정보 계산 비용을 측정한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderBenchmark {
+    private static final int PRICE_COUNT = 1024;
+
+    @Param({"1", "10", "100"})
+    private int lineCount;
+
+    private List<OrderLine> orderLines;
+    private PaymentInfo paymentInfo;
+    private ShippingInfo shippingInfo;
+    private Order order;
+    private int[] prices;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        orderLines = IntStream.range(0, lineCount)
+                .mapToObj(i -> new OrderLine((long) i, "상품" + i, "https://image.kurly.com/" + i, 1000 * (i + 1), 1))
+                .toList();
+        paymentInfo = new PaymentInfo(50_000, 5_000, "CARD");
+        shippingInfo = new ShippingInfo("수연장", "010-1234-5678", "서울시 강남구", "문 앞", "공동현관 1234", "종이");
+        order = newOrder();
+
+        prices = ThreadLocalRandom.current().ints(PRICE_COUNT, 1_000, 100_000).toArray();
+    }
+
+    @Benchmark
+    public Order nextStateUntilDelivered() {
+        Order target = newOrder();
+        target.nextState();
+        target.nextState();
+        target.nextState();
+        return target;
+    }
+
+    @Benchmark
+    public Order cancelOrdered() {
+        Order target = newOrder();
+        target.cancel();
+        return target;
+    }
+
+    @Benchmark
+    public String summarizeOrderLines() {
+        return order.summarizeOrderLines();
+    }
+
+    @Benchmark
+    public PaymentInfo createPaymentInfo() {
+        int totalPrice = prices[cursor++ & (PRICE_COUNT - 1)];
+        return new PaymentInfo(totalPrice, totalPrice / 10, "CARD");
+    }
+
+    private Order newOrder() {
+        return new Order(1L, "0000000000000000001", orderLines, paymentInfo, shippingInfo);
+    }
+}
@@ -0,0 +1,111 @@
+package com.devcourse.kurlymurly.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 상품 목록 벤치마크용 H2(MySQL 모드) 인메모리 데이터셋.
+ * 목록 조회에 쓰이는 컬럼과 V3 인덱스만 옮겨 두었다.
+ */
+final class ProductDataSet {
+    static final int CATEGORY_COUNT = 10;
+    static final int PAGE_SIZE = 10;
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int MAX_REVIEWS_PER_PRODUCT = 4;
+
+    private ProductDataSet() {
+    }
+
+    static Connection create(String name, int productCount) throws SQLException {
+        Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE products (
+                        id            BIGINT PRIMARY KEY AUTO_INCREMENT,
+                        category_id   BIGINT       NOT NULL,
+                        name          VARCHAR(50)  NOT NULL,
+                        description   VARCHAR(100) NOT NULL,
+                        price         INT          NOT NULL,
+                        delivery      VARCHAR(15)  NOT NULL,
+                        image_url     VARCHAR(50)  NOT NULL,
+                        status        VARCHAR(15)  NOT NULL,
+                        is_kurly_only BOOLEAN      NOT NULL,
+                        review_count  BIGINT       NOT NULL,
+                        created_at    DATETIME(6)
+                    )""");
+            statement.execute("""
+                    CREATE TABLE reviews (
+                        id         BIGINT PRIMARY KEY AUTO_INCREMENT,
+                        product_id BIGINT      NOT NULL,
+                        status     VARCHAR(15) NOT NULL
+                    )""");
+        }
+
+        insert(connection, productCount);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX idx_products_category_created ON products (category_id, created_at, id)");
+            statement.execute("CREATE INDEX idx_reviews_product_status ON reviews (product_id, status)");
+            statement.execute("ANALYZE");
+        }
+        return connection;
+    }
+
+    static void drop(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    private static void insert(Connection connection, int productCount) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime base = LocalDateTime.of(2023, 1, 1, 0, 0);
+        connection.setAutoCommit(false);
+
+        try (PreparedStatement product = connection.prepareStatement("""
+                INSERT INTO products (category_id, name, description, price, delivery, image_url, status, is_kurly_only, review_count, created_at)
+                VALUES (?, ?, ?, ?, 'MORNING', ?, ?, ?, ?, ?)""");
+             PreparedStatement review = connection.prepareStatement(
+                     "INSERT INTO reviews (product_id, status) VALUES (?, ?)")) {
+            for (int i = 1; i <= productCount; i++) {
+                int reviewCount = random.nextInt(MAX_REVIEWS_PER_PRODUCT + 1);
+
+                product.setLong(1, 1 + (i % CATEGORY_COUNT));
+                product.setString(2, "상품" + i);
+                product.setString(3, "상품 설명" + i);
+                product.setInt(4, 1_000 + random.nextInt(100_000));
+                product.setString(5, "https://image.kurly.com/" + i);
+                product.setString(6, i % 50 == 0 ? "DELETED" : "NORMAL");
+                product.setBoolean(7, i % 3 == 0);
+                product.setLong(8, reviewCount);
+                product.setTimestamp(9, Timestamp.valueOf(base.plusSeconds(i)));
+                product.addBatch();
+
+                for (int r = 0; r < reviewCount; r++) {
+                    review.setLong(1, i);
+                    review.setString(2, "NORMAL");
+                    review.addBatch();
+                }
+
+                if (i % BATCH_SIZE == 0) {
+                    product.executeBatch();
+                    review.executeBatch();
+                    connection.commit();
+                }
+            }
+            product.executeBatch();
+            review.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+}
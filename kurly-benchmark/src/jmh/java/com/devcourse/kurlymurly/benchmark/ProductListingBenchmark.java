@@ -0,0 +1,95 @@
+package com.devcourse.kurlymurly.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import static com.devcourse.kurlymurly.benchmark.ProductDataSet.CATEGORY_COUNT;
+import static com.devcourse.kurlymurly.benchmark.ProductDataSet.PAGE_SIZE;
+
+/**
+ * 카테고리 상품 목록 첫 페이지를 후기 수 집계(변경 전)와 products.review_count 컬럼(변경 후)으로 조회해 비교한다.
+ * 1천만 건은 데이터 적재에 수 GB 힙이 필요하므로 -p rows=... 로 범위를 좁혀 실행할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductListingBenchmark {
+    private static final String AGGREGATED_REVIEWS = """
+            SELECT p.image_url, p.delivery, p.name, p.description, p.price, COALESCE(r.review_count, 0), p.is_kurly_only, p.status
+            FROM products p
+            LEFT JOIN (
+                SELECT product_id, COUNT(*) AS review_count
+                FROM reviews
+                WHERE status IN ('NORMAL', 'BEST')
+                GROUP BY product_id
+            ) r ON p.id = r.product_id
+            WHERE p.category_id = ?
+            AND p.status <> 'DELETED'
+            ORDER BY p.created_at DESC
+            LIMIT ?""";
+
+    private static final String REVIEW_COUNT_COLUMN = """
+            SELECT p.image_url, p.delivery, p.name, p.description, p.price, p.review_count, p.is_kurly_only, p.status
+            FROM products p
+            WHERE p.category_id = ?
+            AND p.status <> 'DELETED'
+            ORDER BY p.created_at DESC
+            LIMIT ?""";
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    private int rows;
+
+    private Connection connection;
+    private PreparedStatement aggregated;
+    private PreparedStatement counter;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = ProductDataSet.create("listing", rows);
+        aggregated = connection.prepareStatement(AGGREGATED_REVIEWS);
+        counter = connection.prepareStatement(REVIEW_COUNT_COLUMN);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        ProductDataSet.drop(connection);
+    }
+
+    @Benchmark
+    public long aggregatedReviewCount() throws SQLException {
+        return firstPage(aggregated);
+    }
+
+    @Benchmark
+    public long reviewCountColumn() throws SQLException {
+        return firstPage(counter);
+    }
+
+    private long firstPage(PreparedStatement statement) throws SQLException {
+        statement.setLong(1, 1 + (cursor++ % CATEGORY_COUNT));
+        statement.setInt(2, PAGE_SIZE);
+
+        long checksum = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                checksum += resultSet.getLong(6);
+            }
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,120 @@
+package com.devcourse.kurlymurly.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import static com.devcourse.kurlymurly.benchmark.ProductDataSet.PAGE_SIZE;
+
+/**
+ * 카테고리 상품 목록의 1페이지와 5000페이지를 OFFSET 페이징과 (created_at, id) 키셋 페이징으로 조회해 비교한다.
+ * 한 카테고리에 5000페이지 이상이 있도록 상품 100만 건을 적재한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductPagingBenchmark {
+    private static final int ROWS = 1_000_000;
+    private static final long CATEGORY_ID = 1L;
+
+    private static final String OFFSET_PAGE = """
+            SELECT p.id, p.name, p.price, p.review_count, p.created_at
+            FROM products p
+            WHERE p.category_id = ?
+            AND p.status <> 'DELETED'
+            ORDER BY p.created_at DESC, p.id DESC
+            LIMIT ? OFFSET ?""";
+
+    private static final String KEYSET_PAGE = """
+            SELECT p.id, p.name, p.price, p.review_count, p.created_at
+            FROM products p
+            WHERE p.category_id = ?
+            AND p.status <> 'DELETED'
+            AND (p.created_at < ? OR (p.created_at = ? AND p.id < ?))
+            ORDER BY p.created_at DESC, p.id DESC
+            LIMIT ?""";
+
+    @Param({"1", "5000"})
+    private int page;
+
+    private Connection connection;
+    private PreparedStatement offset;
+    private PreparedStatement keyset;
+    private Timestamp cursorCreatedAt;
+    private long cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = ProductDataSet.create("paging", ROWS);
+        offset = connection.prepareStatement(OFFSET_PAGE);
+        keyset = connection.prepareStatement(KEYSET_PAGE);
+        initCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        ProductDataSet.drop(connection);
+    }
+
+    @Benchmark
+    public long offsetPage() throws SQLException {
+        offset.setLong(1, CATEGORY_ID);
+        offset.setInt(2, PAGE_SIZE);
+        offset.setInt(3, (page - 1) * PAGE_SIZE);
+        return sumIds(offset);
+    }
+
+    @Benchmark
+    public long keysetPage() throws SQLException {
+        keyset.setLong(1, CATEGORY_ID);
+        keyset.setTimestamp(2, cursorCreatedAt);
+        keyset.setTimestamp(3, cursorCreatedAt);
+        keyset.setLong(4, cursorId);
+        keyset.setInt(5, PAGE_SIZE + 1);
+        return sumIds(keyset);
+    }
+
+    // 키셋 페이징은 이전 페이지 마지막 상품을 커서로 받으므로, 측정 대상 페이지 직전 상품을 미리 찾아 둔다.
+    private void initCursor() throws SQLException {
+        if (page == 1) {
+            cursorCreatedAt = Timestamp.valueOf("9999-12-31 00:00:00");
+            cursorId = Long.MAX_VALUE;
+            return;
+        }
+
+        offset.setLong(1, CATEGORY_ID);
+        offset.setInt(2, 1);
+        offset.setInt(3, (page - 1) * PAGE_SIZE - 1);
+        try (ResultSet resultSet = offset.executeQuery()) {
+            if (!resultSet.next()) {
+                throw new IllegalStateException("not enough products for page " + page);
+            }
+            cursorId = resultSet.getLong(1);
+            cursorCreatedAt = resultSet.getTimestamp(5);
+        }
+    }
+
+    private long sumIds(PreparedStatement statement) throws SQLException {
+        long checksum = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                checksum += resultSet.getLong(1);
+            }
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,113 @@
+package com.devcourse.kurlymurly.benchmark;
+
+import com.devcourse.kurlymurly.domain.product.Product;
+import com.devcourse.kurlymurly.domain.product.search.ProductSearchIndex;
+import com.devcourse.kurlymurly.domain.product.search.SearchDocument;
+import com.devcourse.kurlymurly.domain.product.search.SearchFilter;
+import com.devcourse.kurlymurly.domain.product.search.SearchHit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 합성 상품 데이터로 검색 색인의 질의 시간을 잰다.
+ * 비교 대상은 색인 없이 모든 상품 이름에서 검색어를 찾는 방식(LIKE '%검색어%' 와 같은 전체 스캔)이다.
+ * 색인 크기는 memoryBytes 보조 지표로 남긴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchBenchmark {
+    private static final int LIMIT = 20;
+    private static final int CATEGORY_COUNT = 30;
+
+    private static final String[] ORIGINS = {"국내산", "제주", "호주산", "미국산", "유기농", "무농약", "친환경", "프리미엄"};
+    private static final String[] ITEMS = {
+            "한우", "등심", "안심", "삼겹살", "목살", "닭가슴살", "연어", "고등어", "전복", "새우",
+            "사과", "감귤", "한라봉", "딸기", "블루베리", "토마토", "양파", "감자", "고구마", "브로콜리",
+            "우유", "요거트", "치즈", "두부", "계란", "김치", "된장", "고추장", "샐러드", "샌드위치"
+    };
+    private static final String[] FORMS = {"스테이크", "구이용", "샤브샤브", "슬라이스", "통", "손질", "냉동", "생"};
+    private static final String[] UNITS = {"300g", "500g", "1kg", "2입", "4입", "1팩", "10개입"};
+    private static final String[] QUERIES = {"한우 등심", "제주 감귤", "국내산삼겹살", "유기농 블루베리", "연어 슬라이스", "냉동 새우"};
+
+    @Param({"100000", "1000000"})
+    private int products;
+
+    private ProductSearchIndex index;
+    private String[] names;
+    private int cursor;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class IndexSize {
+        public long memoryBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        index = new ProductSearchIndex();
+        names = new String[products];
+
+        for (int i = 0; i < products; i++) {
+            String name = pick(random, ORIGINS) + " " + pick(random, ITEMS) + " " + pick(random, FORMS) + " " + pick(random, UNITS);
+            names[i] = name;
+            index.upsert(new SearchDocument(
+                    i + 1,
+                    1 + random.nextInt(CATEGORY_COUNT),
+                    random.nextBoolean() ? Product.Delivery.EXPRESS : Product.Delivery.NORMAL,
+                    Product.Status.NORMAL,
+                    random.nextInt(5) == 0,
+                    name,
+                    pick(random, ITEMS) + " 본연의 맛을 살린 " + pick(random, FORMS),
+                    "컬리 " + pick(random, UNITS) + " " + pick(random, ORIGINS)
+            ));
+        }
+        index.compact();
+    }
+
+    @Benchmark
+    public List<SearchHit> search(IndexSize size) {
+        size.memoryBytes = index.memoryBytes();
+        return index.search(nextQuery(), SearchFilter.NONE, LIMIT);
+    }
+
+    @Benchmark
+    public List<SearchHit> searchFiltered() {
+        return index.search(nextQuery(), new SearchFilter(7L, Product.Delivery.EXPRESS, null), LIMIT);
+    }
+
+    @Benchmark
+    public List<Long> scanNames() {
+        String keyword = nextQuery().split(" ")[0];
+        List<Long> found = new ArrayList<>(LIMIT);
+        for (int i = 0; i < names.length && found.size() < LIMIT; i++) {
+            if (names[i].contains(keyword)) {
+                found.add(i + 1L);
+            }
+        }
+        return found;
+    }
+
+    private String nextQuery() {
+        cursor = (cursor + 1) % QUERIES.length;
+        return QUERIES[cursor];
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
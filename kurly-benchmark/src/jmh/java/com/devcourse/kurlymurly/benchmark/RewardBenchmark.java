@@ -0,0 +1,58 @@
+package com.devcourse.kurlymurly.benchmark;
+
+import com.devcourse.kurlymurly.domain.user.strategy.Friends;
+import com.devcourse.kurlymurly.domain.user.strategy.Lavender;
+import com.devcourse.kurlymurly.domain.user.strategy.Purple;
+import com.devcourse.kurlymurly.domain.user.strategy.Reward;
+import com.devcourse.kurlymurly.domain.user.strategy.White;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 등급별 적립금 전략 계산 비용을 측정한다.
+ * 실제 요청처럼 여러 등급이 섞여 호출되는 경우(megamorphic)와 한 등급만 호출되는 경우를 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RewardBenchmark {
+    private static final int SIZE = 1024;
+
+    private Reward[] mixedRewards;
+    private Reward singleReward;
+    private int[] prices;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Reward[] strategies = {new Friends(), new White(), new Lavender(), new Purple()};
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        mixedRewards = new Reward[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            mixedRewards[i] = strategies[random.nextInt(strategies.length)];
+        }
+        singleReward = new Friends();
+        prices = random.ints(SIZE, 1_000, 500_000).toArray();
+    }
+
+    @Benchmark
+    public int mixedGrades() {
+        int index = cursor++ & (SIZE - 1);
+        return mixedRewards[index].saveReward(prices[index]);
+    }
+
+    @Benchmark
+    public int singleGrade() {
+        int index = cursor++ & (SIZE - 1);
+        return singleReward.saveReward(prices[index]);
+    }
+}
@@ -0,0 +1,66 @@
+package com.devcourse.kurlymurly.benchmark;
+
+import com.devcourse.kurlymurly.web.common.KurlyPagingRequest;
+import com.devcourse.kurlymurly.web.common.KurlyResponse;
+import com.devcourse.kurlymurly.web.product.ProductResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 페이지 요청 변환과 공통 응답(KurlyResponse) JSON 직렬화 비용을 측정한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WebSupportBenchmark {
+    @Param({"1", "20", "100"})
+    private int productCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private KurlyPagingRequest pagingRequest;
+    private KurlyResponse<List<ProductResponse.GetSimple>> productsResponse;
+    private KurlyResponse<Void> noDataResponse;
+
+    @Setup
+    public void setUp() {
+        pagingRequest = new KurlyPagingRequest(3, Sort.Direction.ASC);
+
+        List<ProductResponse.GetSimple> products = IntStream.range(0, productCount)
+                .mapToObj(i -> new ProductResponse.GetSimple(
+                        "https://image.kurly.com/" + i, "MORNING", "상품" + i, "신선한 상품 설명 " + i,
+                        1000 * (i + 1), (long) i, i % 2 == 0, "NORMAL"
+                ))
+                .toList();
+        productsResponse = KurlyResponse.ok(products);
+        noDataResponse = KurlyResponse.noData();
+    }
+
+    @Benchmark
+    public Pageable toPageable() {
+        return pagingRequest.toPageable();
+    }
+
+    @Benchmark
+    public String serializeProducts() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(productsResponse);
+    }
+
+    @Benchmark
+    public String serializeNoData() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(noDataResponse);
+    }
+}
@@ -0,0 +1,118 @@
+package com.devcourse.kurlymurly.application.order;
+
+import com.devcourse.kurlymurly.auth.AuthService;
+import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
+import com.devcourse.kurlymurly.domain.order.Order;
+import com.devcourse.kurlymurly.domain.order.OrderLine;
+import com.devcourse.kurlymurly.domain.product.Product;
+import com.devcourse.kurlymurly.domain.service.OrderService;
+import com.devcourse.kurlymurly.domain.service.ProductQuery;
+import com.devcourse.kurlymurly.domain.service.StockCommand;
+import com.devcourse.kurlymurly.domain.user.User;
+import com.devcourse.kurlymurly.web.order.CreateOrder;
+import com.devcourse.kurlymurly.web.order.CreateOrderLine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.ORDER_AMOUNT_OVERFLOW;
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.ORDER_REJECTED;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * 주문과 재고를 한 트랜잭션으로 묶는다. 주문이 실패하면 잡아 둔 재고도 함께 되돌아간다.
+ * 주문 상품의 이름, 이미지, 가격은 요청 값을 믿지 않고 상품에서 다시 읽어 만든다.
+ */
+@Component
+public class OrderFacade {
+    private static final Logger log = LoggerFactory.getLogger(OrderFacade.class);
+    private static final int MAX_ORDER_ATTEMPTS = 3;
+
+    private final OrderService orderService;
+    private final ProductQuery productQuery;
+    private final StockCommand stockCommand;
+    private final AuthService authService;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderFacade(
+            OrderService orderService,
+            ProductQuery productQuery,
+            StockCommand stockCommand,
+            AuthService authService,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.orderService = orderService;
+        this.productQuery = productQuery;
+        this.stockCommand = stockCommand;
+        this.authService = authService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 재고 칸 잠금이 다른 주문과 엇갈려 DB 가 이 트랜잭션을 되돌리면 새 트랜잭션으로 다시 주문한다.
+    // 다시 할 때는 다른 칸을 고르므로 같은 충돌이 이어지기 어렵다.
+    public CreateOrder.Response createOrder(User user, CreateOrder.Request request) {
+        authService.validatePayPassword(user.getId(), request.payPassword());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> order(user, request));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt == MAX_ORDER_ATTEMPTS) {
+                    throw new KurlyBaseException(ORDER_REJECTED, e);
+                }
+                log.info("order attempt {} lost a stock lock, retrying : {}", attempt, e.getMessage());
+            }
+        }
+    }
+
+    // 주문 상품 수와 상관없이 상품 조회 한 번, 재고 배치 한 번, 주문 저장(주문 + 주문 상품 배치)으로 끝난다.
+    private CreateOrder.Response order(User user, CreateOrder.Request request) {
+        Map<Long, Integer> quantities = request.orderItems().stream()
+                .collect(toMap(CreateOrderLine.Request::productId, CreateOrderLine.Request::quantity, Integer::sum));
+        Map<Long, Product> products = productQuery.getOrderableProducts(quantities.keySet());
+        stockCommand.reserve(quantities);
+
+        List<OrderLine> orderLines = request.orderItems().stream()
+                .map(item -> toOrderLine(products.get(item.productId()), item.quantity()))
+                .toList();
+        return orderService.createOrder(user.getId(), orderLines, request);
+    }
+
+    private OrderLine toOrderLine(Product product, int quantity) {
+        return new OrderLine(product.getId(), product.getName(), product.getImageUrl(), linePrice(product, quantity), quantity);
+    }
+
+    // int 를 넘는 금액은 음수로 돌아가 결제 금액을 틀리게 만들므로 받지 않는다.
+    private int linePrice(Product product, int quantity) {
+        try {
+            return Math.multiplyExact(product.getPrice(), quantity);
+        } catch (ArithmeticException e) {
+            throw new KurlyBaseException(ORDER_AMOUNT_OVERFLOW, e);
+        }
+    }
+
+    @Transactional
+    public void cancelByUser(Long orderId, Long userId) {
+        Order order = orderService.toCancelByUser(orderId, userId);
+        releaseStock(order);
+    }
+
+    @Transactional
+    public void cancelOrder(Long orderId) {
+        Order order = orderService.cancelOrder(orderId);
+        releaseStock(order);
+    }
+
+    private void releaseStock(Order order) {
+        Map<Long, Integer> quantities = order.getOrderLines().stream()
+                .collect(toMap(OrderLine::getProductId, OrderLine::getQuantity, Integer::sum));
+        stockCommand.release(quantities);
+    }
+}
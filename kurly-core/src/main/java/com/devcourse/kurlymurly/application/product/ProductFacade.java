@@ -1,15 +1,18 @@
 package com.devcourse.kurlymurly.application.product;
 
 import com.devcourse.kurlymurly.application.image.ImageUploader;
+import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
 import com.devcourse.kurlymurly.domain.product.Product;
 import com.devcourse.kurlymurly.domain.product.ProductDomain;
 import com.devcourse.kurlymurly.domain.product.SupportDomain;
 import com.devcourse.kurlymurly.domain.product.review.Review;
 import com.devcourse.kurlymurly.domain.service.OrderService;
+import com.devcourse.kurlymurly.domain.service.ProductAutocomplete;
 import com.devcourse.kurlymurly.domain.service.ProductCommand;
 import com.devcourse.kurlymurly.domain.service.ProductQuery;
 import com.devcourse.kurlymurly.domain.service.ReviewCommand;
 import com.devcourse.kurlymurly.domain.service.ReviewQuery;
+import com.devcourse.kurlymurly.web.common.KurlyCursorSlice;
 import com.devcourse.kurlymurly.web.common.KurlyPagingRequest;
 import com.devcourse.kurlymurly.web.product.FavoriteResponse;
 import com.devcourse.kurlymurly.web.product.ProductRequest;
@@ -18,39 +21,54 @@ import com.devcourse.kurlymurly.web.product.ReviewRequest;
 import com.devcourse.kurlymurly.web.product.ReviewResponse;
 import com.devcourse.kurlymurly.web.product.SupportRequest;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.IMAGE_UPLOAD_FAIL;
 
 @Component
 public class ProductFacade {
     private final ProductQuery productQuery;
     private final ProductCommand productCommand;
+    private final ProductAutocomplete productAutocomplete;
     private final ReviewQuery reviewQuery;
     private final ReviewCommand reviewCommand;
     private final OrderService orderService;
     private final ProductMapper productMapper;
     private final ImageUploader imageUploader;
+    private final Duration uploadWaitTimeout;
 
     public ProductFacade(
             ProductQuery productQuery,
             ProductCommand productCommand,
+            ProductAutocomplete productAutocomplete,
             ReviewQuery reviewQuery,
             ReviewCommand reviewCommand,
             OrderService orderService,
             ProductMapper productMapper,
-            ImageUploader imageUploader
+            ImageUploader imageUploader,
+            @Value("${kurly.image.upload.wait-timeout:PT35S}") Duration uploadWaitTimeout
     ) {
         this.productQuery = productQuery;
         this.productCommand = productCommand;
+        this.productAutocomplete = productAutocomplete;
         this.reviewQuery = reviewQuery;
         this.reviewCommand = reviewCommand;
         this.orderService = orderService;
         this.productMapper = productMapper;
         this.imageUploader = imageUploader;
+        this.uploadWaitTimeout = uploadWaitTimeout;
     }
 
     public List<FavoriteResponse.Get> getUserFavorites(Long userId) {
@@ -76,6 +94,33 @@ public class ProductFacade {
         return productQuery.getBestProductPageResponse(request.toPageable());
     }
 
+    public Page<ProductResponse.GetSimple> loadBestProductPageResponseOfCategory(
+            Long categoryId,
+            @Valid KurlyPagingRequest request
+    ) {
+        return productQuery.getBestProductPageResponse(categoryId, request.toPageable());
+    }
+
+    public KurlyCursorSlice<ProductResponse.GetSimple> loadProductSliceResponse(Long categoryId, String cursor) {
+        return productQuery.getProductsSliceOfCategory(categoryId, cursor);
+    }
+
+    public KurlyCursorSlice<ProductResponse.GetSimple> loadNewProductSliceResponse(String cursor) {
+        return productQuery.getNewProductSlice(cursor);
+    }
+
+    public KurlyCursorSlice<ProductResponse.GetSimple> loadBestProductSliceResponse(String cursor) {
+        return productQuery.getBestProductSlice(cursor);
+    }
+
+    public List<ProductResponse.GetSimple> searchProducts(@Valid ProductRequest.Search request) {
+        return productQuery.searchProducts(request.keyword(), productMapper.toSearchFilter(request));
+    }
+
+    public List<ProductResponse.Suggestion> autocomplete(String keyword) {
+        return productAutocomplete.suggest(keyword);
+    }
+
     public Slice<ReviewResponse.OfProduct> loadReviewsOfProduct(
             Long productId,
             @Valid ReviewRequest.OfProduct request
@@ -83,18 +128,21 @@ public class ProductFacade {
         return reviewQuery.getReviewsOfProduct(productId, request.start());
     }
 
-    public List<ReviewResponse.Reviewed> loadReviewsOfUser(Long userId) {
-        return reviewQuery.getAllReviewsOfUser(userId);
+    public Slice<ReviewResponse.Reviewed> loadReviewsOfUser(Long userId, Long start) {
+        return reviewQuery.getReviewsOfUser(userId, start);
     }
 
+    /**
+     * 이미지 업로드가 끝날 때까지 기다린 뒤 요청 스레드에서 상품을 저장한다.
+     * 업로드가 실패하거나 대기 시간을 넘기면 상품을 만들지 않고 예외를 던진다.
+     */
     public void createProduct(
             MultipartFile image,
             @Valid ProductRequest.Create request
     ) {
         ProductDomain productDomain = productMapper.toProductDomain(request);
-        imageUploader.upload(image).thenAccept(imageUrl ->
-                productCommand.create(request.categoryId(), imageUrl, productDomain)
-        );
+        String imageUrl = awaitUpload(imageUploader.upload(image));
+        productCommand.create(request.categoryId(), imageUrl, productDomain);
     }
 
     public void createProductSupport(
@@ -148,7 +196,11 @@ public class ProductFacade {
     }
 
     public void likeReview(Long userId, Long reviewId) {
-        reviewCommand.likeReview(userId, reviewId);
+        try {
+            reviewCommand.likeReview(userId, reviewId);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 첫 좋아요가 동시에 들어와 다른 요청이 먼저 저장했다. 이미 좋아요한 상태와 같다.
+        }
     }
 
     public void cancelReviewLike(Long userId, Long reviewId) {
@@ -159,4 +211,22 @@ public class ProductFacade {
         Review review = reviewQuery.findReviewByIdOrThrow(id);
         return productMapper.toReviewedResponse(review);
     }
+
+    // 업로드 대기열에서 기다린 시간은 업로더의 마감에 포함되지 않으므로 여기서 한 번 더 제한한다.
+    private String awaitUpload(CompletableFuture<String> upload) {
+        try {
+            return upload.get(uploadWaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof KurlyBaseException kurlyBaseException) {
+                throw kurlyBaseException;
+            }
+            throw new KurlyBaseException(IMAGE_UPLOAD_FAIL, e.getCause());
+        } catch (TimeoutException e) {
+            upload.cancel(true);
+            throw new KurlyBaseException(IMAGE_UPLOAD_FAIL, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KurlyBaseException(IMAGE_UPLOAD_FAIL, e);
+        }
+    }
 }
@@ -1,8 +1,10 @@
 package com.devcourse.kurlymurly.application.product;
 
+import com.devcourse.kurlymurly.domain.product.Product;
 import com.devcourse.kurlymurly.domain.product.ProductDomain;
 import com.devcourse.kurlymurly.domain.product.SupportDomain;
 import com.devcourse.kurlymurly.domain.product.review.Review;
+import com.devcourse.kurlymurly.domain.product.search.SearchFilter;
 import com.devcourse.kurlymurly.web.product.ProductRequest;
 import com.devcourse.kurlymurly.web.product.ReviewResponse;
 import com.devcourse.kurlymurly.web.product.SupportRequest;
@@ -27,6 +29,11 @@ public class ProductMapper {
         );
     }
 
+    public SearchFilter toSearchFilter(ProductRequest.Search request) {
+        Product.Delivery delivery = request.delivery() == null ? null : Product.Delivery.valueOf(request.delivery());
+        return new SearchFilter(request.categoryId(), delivery, request.kurlyOnly());
+    }
+
     public SupportDomain toSupportDomain(SupportRequest request) {
         return new SupportDomain(request.title(), request.content(), request.isSecret());
     }
@@ -132,6 +132,6 @@ public class UserFacade {
     public void changeItemQuantity(Long cartId, boolean isIncrease) {
         Cart cart = userQuery.getCart(cartId);
 
-        cart.updateQuantity(isIncrease);
+        userCommand.updateQuantity(cart, isIncrease);
     }
 }
@@ -0,0 +1,65 @@
+package com.devcourse.kurlymurly.global.metrics;
+
+import com.devcourse.kurlymurly.data.metrics.StatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나에서 실행된 SQL 개수를 엔드포인트(컨트롤러 메서드)별 분포로 기록한다.
+ * 인증 필터에서 실행되는 SQL 까지 세기 위해 시큐리티 필터보다 먼저 실행한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class StatementCountFilter extends OncePerRequestFilter {
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final MeterRegistry registry;
+
+    public StatementCountFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            filterChain.doFilter(request, response);
+            record(request, scope.count());
+        }
+    }
+
+    private void record(HttpServletRequest request, long statements) {
+        DistributionSummary.builder("kurly.http.statements")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uriOf(request))
+                .tag("handler", handlerOf(request))
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(statements);
+    }
+
+    private String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN : pattern.toString();
+    }
+
+    private String handlerOf(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,9 @@
+package com.devcourse.kurlymurly;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+@EnableJpaAuditing
+@SpringBootApplication
+public class KurlyMurlyTestSupport {
+}
@@ -0,0 +1,163 @@
+package com.devcourse.kurlymurly.application.order;
+
+import com.devcourse.kurlymurly.auth.AuthService;
+import com.devcourse.kurlymurly.common.exception.ErrorCode;
+import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
+import com.devcourse.kurlymurly.data.metrics.MaxQueries;
+import com.devcourse.kurlymurly.data.metrics.QueryBudget;
+import com.devcourse.kurlymurly.data.metrics.StatementMetricsConfig;
+import com.devcourse.kurlymurly.domain.order.OrderRepository;
+import com.devcourse.kurlymurly.domain.order.SnowflakeOrderNumberGenerator;
+import com.devcourse.kurlymurly.domain.product.Product;
+import com.devcourse.kurlymurly.domain.product.ProductDetail;
+import com.devcourse.kurlymurly.domain.product.ProductRepository;
+import com.devcourse.kurlymurly.domain.product.best.BestProductRanker;
+import com.devcourse.kurlymurly.domain.product.stock.StockBucketRepository;
+import com.devcourse.kurlymurly.domain.service.BestProducts;
+import com.devcourse.kurlymurly.domain.service.CategoryQuery;
+import com.devcourse.kurlymurly.domain.service.OrderService;
+import com.devcourse.kurlymurly.domain.service.ProductCommand;
+import com.devcourse.kurlymurly.domain.service.ProductPageCache;
+import com.devcourse.kurlymurly.domain.service.ProductQuery;
+import com.devcourse.kurlymurly.domain.service.ProductSearch;
+import com.devcourse.kurlymurly.domain.service.StockCommand;
+import com.devcourse.kurlymurly.domain.user.User;
+import com.devcourse.kurlymurly.web.order.CreateOrder;
+import com.devcourse.kurlymurly.web.order.CreateOrderLine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.devcourse.kurlymurly.domain.product.Product.Delivery.EXPRESS;
+import static com.devcourse.kurlymurly.domain.product.ProductDetail.StorageType.FROZEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 주문 생성은 주문 상품 수와 상관없이 상품 조회, 재고 배치, 주문 저장, 주문 상품 배치 저장으로 끝나야 한다.
+ * 주문 id 를 미리 받아 두도록 측정 전에 주문을 한 번 만들어 둔다.
+ */
+@DataJpaTest(properties = {
+        "kurly.order.node-id=0",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OrderFacade.class, OrderService.class, SnowflakeOrderNumberGenerator.class, ProductQuery.class, ProductCommand.class,
+        CategoryQuery.class, StockCommand.class, ProductPageCache.class, ProductSearch.class, BestProducts.class,
+        BestProductRanker.class, StatementMetricsConfig.class})
+class OrderFacadeStatementBudgetTest {
+    private static final Long USER_ID = 1L;
+    private static final int PRODUCT_COUNT = 100;
+    private static final int PRICE = 4_900;
+    private static final int STOCK = 1_000;
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private StockCommand stockCommand;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockBucketRepository stockBucketRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AuthService authService;
+
+    private final User user = mock(User.class);
+    private List<Product> products;
+
+    @BeforeEach
+    void init() {
+        given(user.getId()).willReturn(USER_ID);
+        products = productRepository.saveAll(IntStream.range(0, PRODUCT_COUNT)
+                .mapToObj(i -> new Product(1L, "냉동 만두 " + i, "한 봉지", PRICE, EXPRESS, "image-" + i,
+                        new ProductDetail("컬리", FROZEN, "1봉", "1kg", "국산", "-밀 함유", "수령일 포함 180일"), false))
+                .toList());
+        products.forEach(product -> stockCommand.addStock(product.getId(), STOCK));
+
+        orderFacade.createOrder(user, request(1, 1));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM order_lines");
+        orderRepository.deleteAllInBatch();
+        stockBucketRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest(name = "주문 상품 {0}개")
+    @ValueSource(ints = {1, 10, 100})
+    @MaxQueries(4)
+    @DisplayName("주문 생성은 주문 상품 수와 관계없이 같은 수의 쿼리로 끝나고, 가격과 상품 정보는 서버에서 다시 계산해야 한다.")
+    void createOrder(int lines, QueryBudget budget) throws Throwable {
+        // given
+        int quantity = 2;
+
+        // when
+        CreateOrder.Response response = budget.measure(() -> orderFacade.createOrder(user, request(lines, quantity)));
+
+        // then
+        assertThat(response.totalPrice()).isEqualTo(PRICE * quantity * lines);
+
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT product_name FROM order_lines ol JOIN orders o ON o.id = ol.order_id WHERE o.order_number = ? ORDER BY ol.line_index",
+                String.class, response.orderNumber());
+        assertThat(names).hasSize(lines).containsExactlyElementsOf(products.subList(0, lines).stream()
+                .map(Product::getName)
+                .toList());
+        assertThat(stockCommand.getStock(products.get(0).getId())).isEqualTo(STOCK - 1 - quantity);
+    }
+
+    @Test
+    @DisplayName("주문할 수 없는 상품이 하나라도 있으면 주문도 재고도 남기지 않아야 한다.")
+    void createOrder_Fail_ByInorderableProduct() {
+        // given
+        Product soldOut = products.get(PRODUCT_COUNT - 1);
+        soldOut.soldOut();
+        productRepository.save(soldOut);
+        long orders = orderRepository.count();
+
+        // when
+        KurlyBaseException exception = assertThrows(KurlyBaseException.class,
+                () -> orderFacade.createOrder(user, request(PRODUCT_COUNT, 1)));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INORDERABLE_PRODUCT);
+        assertThat(orderRepository.count()).isEqualTo(orders);
+        assertThat(stockCommand.getStock(products.get(1).getId())).isEqualTo(STOCK);
+    }
+
+    private CreateOrder.Request request(int lines, int quantity) {
+        List<CreateOrderLine.Request> items = products.subList(0, lines).stream()
+                .map(product -> new CreateOrderLine.Request(product.getId(), quantity))
+                .toList();
+        return new CreateOrder.Request(items, "컬리페이", "123456", "받는 사람", "010-0000-0000", "집", "문 앞",
+                "공동현관 비밀번호", "종이 포장재");
+    }
+}
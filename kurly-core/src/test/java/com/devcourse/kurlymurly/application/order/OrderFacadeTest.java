@@ -0,0 +1,239 @@
+package com.devcourse.kurlymurly.application.order;
+
+import com.devcourse.kurlymurly.auth.AuthService;
+import com.devcourse.kurlymurly.common.exception.ErrorCode;
+import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
+import com.devcourse.kurlymurly.domain.order.Order;
+import com.devcourse.kurlymurly.domain.order.OrderRepository;
+import com.devcourse.kurlymurly.domain.order.SnowflakeOrderNumberGenerator;
+import com.devcourse.kurlymurly.domain.product.Product;
+import com.devcourse.kurlymurly.domain.product.ProductDetail;
+import com.devcourse.kurlymurly.domain.product.ProductRepository;
+import com.devcourse.kurlymurly.domain.product.best.BestProductRanker;
+import com.devcourse.kurlymurly.domain.product.stock.StockBucketRepository;
+import com.devcourse.kurlymurly.domain.service.BestProducts;
+import com.devcourse.kurlymurly.domain.service.CategoryQuery;
+import com.devcourse.kurlymurly.domain.service.OrderService;
+import com.devcourse.kurlymurly.domain.service.ProductCommand;
+import com.devcourse.kurlymurly.domain.service.ProductPageCache;
+import com.devcourse.kurlymurly.domain.service.ProductQuery;
+import com.devcourse.kurlymurly.domain.service.ProductSearch;
+import com.devcourse.kurlymurly.domain.service.StockCommand;
+import com.devcourse.kurlymurly.domain.user.User;
+import com.devcourse.kurlymurly.web.order.CreateOrder;
+import com.devcourse.kurlymurly.web.order.CreateOrderLine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.devcourse.kurlymurly.domain.product.Product.Delivery.EXPRESS;
+import static com.devcourse.kurlymurly.domain.product.Product.Status.NORMAL;
+import static com.devcourse.kurlymurly.domain.product.Product.Status.SOLD_OUT;
+import static com.devcourse.kurlymurly.domain.product.ProductDetail.StorageType.FROZEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@DataJpaTest(properties = "kurly.order.node-id=0")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OrderFacade.class, OrderService.class, SnowflakeOrderNumberGenerator.class, ProductQuery.class, ProductCommand.class,
+        CategoryQuery.class, StockCommand.class, ProductPageCache.class, ProductSearch.class, BestProducts.class,
+        BestProductRanker.class})
+class OrderFacadeTest {
+    private static final Long USER_ID = 1L;
+    private static final int STOCK = 2;
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @SpyBean
+    private StockCommand stockCommand;
+
+    @Autowired
+    private ProductCommand productCommand;
+
+    @Autowired
+    private ProductQuery productQuery;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockBucketRepository stockBucketRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AuthService authService;
+
+    private final User user = mock(User.class);
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        given(user.getId()).willReturn(USER_ID);
+        productId = productRepository.save(new Product(1L, "냉동 만두", "한 봉지", 4_900, EXPRESS, "image",
+                new ProductDetail("컬리", FROZEN, "1봉", "1kg", "국산", "-밀 함유", "수령일 포함 180일"), false)).getId();
+        stockCommand.addStock(productId, STOCK);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM order_lines");
+        orderRepository.deleteAllInBatch();
+        stockBucketRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("재고를 모두 주문해 품절된 상품은 주문을 취소하면 재고가 돌아오고 다시 판매 상태가 되어야 한다.")
+    void cancelByUser_ReleasesStockAndReopens() {
+        // given
+        Long orderId = order(STOCK);
+        assertThat(productQuery.findProductByIdOrThrow(productId).getStatus()).isEqualTo(SOLD_OUT);
+
+        // when
+        orderFacade.cancelByUser(orderId, USER_ID);
+
+        // then
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(Order.Status.CANCELED);
+        assertThat(stockCommand.getStock(productId)).isEqualTo(STOCK);
+        assertThat(productQuery.findProductByIdOrThrow(productId).getStatus()).isEqualTo(NORMAL);
+    }
+
+    @Test
+    @DisplayName("재고가 남아 있는데 관리자가 품절시킨 상품은 주문을 취소해도 품절 상태로 남아야 한다.")
+    void cancelOrder_KeepsManualSoldOut() {
+        // given
+        Long orderId = order(1);
+        productCommand.soldOutProduct(productId);
+
+        // when
+        orderFacade.cancelOrder(orderId);
+
+        // then
+        assertThat(stockCommand.getStock(productId)).isEqualTo(STOCK);
+        assertThat(productQuery.findProductByIdOrThrow(productId).getStatus()).isEqualTo(SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("같은 주문을 동시에 여러 번 취소해도 한 번만 취소되고 재고는 한 번만 돌아와야 한다.")
+    void cancelByUser_ReleasesOnce_UnderConcurrency() throws Exception {
+        // given
+        Long orderId = order(1);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                await(start);
+                try {
+                    orderFacade.cancelByUser(orderId, USER_ID);
+                    succeeded.incrementAndGet();
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        // then
+        assertThat(succeeded.get()).isOne();
+        assertThat(failures).hasSize(threads - 1)
+                .allSatisfy(e -> assertThat(e).isInstanceOf(KurlyBaseException.class)
+                        .extracting("errorCode").isEqualTo(ErrorCode.CANCELED_ORDER));
+        then(stockCommand).should(times(1)).release(any());
+        assertThat(stockCommand.getStock(productId)).isEqualTo(STOCK);
+    }
+
+    @Test
+    @DisplayName("재고 잠금 충돌로 트랜잭션이 되돌아가면 새 트랜잭션으로 다시 주문해야 한다.")
+    void createOrder_RetryOnLockFailure() {
+        // given
+        willThrow(new CannotAcquireLockException("deadlock"))
+                .willCallRealMethod()
+                .given(stockCommand).reserve(any());
+
+        // when
+        order(1);
+
+        // then
+        then(stockCommand).should(times(2)).reserve(any());
+        assertThat(stockCommand.getStock(productId)).isEqualTo(STOCK - 1);
+        assertThat(orderRepository.findAllByUserId(USER_ID)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("주문 금액이 int 범위를 넘으면 음수 금액으로 주문하지 않고 재고도 잡지 않아야 한다.")
+    void createOrder_Fail_ByAmountOverflow() {
+        // given
+        Long expensive = productRepository.save(new Product(1L, "한우 선물 세트", "한 상자", Integer.MAX_VALUE / 2 + 1, EXPRESS,
+                "image", new ProductDetail("컬리", FROZEN, "1상자", "10kg", "국산", "-", "수령일 포함 30일"), false)).getId();
+        stockCommand.addStock(expensive, STOCK);
+        CreateOrder.Request request = new CreateOrder.Request(List.of(new CreateOrderLine.Request(expensive, 2)), "컬리페이",
+                "123456", "받는 사람", "010-0000-0000", "집", "문 앞", "공동현관 비밀번호", "종이 포장재");
+
+        // when
+        KurlyBaseException exception = assertThrows(KurlyBaseException.class, () -> orderFacade.createOrder(user, request));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ORDER_AMOUNT_OVERFLOW);
+        assertThat(stockCommand.getStock(expensive)).isEqualTo(STOCK);
+        assertThat(orderRepository.findAllByUserId(USER_ID)).isEmpty();
+    }
+
+    private Long order(int quantity) {
+        List<CreateOrderLine.Request> items = List.of(new CreateOrderLine.Request(productId, quantity));
+        CreateOrder.Response response = orderFacade.createOrder(user, new CreateOrder.Request(items, "컬리페이", "123456",
+                "받는 사람", "010-0000-0000", "집", "문 앞", "공동현관 비밀번호", "종이 포장재"));
+
+        return orderRepository.findAllByUserId(USER_ID).stream()
+                .filter(order -> order.getOrderNumber().equals(response.orderNumber()))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.devcourse.kurlymurly.application.product;
+
+import com.devcourse.kurlymurly.application.image.ImageUploader;
+import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
+import com.devcourse.kurlymurly.domain.product.ProductDomain;
+import com.devcourse.kurlymurly.domain.service.OrderService;
+import com.devcourse.kurlymurly.domain.service.ProductAutocomplete;
+import com.devcourse.kurlymurly.domain.service.ProductCommand;
+import com.devcourse.kurlymurly.domain.service.ProductQuery;
+import com.devcourse.kurlymurly.domain.service.ReviewCommand;
+import com.devcourse.kurlymurly.domain.service.ReviewQuery;
+import com.devcourse.kurlymurly.web.product.ProductRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.IMAGE_UPLOAD_FAIL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ProductFacadeTest {
+    private static final String IMAGE_URL = "https://image.kurly.com/la-gogi.png";
+
+    @Mock
+    private ProductQuery productQuery;
+
+    @Mock
+    private ProductCommand productCommand;
+
+    @Mock
+    private ProductAutocomplete productAutocomplete;
+
+    @Mock
+    private ReviewQuery reviewQuery;
+
+    @Mock
+    private ReviewCommand reviewCommand;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ImageUploader imageUploader;
+
+    private final ProductMapper productMapper = new ProductMapper();
+    private final MockMultipartFile image = new MockMultipartFile("image", "la-gogi.png", "image/png", new byte[]{1});
+    private final ProductRequest.Create request = new ProductRequest.Create(1L, "LA 갈비", "맛있는 갈비", 43_000,
+            "EXPRESS", "컬리", "FROZEN", "1팩", "1kg", "미국산", "소고기", "냉동 3개월", true);
+
+    private ProductFacade productFacade;
+
+    @BeforeEach
+    void setUp() {
+        productFacade = new ProductFacade(productQuery, productCommand, productAutocomplete, reviewQuery,
+                reviewCommand, orderService, productMapper, imageUploader, Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("이미지 업로드가 끝나면 요청 스레드에서 상품을 저장한다")
+    void createProduct() {
+        // given
+        AtomicReference<Thread> savedOn = new AtomicReference<>();
+        given(imageUploader.upload(image)).willReturn(CompletableFuture.supplyAsync(() -> IMAGE_URL));
+        willAnswer(invocation -> {
+            savedOn.set(Thread.currentThread());
+            return null;
+        }).given(productCommand).create(any(), any(), any());
+
+        // when
+        productFacade.createProduct(image, request);
+
+        // then
+        then(productCommand).should().create(any(), any(), any(ProductDomain.class));
+        assertThat(savedOn.get()).isEqualTo(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("이미지 업로드가 실패하면 상품을 만들지 않고 예외를 던진다")
+    void createProduct_Fail_ByUploadFailure() {
+        // given
+        given(imageUploader.upload(image)).willReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+        // when, then
+        assertThatExceptionOfType(KurlyBaseException.class)
+                .isThrownBy(() -> productFacade.createProduct(image, request))
+                .satisfies(e -> assertThat(e.getErrorCode()).isEqualTo(IMAGE_UPLOAD_FAIL));
+        then(productCommand).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("이미지 업로드가 대기 시간을 넘기면 상품을 만들지 않고 예외를 던진다")
+    void createProduct_Fail_ByUploadTimeout() {
+        // given
+        given(imageUploader.upload(image)).willReturn(new CompletableFuture<>());
+
+        // when, then
+        assertThatExceptionOfType(KurlyBaseException.class)
+                .isThrownBy(() -> productFacade.createProduct(image, request))
+                .satisfies(e -> assertThat(e.getErrorCode()).isEqualTo(IMAGE_UPLOAD_FAIL));
+        then(productCommand).shouldHaveNoInteractions();
+    }
+}
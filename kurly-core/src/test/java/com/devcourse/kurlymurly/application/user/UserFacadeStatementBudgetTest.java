@@ -0,0 +1,151 @@
+package com.devcourse.kurlymurly.application.user;
+
+import com.devcourse.kurlymurly.auth.AuthService;
+import com.devcourse.kurlymurly.data.metrics.MaxQueries;
+import com.devcourse.kurlymurly.data.metrics.QueryBudget;
+import com.devcourse.kurlymurly.data.metrics.StatementMetricsConfig;
+import com.devcourse.kurlymurly.domain.product.Product;
+import com.devcourse.kurlymurly.domain.product.ProductDetail;
+import com.devcourse.kurlymurly.domain.product.ProductRepository;
+import com.devcourse.kurlymurly.domain.product.best.BestProductRanker;
+import com.devcourse.kurlymurly.domain.service.BestProducts;
+import com.devcourse.kurlymurly.domain.service.OrderService;
+import com.devcourse.kurlymurly.domain.service.ProductPageCache;
+import com.devcourse.kurlymurly.domain.service.ProductQuery;
+import com.devcourse.kurlymurly.domain.service.ProductSearch;
+import com.devcourse.kurlymurly.domain.service.UserCommand;
+import com.devcourse.kurlymurly.domain.service.UserQuery;
+import com.devcourse.kurlymurly.domain.user.cart.Cart;
+import com.devcourse.kurlymurly.domain.user.cart.CartRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.devcourse.kurlymurly.domain.product.Product.Delivery.EXPRESS;
+import static com.devcourse.kurlymurly.domain.product.ProductDetail.StorageType.FROZEN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영과 같은 조건에서 세기 위해 테스트 트랜잭션 없이, 요청 동안 EntityManager 를 열어 두는 OSIV 상태로 실행한다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({UserFacade.class, UserQuery.class, UserCommand.class, UserMapper.class, ProductQuery.class,
+        ProductPageCache.class, ProductSearch.class, BestProducts.class, BestProductRanker.class, StatementMetricsConfig.class})
+class UserFacadeStatementBudgetTest {
+    private static final Long USER_ID = 1L;
+    private static final int CART_COUNT = 20;
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private OrderService orderService;
+
+    private Product product;
+    private List<Cart> carts;
+
+    @BeforeEach
+    void init() {
+        product = productRepository.save(new Product(1L, "[고기반찬] 양념 LA 갈비 800g", "100g당 가격 4,363원", 34_900,
+                EXPRESS, "", new ProductDetail("컬리", FROZEN, "1개", "800g", "상품설명/상세정보 참조", "-쇠고기, 대두, 밀 함유",
+                "수령일 포함 165일"), true));
+        carts = cartRepository.saveAll(IntStream.range(0, CART_COUNT)
+                .mapToObj(i -> new Cart(USER_ID, product.getId(), 2))
+                .toList());
+
+        TransactionSynchronizationManager.bindResource(entityManagerFactory,
+                new EntityManagerHolder(entityManagerFactory.createEntityManager()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+        holder.getEntityManager().close();
+
+        cartRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @MaxQueries(2)
+    @DisplayName("장바구니 담기는 상품 확인과 저장 쿼리만 실행해야 한다.")
+    void addCart(QueryBudget budget) throws Throwable {
+        // when
+        budget.measure(() -> userFacade.addCart(USER_ID, product.getId(), 1));
+
+        // then
+        assertThat(cartRepository.count()).isEqualTo(CART_COUNT + 1);
+    }
+
+    @Test
+    @MaxQueries(2)
+    @DisplayName("장바구니 상품 하나를 빼면 조회와 삭제 쿼리만 실행해야 한다.")
+    void removeCartItem(QueryBudget budget) throws Throwable {
+        // when
+        budget.measure(() -> userFacade.removeCartItem(carts.get(0).getId()));
+
+        // then
+        assertThat(cartRepository.existsById(carts.get(0).getId())).isFalse();
+    }
+
+    @Test
+    @MaxQueries(2)
+    @DisplayName("장바구니 상품 여러 개를 빼도 조회 한 번, 삭제 한 번으로 끝나야 한다.")
+    void removeCartItemList(QueryBudget budget) throws Throwable {
+        // given
+        List<Long> cartIds = carts.stream()
+                .map(Cart::getId)
+                .toList();
+
+        // when
+        budget.measure(() -> userFacade.removeCartItemList(cartIds));
+
+        // then
+        assertThat(cartRepository.count()).isZero();
+    }
+
+    @Test
+    @MaxQueries(2)
+    @DisplayName("장바구니 수량 변경은 조회와 수정 쿼리만 실행하고 변경된 수량이 저장되어야 한다.")
+    void changeItemQuantity(QueryBudget budget) throws Throwable {
+        // given
+        Long cartId = carts.get(0).getId();
+
+        // when
+        budget.measure(() -> userFacade.changeItemQuantity(cartId, true));
+
+        // then
+        Integer quantity = jdbcTemplate.queryForObject("SELECT quantity FROM carts WHERE id = ?", Integer.class, cartId);
+        assertThat(quantity).isEqualTo(3);
+    }
+}
@@ -4,9 +4,11 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,8 +20,25 @@ import static com.fasterxml.jackson.annotation.JsonFormat.Shape.STRING;
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
+    static final String ID_GENERATOR = "kurly_id";
+    static final String ID_TABLE = "id_sequences";
+    static final int ID_ALLOCATION_SIZE = 100;
+
+    // IDENTITY 는 INSERT 를 한 건씩 바로 실행해야 해서 JDBC 배치가 꺼진다.
+    // 테이블마다 id_sequences 의 한 행에서 100개씩 미리 받아 두고(pooled-lo) 메모리에서 나눠 준다.
+    // 컬럼의 AUTO_INCREMENT 는 이 구간을 모르므로 id 없이 직접 INSERT 하면 이후 JPA INSERT 와 id 가 겹친다.
+    // JPA 밖에서 넣는 행은 IdSequences.reserve 로 id 를 받거나, 넣은 뒤 id_sequences 를 당겨야 한다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ID_GENERATOR)
+    @GenericGenerator(name = ID_GENERATOR, type = TableGenerator.class, parameters = {
+            @Parameter(name = TableGenerator.TABLE_PARAM, value = ID_TABLE),
+            @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = "sequence_name"),
+            @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = "next_val"),
+            @Parameter(name = TableGenerator.CONFIG_PREFER_SEGMENT_PER_ENTITY, value = "true"),
+            @Parameter(name = TableGenerator.INITIAL_PARAM, value = "1"),
+            @Parameter(name = TableGenerator.INCREMENT_PARAM, value = "" + ID_ALLOCATION_SIZE),
+            @Parameter(name = TableGenerator.OPT_PARAM, value = "pooled-lo")
+    })
     private Long id;
 
     @CreatedDate
@@ -0,0 +1,66 @@
+package com.devcourse.kurlymurly.data;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 엔티티 id 를 발급하는 id_sequences 를 JPA 밖의 INSERT 와 맞춘다.
+ * 애플리케이션이 떠 있는 동안 SQL 로 직접 넣는 행은 {@link #reserve} 로 id 를 받아야 한다.
+ * 시작할 때는 그 전에 들어온 행(시드 SQL 등)보다 뒤에서 발급되도록 모든 시퀀스를 당겨 둔다.
+ */
+@Component
+public class IdSequences implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(IdSequences.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequences(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        synchronize();
+    }
+
+    /** id_sequences 가 테이블의 최대 id 이하이면 그 다음 값으로 당긴다. 당긴 시퀀스 수를 돌려준다. */
+    public int synchronize() {
+        List<String> tables = jdbcTemplate.queryForList("SELECT sequence_name FROM " + BaseEntity.ID_TABLE, String.class);
+
+        int advanced = 0;
+        for (String table : tables) {
+            Long next = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+            if (advance(table, next)) {
+                log.warn("id sequence of {} was behind its rows, advanced to {}", table, next);
+                advanced++;
+            }
+        }
+        return advanced;
+    }
+
+    /** table 에 직접 넣을 행의 id 를 count 개 받아서 첫 id 를 돌려준다. Hibernate 가 미리 받아 둔 구간과 겹치지 않는다. */
+    @Transactional
+    public long reserve(String table, int count) {
+        int updated = jdbcTemplate.update("UPDATE " + BaseEntity.ID_TABLE + " SET next_val = next_val + ? WHERE sequence_name = ?",
+                count, table);
+        if (updated == 0) {
+            throw new IllegalArgumentException("no id sequence for table : " + table);
+        }
+
+        Long next = jdbcTemplate.queryForObject("SELECT next_val FROM " + BaseEntity.ID_TABLE + " WHERE sequence_name = ?",
+                Long.class, table);
+        return next - count;
+    }
+
+    private boolean advance(String table, long next) {
+        return jdbcTemplate.update("UPDATE " + BaseEntity.ID_TABLE + " SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                next, table, next) == 1;
+    }
+}
@@ -0,0 +1,103 @@
+package com.devcourse.kurlymurly.data.generator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 여러 행을 하나의 INSERT ... VALUES (...), (...) 문으로 묶어서 넣는다.
+ * 묶음 하나를 실행할 때마다 커밋해서 트랜잭션이 커지지 않도록 한다.
+ */
+final class BulkInserter implements AutoCloseable {
+    private final Connection connection;
+    private final String table;
+    private final List<String> columns;
+    private final int rowsPerStatement;
+    private final List<Object[]> buffer;
+    private PreparedStatement fullStatement;
+    private long inserted;
+
+    BulkInserter(Connection connection, String table, List<String> columns, int rowsPerStatement) {
+        this.connection = connection;
+        this.table = table;
+        this.columns = columns;
+        this.rowsPerStatement = rowsPerStatement;
+        this.buffer = new ArrayList<>(rowsPerStatement);
+    }
+
+    void add(Object... values) throws SQLException {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException(table + " expects " + columns.size() + " values but got " + values.length);
+        }
+
+        buffer.add(values);
+        if (buffer.size() == rowsPerStatement) {
+            flush();
+        }
+    }
+
+    long inserted() {
+        return inserted;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        flush();
+        if (fullStatement != null) {
+            fullStatement.close();
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        if (buffer.size() == rowsPerStatement) {
+            if (fullStatement == null) {
+                fullStatement = connection.prepareStatement(insertSql(rowsPerStatement));
+            }
+            execute(fullStatement);
+        } else {
+            try (PreparedStatement statement = connection.prepareStatement(insertSql(buffer.size()))) {
+                execute(statement);
+            }
+        }
+
+        inserted += buffer.size();
+        buffer.clear();
+        connection.commit();
+    }
+
+    private void execute(PreparedStatement statement) throws SQLException {
+        int index = 1;
+        for (Object[] row : buffer) {
+            for (Object value : row) {
+                statement.setObject(index++, value);
+            }
+        }
+        statement.executeUpdate();
+    }
+
+    private String insertSql(int rows) {
+        StringJoiner placeholders = new StringJoiner(", ", "(", ")");
+        columns.forEach(column -> placeholders.add("?"));
+        String row = placeholders.toString();
+
+        StringBuilder sql = new StringBuilder("INSERT INTO ")
+                .append(table)
+                .append(" (")
+                .append(String.join(", ", columns))
+                .append(") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+}
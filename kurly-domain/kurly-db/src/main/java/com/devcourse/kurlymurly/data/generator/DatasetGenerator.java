@@ -0,0 +1,556 @@
+package com.devcourse.kurlymurly.data.generator;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * V1__init_schema.sql 의 모든 테이블을 참조 관계가 맞는 대용량 데이터로 채우는 CLI.
+ * 상품 인기도는 Zipf 분포, 회원 활동량은 멱법칙 분포를 따르고, 후기는 배송 완료된 주문 상품에서만 만들어진다.
+ * <pre>
+ * ./gradlew :kurly-domain:kurly-db:generateDataset \
+ *     -PdatasetArgs="--url=jdbc:mysql://localhost:3306/kurly --user=root --password=root --rows=1000000 --migrate"
+ * </pre>
+ * 대상 테이블은 비어 있어야 하며, 같은 seed 로 실행하면 같은 데이터가 만들어진다.
+ */
+public final class DatasetGenerator {
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final double PRODUCT_POPULARITY_EXPONENT = 1.0;
+    private static final double USER_ACTIVITY_EXPONENT = 0.8;
+    private static final double CATEGORY_EXPONENT = 0.5;
+    private static final double REVIEW_RATE = 0.45;
+    private static final double ORDER_SUPPORT_RATE = 0.2;
+    private static final int MAX_ORDER_LINES = 10;
+    private static final int FREE_DELIVERY_STANDARD = 40000;
+    private static final int BASIC_DELIVERY_FEE = 4000;
+    private static final int UPDATE_BATCH_SIZE = 10_000;
+    private static final String PAY_PASSWORD = "123456";
+
+    private static final List<String[]> CATEGORIES = List.of(
+            new String[]{"채소", "친환경"},
+            new String[]{"과일·견과·쌀", "친환경"},
+            new String[]{"수산·해산·건어물", "제철수산"},
+            new String[]{"정육·계란", "국내산 소고기"},
+            new String[]{"국·반찬·메인요리", "국·탕·찌개"},
+            new String[]{"샐러드·간편식", "샐러드·닭가슴살"},
+            new String[]{"면·양념·오일", "파스타·면류"},
+            new String[]{"생수·음료·우유·커피", "생수·탄산수"},
+            new String[]{"와인·위스키", "레드와인"}
+    );
+
+    private static final String ID_SEQUENCE_TABLE = "id_sequences";
+    private static final List<String> TABLES = List.of(
+            "users", "shippings", "payments", "categories", "products", "carts", "favorites", "product_supports",
+            "orders", "order_lines", "reviews", "review_likes", "order_supports"
+    );
+
+    public record Options(
+            String url,
+            String user,
+            String password,
+            long rows,
+            long seed,
+            int rowsPerStatement,
+            boolean migrate,
+            String userPassword
+    ) {
+        public static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--")) {
+                    throw new IllegalArgumentException("unknown argument : " + arg);
+                }
+                int separator = arg.indexOf('=');
+                if (separator < 0) {
+                    values.put(arg.substring(2), "true");
+                } else {
+                    values.put(arg.substring(2, separator), arg.substring(separator + 1));
+                }
+            }
+
+            return new Options(
+                    values.getOrDefault("url", "jdbc:h2:file:./build/dataset/kurly;MODE=MySQL"),
+                    values.getOrDefault("user", "sa"),
+                    values.getOrDefault("password", ""),
+                    Long.parseLong(values.getOrDefault("rows", "1000000")),
+                    Long.parseLong(values.getOrDefault("seed", "20231016")),
+                    Integer.parseInt(values.getOrDefault("rows-per-statement", "500")),
+                    Boolean.parseBoolean(values.getOrDefault("migrate", "false")),
+                    values.getOrDefault("user-password", "kurly1234")
+            );
+        }
+    }
+
+    private final Connection connection;
+    private final Options options;
+    private final DatasetScale scale;
+    private final SplittableRandom random;
+    private final LocalDateTime end;
+    private final LocalDateTime start;
+
+    private final ZipfSampler productSampler;
+    private final ZipfSampler userSampler;
+    private final long productStride;
+    private final long userStride;
+
+    private int[] productPrices;
+    private long[] productReviewCounts;
+    private long reviewLikeId;
+
+    public DatasetGenerator(Connection connection, Options options) {
+        this.connection = connection;
+        this.options = options;
+        this.scale = DatasetScale.of(options.rows());
+        this.random = new SplittableRandom(options.seed());
+        this.end = LocalDateTime.of(2023, 10, 1, 0, 0);
+        this.start = end.minusYears(2);
+
+        this.productSampler = new ZipfSampler(scale.products(), PRODUCT_POPULARITY_EXPONENT);
+        this.userSampler = new ZipfSampler(scale.users(), USER_ACTIVITY_EXPONENT);
+        this.productStride = strideFor(scale.products());
+        this.userStride = strideFor(scale.users());
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Options options = Options.parse(args);
+
+        if (options.migrate()) {
+            Flyway.configure()
+                    .dataSource(options.url(), options.user(), options.password())
+                    .locations("classpath:db/migration")
+                    .load()
+                    .migrate();
+        }
+
+        try (Connection connection = DriverManager.getConnection(options.url(), options.user(), options.password())) {
+            new DatasetGenerator(connection, options).generate();
+        }
+    }
+
+    public DatasetScale scale() {
+        return scale;
+    }
+
+    public void generate() throws SQLException {
+        validateEmpty();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        try {
+            long startedAt = System.nanoTime();
+            insertUsers();
+            insertCategories();
+            insertProducts();
+            insertCarts();
+            insertFavorites();
+            insertProductSupports();
+            insertOrders();
+            updateProductReviewCounts();
+            restartIdentities();
+            log.info("dataset generated in {}s", (System.nanoTime() - startedAt) / 1_000_000_000);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void validateEmpty() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+                    resultSet.next();
+                    if (resultSet.getLong(1) > 0) {
+                        throw new IllegalStateException(table + " is not empty, generate into an empty schema");
+                    }
+                }
+            }
+        }
+    }
+
+    // 로그인과 결제 검증이 BCrypt 로 비교하므로 평문을 넣지 않는다. 모든 회원이 같은 비밀번호라 해시는 한 번만 만든다.
+    private void insertUsers() throws SQLException {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        String encodedUserPassword = passwordEncoder.encode(options.userPassword());
+        String encodedPayPassword = passwordEncoder.encode(PAY_PASSWORD);
+
+        try (BulkInserter users = inserter("users", "id", "name", "login_id", "password", "tier", "reward", "email", "sex",
+                "birth", "pay_password", "recommender", "phone_number", "role", "status", "created_at", "updated_at");
+             BulkInserter shippings = inserter("shippings", "id", "road_address", "description", "user_id", "is_express",
+                     "receiver", "contact", "receive_area", "entrance_password", "message_alert_time", "is_default",
+                     "created_at", "updated_at");
+             BulkInserter payments = inserter("payments", "id", "user_id", "pay_info", "type", "password", "expired_date",
+                     "status", "created_at", "updated_at")) {
+            for (long id = 1; id <= scale.users(); id++) {
+                Timestamp createdAt = timestampAt(id, scale.users());
+                String name = "회원" + id;
+                String phoneNumber = String.format("010-%04d-%04d", (id / 10_000) % 10_000, id % 10_000);
+
+                users.add(id, name, "user" + id, encodedUserPassword, tier(), random.nextInt(50_000),
+                        "user" + id + "@kurly.com", random.nextBoolean() ? "MAN" : "WOMAN", birth(), encodedPayPassword, null,
+                        phoneNumber, "ROLE_USER", random.nextInt(100) < 98 ? "NORMAL" : "CANCEL", createdAt, createdAt);
+                shippings.add(id, "서울특별시 강남구 테헤란로 " + (id % 500 + 1), null, id, random.nextInt(100) < 70,
+                        name, phoneNumber, "DOOR", null, "ALWAYS", true, createdAt, createdAt);
+                payments.add(id, id, String.format("%016d", id), random.nextBoolean() ? "CREDIT" : "EASY", null,
+                        Timestamp.valueOf(end.plusYears(3)), "DEFAULT", createdAt, createdAt);
+            }
+            log.info("users {}, shippings {}, payments {}", users.inserted(), shippings.inserted(), payments.inserted());
+        }
+    }
+
+    private void insertCategories() throws SQLException {
+        try (BulkInserter categories = inserter("categories", "id", "name", "sub_category", "created_at", "updated_at")) {
+            Timestamp createdAt = Timestamp.valueOf(start);
+            for (int i = 0; i < CATEGORIES.size(); i++) {
+                categories.add((long) i + 1, CATEGORIES.get(i)[0], CATEGORIES.get(i)[1], createdAt, createdAt);
+            }
+        }
+    }
+
+    private void insertProducts() throws SQLException {
+        productPrices = new int[Math.toIntExact(scale.products() + 1)];
+        productReviewCounts = new long[Math.toIntExact(scale.products() + 1)];
+        ZipfSampler categorySampler = new ZipfSampler(CATEGORIES.size(), CATEGORY_EXPONENT);
+
+        try (BulkInserter products = inserter("products", "id", "category_id", "name", "description", "price",
+                "delivery", "image_url", "seller", "storage_type", "sale_unit", "weight", "origin", "allergy_info",
+                "expiration_information", "status", "is_kurly_only", "review_count", "created_at", "updated_at")) {
+            for (long id = 1; id <= scale.products(); id++) {
+                int price = 1_000 + 100 * (int) Math.min(2_000, (long) (-Math.log(1 - random.nextDouble()) * 150));
+                productPrices[(int) id] = price;
+                Timestamp createdAt = timestampAt(id, scale.products());
+
+                products.add(id, categorySampler.sample(random), productName(id), "신선하고 맛있는 상품 " + id, price,
+                        random.nextInt(100) < 30 ? "EXPRESS" : "NORMAL", "https://image.kurly.com/p/" + id + ".jpg",
+                        "판매자" + (id % 1_000), storageType(), "1팩", "500g", "국산", "상품 상세 참고",
+                        "수령일 포함 최소 3일", productStatus(), random.nextInt(100) < 20, 0L, createdAt, createdAt);
+            }
+            log.info("products {}", products.inserted());
+        }
+    }
+
+    private void insertCarts() throws SQLException {
+        try (BulkInserter carts = inserter("carts", "id", "user_id", "product_id", "quantity", "created_at", "updated_at")) {
+            for (long i = 1; i <= scale.carts(); i++) {
+                Timestamp createdAt = timestampAt(i, scale.carts());
+                carts.add(i, activeUser(), popularProduct(), 1 + random.nextInt(5), createdAt, createdAt);
+            }
+            log.info("carts {}", carts.inserted());
+        }
+    }
+
+    private void insertFavorites() throws SQLException {
+        try (BulkInserter favorites = inserter("favorites", "id", "user_id", "product_id", "is_deleted", "created_at", "updated_at")) {
+            for (long i = 1; i <= scale.favorites(); i++) {
+                Timestamp createdAt = timestampAt(i, scale.favorites());
+                favorites.add(i, activeUser(), popularProduct(), random.nextInt(100) < 10, createdAt, createdAt);
+            }
+            log.info("favorites {}", favorites.inserted());
+        }
+    }
+
+    private void insertProductSupports() throws SQLException {
+        try (BulkInserter supports = inserter("product_supports", "id", "user_id", "product_id", "product_name", "title",
+                "content", "is_secret", "status", "created_at", "updated_at")) {
+            for (long i = 1; i <= scale.productSupports(); i++) {
+                long productId = popularProduct();
+                Timestamp createdAt = timestampAt(i, scale.productSupports());
+                int status = random.nextInt(100);
+
+                supports.add(i, activeUser(), productId, productName(productId), "상품 문의드립니다 " + i,
+                        "보관 방법과 유통기한이 궁금합니다.", random.nextInt(100) < 10,
+                        status < 60 ? "NORMAL" : status < 95 ? "ANSWERED" : "DELETED", createdAt, createdAt);
+            }
+            log.info("product_supports {}", supports.inserted());
+        }
+    }
+
+    private void insertOrders() throws SQLException {
+        long reviewId = 0;
+        long orderSupportId = 0;
+
+        try (BulkInserter orders = inserter("orders", "id", "user_id", "order_number", "delivery_fee", "total_price",
+                "total_discount", "actual_pay_amount", "payment", "receiver", "phone_number", "address",
+                "receive_area", "entrance_info", "packaging", "delivered_at", "status", "created_at", "updated_at");
+             BulkInserter orderLines = inserter("order_lines", "order_id", "product_id", "line_index", "product_name",
+                     "image_url", "total_price", "quantity", "is_reviewed");
+             BulkInserter reviews = inserter("reviews", "id", "user_id", "product_id", "product_name", "content",
+                     "likes", "status", "is_secret", "created_at", "updated_at");
+             BulkInserter reviewLikes = inserter("review_likes", "id", "like_user_id", "review_id", "is_deleted",
+                     "created_at", "updated_at");
+             BulkInserter orderSupports = inserter("order_supports", "id", "type", "user_id", "order_id", "order_number",
+                     "title", "content", "answer_content", "status", "created_at", "updated_at")) {
+            for (long orderId = 1; orderId <= scale.orders(); orderId++) {
+                long userId = activeUser();
+                String orderNumber = String.format("%019d", orderId);
+                LocalDateTime orderedAt = dateTimeAt(orderId, scale.orders());
+                String status = orderStatus(orderedAt);
+                LocalDateTime deliveredAt = status.equals("DELIVERED") ? orderedAt.plusHours(12 + random.nextInt(36)) : null;
+
+                int lineCount = orderLineCount();
+                int totalPrice = 0;
+                for (int lineIndex = 0; lineIndex < lineCount; lineIndex++) {
+                    long productId = popularProduct();
+                    int quantity = 1 + random.nextInt(3);
+                    int linePrice = productPrices[(int) productId] * quantity;
+                    totalPrice += linePrice;
+
+                    boolean reviewed = deliveredAt != null && random.nextDouble() < REVIEW_RATE;
+                    orderLines.add(orderId, productId, lineIndex, productName(productId),
+                            "https://image.kurly.com/p/" + productId + ".jpg", linePrice, quantity, reviewed);
+
+                    if (reviewed) {
+                        reviewId++;
+                        LocalDateTime reviewedAt = deliveredAt.plusHours(1 + random.nextInt(72));
+                        String reviewStatus = reviewStatus();
+                        int likes = insertReviewLikes(reviewLikes, reviewId, userId, reviewedAt);
+                        if (reviewStatus.equals("NORMAL") || reviewStatus.equals("BEST")) {
+                            productReviewCounts[(int) productId]++;
+                        }
+
+                        reviews.add(reviewId, userId, productId, productName(productId), "맛있어요. 재구매 의사 있습니다.",
+                                likes, reviewStatus, random.nextInt(100) < 5, Timestamp.valueOf(reviewedAt),
+                                Timestamp.valueOf(reviewedAt));
+                    }
+                }
+
+                int totalDiscount = random.nextInt(100) < 20 ? totalPrice / 10 : 0;
+                Timestamp createdAt = Timestamp.valueOf(orderedAt);
+                orders.add(orderId, userId, orderNumber, totalPrice > FREE_DELIVERY_STANDARD ? 0 : BASIC_DELIVERY_FEE,
+                        totalPrice, totalDiscount, totalPrice - totalDiscount, random.nextBoolean() ? "신용카드" : "컬리페이",
+                        "회원" + userId, "010-0000-0000", "서울특별시 강남구 테헤란로 " + (userId % 500 + 1), "문 앞",
+                        "공동현관 비밀번호(****)", "종이 포장재", deliveredAt == null ? null : Timestamp.valueOf(deliveredAt), status,
+                        createdAt, createdAt);
+
+                if (random.nextDouble() < ORDER_SUPPORT_RATE) {
+                    boolean answered = random.nextInt(100) < 70;
+                    orderSupports.add(++orderSupportId, orderSupportType(), userId, orderId, orderNumber, "주문 관련 문의드립니다.",
+                            "배송 일정 확인 부탁드립니다.", answered ? "내일 도착 예정입니다." : null,
+                            answered ? "ANSWERED" : "PREPARE", createdAt, createdAt);
+                }
+            }
+
+            log.info("orders {}, order_lines {}, reviews {}, review_likes {}, order_supports {}", orders.inserted(),
+                    orderLines.inserted(), reviews.inserted(), reviewLikes.inserted(), orderSupports.inserted());
+        }
+    }
+
+    // 좋아요 수는 소수의 후기에 몰리도록 기하분포로 뽑고, 취소되지 않은 좋아요 수를 돌려준다.
+    private int insertReviewLikes(BulkInserter reviewLikes, long reviewId, long authorId, LocalDateTime reviewedAt) throws SQLException {
+        int likeCount = geometric(0.5, (int) Math.min(100, scale.users() - 1));
+        int activeLikes = 0;
+
+        for (int i = 1; i <= likeCount; i++) {
+            long likeUserId = (authorId - 1 + i * userStride) % scale.users() + 1;
+            boolean deleted = random.nextInt(100) < 10;
+            Timestamp likedAt = Timestamp.valueOf(reviewedAt.plusHours(i));
+
+            reviewLikes.add(++reviewLikeId, likeUserId, reviewId, deleted, likedAt, likedAt);
+            if (!deleted) {
+                activeLikes++;
+            }
+        }
+        return activeLikes;
+    }
+
+    private void updateProductReviewCounts() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("UPDATE products SET review_count = ? WHERE id = ?")) {
+            int pending = 0;
+            for (int productId = 1; productId < productReviewCounts.length; productId++) {
+                if (productReviewCounts[productId] == 0) {
+                    continue;
+                }
+
+                statement.setLong(1, productReviewCounts[productId]);
+                statement.setLong(2, productId);
+                statement.addBatch();
+                if (++pending == UPDATE_BATCH_SIZE) {
+                    statement.executeBatch();
+                    connection.commit();
+                    pending = 0;
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    // H2 는 id 를 직접 넣으면 identity 값이 따라오지 않으므로 다음 값을 맞춰 준다. MySQL 은 자동으로 맞춰진다.
+    // 생성한 id 다음 값부터 발급되도록 AUTO_INCREMENT(H2 만)와 id_sequences 를 함께 맞춘다.
+    private void restartIdentities() throws SQLException {
+        boolean h2 = options.url().startsWith("jdbc:h2:");
+        boolean sequenceTable = hasTable(ID_SEQUENCE_TABLE);
+
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                if (table.equals("order_lines")) {
+                    continue;
+                }
+
+                long next;
+                try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+                    resultSet.next();
+                    next = resultSet.getLong(1);
+                }
+                if (h2) {
+                    statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+                }
+                if (sequenceTable) {
+                    statement.execute("UPDATE " + ID_SEQUENCE_TABLE + " SET next_val = " + next
+                            + " WHERE sequence_name = '" + table + "' AND next_val < " + next);
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    private boolean hasTable(String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeQuery("SELECT 1 FROM " + table + " WHERE 1 = 0").close();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    // 참조 관계를 맞추기 위해 order_lines 를 제외한 모든 테이블의 id 를 직접 지정한다.
+    private BulkInserter inserter(String table, String... columns) {
+        return new BulkInserter(connection, table, List.of(columns), options.rowsPerStatement());
+    }
+
+    private long popularProduct() {
+        long rank = productSampler.sample(random);
+        return (rank - 1) * productStride % scale.products() + 1;
+    }
+
+    private long activeUser() {
+        long rank = userSampler.sample(random);
+        return (rank - 1) * userStride % scale.users() + 1;
+    }
+
+    // 인기 순위가 id(=등록 순서)와 겹치지 않도록 n 과 서로소인 보폭으로 순위를 섞는다.
+    private static long strideFor(long n) {
+        long stride = 2_654_435_761L % Math.max(n, 2);
+        while (stride <= 1 || gcd(stride, n) != 1) {
+            stride++;
+        }
+        return n == 1 ? 1 : stride % n;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private int orderLineCount() {
+        return 1 + geometric(0.5, MAX_ORDER_LINES - 1);
+    }
+
+    // 성공 확률이 p 인 시행에서 처음 성공하기 전까지의 실패 횟수 (최대 max)
+    private int geometric(double p, int max) {
+        int failures = 0;
+        while (failures < max && random.nextDouble() >= p) {
+            failures++;
+        }
+        return failures;
+    }
+
+    private String tier() {
+        int value = random.nextInt(100);
+        if (value < 50) {
+            return "FRIENDS";
+        }
+        if (value < 75) {
+            return "WHITE";
+        }
+        if (value < 90) {
+            return "LAVENDER";
+        }
+        return value < 97 ? "PURPLE" : "THE_PURPLE";
+    }
+
+    private Date birth() {
+        return Date.valueOf(LocalDate.of(1960, 1, 1).plusDays(random.nextInt(365 * 45)));
+    }
+
+    private String storageType() {
+        return switch (random.nextInt(3)) {
+            case 0 -> "FROZEN";
+            case 1 -> "REFRIGERATE";
+            default -> "ROOM_TEMPERATURE";
+        };
+    }
+
+    private String productStatus() {
+        int value = random.nextInt(100);
+        if (value < 90) {
+            return "NORMAL";
+        }
+        if (value < 95) {
+            return "SOLD_OUT";
+        }
+        return value < 98 ? "BEST" : "DELETED";
+    }
+
+    // 최근 주문일수록 아직 배송이 끝나지 않았을 가능성이 높다.
+    private String orderStatus(LocalDateTime orderedAt) {
+        int value = random.nextInt(100);
+        if (value < 8) {
+            return "CANCELED";
+        }
+        if (orderedAt.isBefore(end.minusDays(3))) {
+            return "DELIVERED";
+        }
+        return switch (value % 4) {
+            case 0 -> "ORDERED";
+            case 1 -> "PROCESSING";
+            case 2 -> "DELIVERING";
+            default -> "DELIVERED";
+        };
+    }
+
+    private String reviewStatus() {
+        int value = random.nextInt(100);
+        if (value < 90) {
+            return "NORMAL";
+        }
+        if (value < 93) {
+            return "BEST";
+        }
+        return value < 95 ? "BANNED" : "DELETED";
+    }
+
+    private String orderSupportType() {
+        String[] types = {"DELIVERY", "MISSING", "PRODUCT", "ORDER", "EVENT", "ETC"};
+        return types[random.nextInt(types.length)];
+    }
+
+    private static String productName(long productId) {
+        return "상품" + productId;
+    }
+
+    private Timestamp timestampAt(long index, long total) {
+        return Timestamp.valueOf(dateTimeAt(index, total));
+    }
+
+    // 1..total 번째 행을 기간 전체에 고르게 펼쳐서 id 순서와 생성 시각 순서를 맞춘다.
+    private LocalDateTime dateTimeAt(long index, long total) {
+        long spanSeconds = Duration.between(start, end).getSeconds();
+        return start.plusSeconds(spanSeconds * index / Math.max(total, 1));
+    }
+}
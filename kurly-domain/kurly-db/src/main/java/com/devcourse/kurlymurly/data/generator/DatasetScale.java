@@ -0,0 +1,33 @@
+package com.devcourse.kurlymurly.data.generator;
+
+/**
+ * 전체 목표 행 수를 테이블별 행 수로 나눈다.
+ * 주문 상품은 주문당 평균 2개, 후기와 후기 좋아요, 1:1 문의는 주문 생성 과정에서 확률적으로 만들어지므로
+ * 여기서는 기대값만 맞춘다. (users 5%, shippings 5%, payments 5%, products 2%, carts 5%, favorites 8%,
+ * product_supports 2%, orders 15%, order_lines ~30%, reviews ~10%, review_likes ~10%, order_supports ~3%)
+ */
+public record DatasetScale(
+        long users,
+        long products,
+        long carts,
+        long favorites,
+        long productSupports,
+        long orders
+) {
+    private static final long MIN_PRODUCTS = 10;
+
+    public static DatasetScale of(long totalRows) {
+        return new DatasetScale(
+                Math.max(1, percentOf(totalRows, 5)),
+                Math.max(MIN_PRODUCTS, percentOf(totalRows, 2)),
+                percentOf(totalRows, 5),
+                percentOf(totalRows, 8),
+                percentOf(totalRows, 2),
+                percentOf(totalRows, 15)
+        );
+    }
+
+    private static long percentOf(long totalRows, int percent) {
+        return totalRows * percent / 100;
+    }
+}
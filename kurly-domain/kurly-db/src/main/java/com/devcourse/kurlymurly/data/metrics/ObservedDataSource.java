@@ -0,0 +1,139 @@
+package com.devcourse.kurlymurly.data.metrics;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * DataSource 를 동적 프록시로 감싸서 커넥션에서 만들어진 Statement 의 실행을 StatementMetrics 에 알린다.
+ * 바인딩 값은 보관하지 않고 파라미터 위치별 타입만 기억한다.
+ */
+final class ObservedDataSource {
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch"
+    );
+
+    private ObservedDataSource() {
+    }
+
+    static DataSource wrap(DataSource dataSource, StatementMetrics metrics) {
+        if (isObserved(dataSource)) {
+            return dataSource;
+        }
+
+        Class<?>[] interfaces = dataSource instanceof Closeable
+                ? new Class<?>[]{DataSource.class, Closeable.class}
+                : new Class<?>[]{DataSource.class};
+        return (DataSource) Proxy.newProxyInstance(
+                ObservedDataSource.class.getClassLoader(), interfaces, new DataSourceHandler(dataSource, metrics));
+    }
+
+    static boolean isObserved(Object target) {
+        return Proxy.isProxyClass(target.getClass()) && Proxy.getInvocationHandler(target) instanceof DataSourceHandler;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record DataSourceHandler(DataSource target, StatementMetrics metrics) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                ((Closeable) target).close();
+                return null;
+            }
+
+            Object result = ObservedDataSource.invoke(target, method, args);
+            if (result instanceof Connection connection) {
+                return Proxy.newProxyInstance(ObservedDataSource.class.getClassLoader(),
+                        new Class<?>[]{Connection.class}, new ConnectionHandler(connection, metrics));
+            }
+            return result;
+        }
+    }
+
+    private record ConnectionHandler(Connection target, StatementMetrics metrics) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = ObservedDataSource.invoke(target, method, args);
+
+            return switch (method.getName()) {
+                case "createStatement" -> observe(Statement.class, result, null);
+                case "prepareStatement" -> observe(PreparedStatement.class, result, (String) args[0]);
+                case "prepareCall" -> observe(CallableStatement.class, result, (String) args[0]);
+                default -> result;
+            };
+        }
+
+        private Object observe(Class<?> type, Object statement, String sql) {
+            return Proxy.newProxyInstance(ObservedDataSource.class.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler((Statement) statement, sql, metrics));
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        private final StatementMetrics metrics;
+        private final TreeMap<Integer, String> parameterTypes = new TreeMap<>();
+        private String batchSql;
+
+        private StatementHandler(Statement target, String preparedSql, StatementMetrics metrics) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameterTypes.put(index, args[1] == null ? "null" : args[1].getClass().getSimpleName());
+            } else if (name.equals("clearParameters")) {
+                parameterTypes.clear();
+            } else if (name.equals("addBatch") && args != null && args.length == 1) {
+                batchSql = (String) args[0];
+            }
+
+            if (!EXECUTE_METHODS.contains(name)) {
+                return ObservedDataSource.invoke(target, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : currentSql();
+            long startedAt = System.nanoTime();
+            boolean succeeded = false;
+            try {
+                Object result = ObservedDataSource.invoke(target, method, args);
+                succeeded = true;
+                return result;
+            } finally {
+                metrics.record(sql, describeParameters(), System.nanoTime() - startedAt, succeeded);
+            }
+        }
+
+        private String currentSql() {
+            return preparedSql != null ? preparedSql : batchSql;
+        }
+
+        private String describeParameters() {
+            StringJoiner joiner = new StringJoiner(", ", "[", "]");
+            parameterTypes.forEach((index, type) -> joiner.add(index + ":" + type));
+            return joiner.toString();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.devcourse.kurlymurly.data.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 개수를 센다.
+ * 요청 단위 필터나 테스트에서 범위를 열고, 범위가 겹치면 열려 있는 모든 범위에 함께 더해진다.
+ * <pre>
+ * try (StatementCounter.Scope scope = StatementCounter.open()) {
+ *     orderService.findAllMyOrder(userId);
+ *     assertThat(scope.count()).isLessThanOrEqualTo(2);
+ * }
+ * </pre>
+ * 다른 스레드(@Async 등)에서 실행된 SQL 은 세지 않는다.
+ */
+public final class StatementCounter {
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    public static Scope open() {
+        return open(false);
+    }
+
+    /**
+     * 개수와 함께 실행된 SQL 문도 순서대로 남긴다. 예산 초과 원인을 보여줘야 하는 테스트에서 쓴다.
+     */
+    public static Scope openRecording() {
+        return open(true);
+    }
+
+    private static Scope open(boolean recording) {
+        Scope scope = new Scope(CURRENT.get(), recording);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void increment(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count++;
+            if (scope.statements != null) {
+                scope.statements.add(sql);
+            }
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final List<String> statements;
+        private long count;
+        private boolean closed;
+
+        private Scope(Scope parent, boolean recording) {
+            this.parent = parent;
+            this.statements = recording ? new ArrayList<>() : null;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public List<String> statements() {
+            return statements == null ? List.of() : Collections.unmodifiableList(statements);
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.devcourse.kurlymurly.data.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 실행 시간을 문장 종류(select, insert ...)별로 기록하고, 기준 시간을 넘은 SQL 을 로그로 남긴다.
+ * 로그에는 바인딩 값 대신 파라미터 타입만 남기고, SQL 에 직접 들어간 리터럴도 가린다.
+ */
+public class StatementMetrics implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger("kurly.slow-query");
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_LOGGED_SQL_LENGTH = 2_000;
+
+    private final long slowQueryNanos;
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder slowQueries = new LongAdder();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    public StatementMetrics(Duration slowQueryThreshold) {
+        this.slowQueryNanos = slowQueryThreshold.toNanos();
+    }
+
+    /**
+     * 스프링 밖에서 만든 DataSource(벤치마크, 도구 등)도 같은 방식으로 기록하도록 감싼다.
+     */
+    public DataSource observe(DataSource dataSource) {
+        return ObservedDataSource.wrap(dataSource, this);
+    }
+
+    public long executionCount() {
+        return executions.sum();
+    }
+
+    public long slowQueryCount() {
+        return slowQueries.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        FunctionCounter.builder("kurly.db.slow-queries", this, StatementMetrics::slowQueryCount).register(registry);
+    }
+
+    void record(String sql, String parameters, long elapsedNanos, boolean succeeded) {
+        executions.increment();
+        StatementCounter.increment(sql);
+
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry != null) {
+            timer(meterRegistry, typeOf(sql), succeeded).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        if (elapsedNanos >= slowQueryNanos) {
+            slowQueries.increment();
+            log.warn("slow query {}ms : {} params={}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), redact(sql), parameters);
+        }
+    }
+
+    static String redact(String sql) {
+        if (sql == null) {
+            return "";
+        }
+
+        String redacted = STRING_LITERAL.matcher(sql).replaceAll("?");
+        redacted = NUMBER_LITERAL.matcher(redacted).replaceAll("?");
+        redacted = WHITESPACE.matcher(redacted).replaceAll(" ").trim();
+        return redacted.length() > MAX_LOGGED_SQL_LENGTH ? redacted.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : redacted;
+    }
+
+    static String typeOf(String sql) {
+        if (sql == null) {
+            return "batch";
+        }
+
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+
+        String keyword = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "with" -> "select";
+            case "insert", "update", "delete" -> keyword;
+            default -> "other";
+        };
+    }
+
+    private Timer timer(MeterRegistry meterRegistry, String type, boolean succeeded) {
+        String outcome = succeeded ? "success" : "failure";
+        return timers.computeIfAbsent(type + ":" + outcome, key -> Timer.builder("kurly.db.statement")
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,35 @@
+package com.devcourse.kurlymurly.data.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 모든 DataSource 빈을 감싸서 SQL 실행 시간, 요청당 SQL 개수, 느린 쿼리를 기록한다.
+ * 슬라이스 테스트에서는 {@code @Import(StatementMetricsConfig.class)} 로 붙여서 StatementCounter 로 SQL 개수를 검증한다.
+ */
+@Configuration
+public class StatementMetricsConfig {
+    @Bean
+    public StatementMetrics statementMetrics(@Value("${kurly.db.slow-query-threshold:PT0.2S}") Duration slowQueryThreshold) {
+        return new StatementMetrics(slowQueryThreshold);
+    }
+
+    @Bean
+    public static BeanPostProcessor observedDataSourcePostProcessor(ObjectProvider<StatementMetrics> statementMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return statementMetrics.getObject().observe(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,6 @@
+package com.devcourse.kurlymurly.data.routing;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
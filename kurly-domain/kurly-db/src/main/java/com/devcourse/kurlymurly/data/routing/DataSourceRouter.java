@@ -0,0 +1,64 @@
+package com.devcourse.kurlymurly.data.routing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 나머지는 primary 로 보낸다.
+ * 레플리카가 지연되었거나 끊겼으면 읽기 전용이어도 primary 로 보내고 fallback 으로 센다.
+ */
+public class DataSourceRouter implements MeterBinder {
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Map<DataSourceRole, LongAdder> routed = new EnumMap<>(DataSourceRole.class);
+    private final LongAdder fallbacks = new LongAdder();
+
+    public DataSourceRouter(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        for (DataSourceRole role : DataSourceRole.values()) {
+            routed.put(role, new LongAdder());
+        }
+    }
+
+    public DataSourceRole route() {
+        DataSourceRole role = decide();
+        routed.get(role).increment();
+        return role;
+    }
+
+    public long routedCount(DataSourceRole role) {
+        return routed.get(role).sum();
+    }
+
+    public long fallbackCount() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (DataSourceRole role : DataSourceRole.values()) {
+            FunctionCounter.builder("kurly.db.routing.connections", this, router -> router.routedCount(role))
+                    .tag("pool", role.name().toLowerCase())
+                    .register(registry);
+        }
+        FunctionCounter.builder("kurly.db.routing.fallbacks", this, DataSourceRouter::fallbackCount).register(registry);
+    }
+
+    private DataSourceRole decide() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceRole.PRIMARY;
+        }
+
+        if (replicaLagMonitor.isAvailable()) {
+            return DataSourceRole.REPLICA;
+        }
+
+        fallbacks.increment();
+        return DataSourceRole.PRIMARY;
+    }
+}
@@ -0,0 +1,81 @@
+package com.devcourse.kurlymurly.data.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * kurly.datasource.replica.url 이 있으면 spring.datasource 를 primary 로, 레플리카를 읽기 전용 풀로 두고
+ * {@code @Transactional(readOnly = true)} 트랜잭션을 레플리카로 보낸다. 설정이 없으면 기본 DataSource 를 그대로 쓴다.
+ * 커넥션은 트랜잭션이 끝나면 반납되어야 하므로 hibernate.connection.handling_mode 를 HOLD 계열로 바꾸지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "kurly.datasource.replica.url")
+public class ReadWriteDataSourceConfig {
+    public record Pools(HikariDataSource primary, HikariDataSource replica) implements AutoCloseable {
+        @Override
+        public void close() {
+            replica.close();
+            primary.close();
+        }
+    }
+
+    @Bean(destroyMethod = "close")
+    public Pools dataSourcePools(
+            DataSourceProperties primaryProperties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${kurly.datasource.replica.url}") String replicaUrl,
+            @Value("${kurly.datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${kurly.datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${kurly.datasource.replica.maximum-pool-size:10}") int replicaPoolSize
+    ) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(replicaUrl);
+        replica.setUsername(replicaUsername);
+        replica.setPassword(replicaPassword);
+        replica.setDriverClassName(primaryProperties.determineDriverClassName());
+        replica.setMaximumPoolSize(replicaPoolSize);
+        replica.setReadOnly(true);
+
+        meterRegistry.ifAvailable(registry -> {
+            primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        });
+        return new Pools(primary, replica);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(
+            Pools dataSourcePools,
+            @Value("${kurly.datasource.replica.max-lag:PT5S}") Duration maxLag,
+            @Value("${kurly.datasource.replica.lag-check-interval:PT1S}") Duration checkInterval
+    ) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(dataSourcePools.replica(), ReplicaLagProbe.mysql(), maxLag);
+        monitor.check();
+        monitor.start(checkInterval);
+        return monitor;
+    }
+
+    @Bean
+    public DataSourceRouter dataSourceRouter(ReplicaLagMonitor replicaLagMonitor) {
+        return new DataSourceRouter(replicaLagMonitor);
+    }
+
+    @Bean
+    public DataSource dataSource(Pools dataSourcePools, DataSourceRouter dataSourceRouter) {
+        return ReadWriteRoutingDataSource.lazy(dataSourcePools.primary(), dataSourcePools.replica(), dataSourceRouter);
+    }
+}
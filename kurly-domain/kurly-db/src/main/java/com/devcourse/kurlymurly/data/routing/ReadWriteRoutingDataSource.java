@@ -0,0 +1,31 @@
+package com.devcourse.kurlymurly.data.routing;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 커넥션을 얻는 시점에 DataSourceRouter 가 고른 풀에서 커넥션을 꺼낸다.
+ * 트랜잭션 매니저는 읽기 전용 여부를 트랜잭션 시작 뒤에 등록하므로 {@link #lazy} 로 감싸서 첫 SQL 실행까지 커넥션 획득을 미룬다.
+ */
+class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private final DataSourceRouter router;
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSource replica, DataSourceRouter router) {
+        this.router = router;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    static DataSource lazy(DataSource primary, DataSource replica, DataSourceRouter router) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, router));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return router.route();
+    }
+}
@@ -0,0 +1,101 @@
+package com.devcourse.kurlymurly.data.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주기적으로 레플리카의 복제 지연을 확인해서, 허용치를 넘거나 연결할 수 없으면 읽기 요청을 primary 로 돌린다.
+ * 확인 전까지는 레플리카를 쓰지 않는다.
+ * 공용 스케줄러의 다른 작업(랭킹 계산 등)이 길어져도 확인이 밀리지 않도록 전용 스레드에서 돈다.
+ */
+public class ReplicaLagMonitor implements MeterBinder, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final ReplicaLagProbe probe;
+    private final Duration maxLag;
+
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource replica, ReplicaLagProbe probe, Duration maxLag) {
+        this.replica = replica;
+        this.probe = probe;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public synchronized void start(Duration interval) {
+        if (scheduler != null) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkSafely, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public void check() {
+        Duration lag = readLag();
+        lagSeconds = lag == null ? Double.NaN : lag.toMillis() / 1000.0;
+
+        boolean healthy = lag != null && lag.compareTo(maxLag) <= 0;
+        if (healthy != available) {
+            log.warn("replica {} (lag={})", healthy ? "back in rotation" : "taken out of rotation", lag);
+        }
+        available = healthy;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("kurly.db.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("kurly.db.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .register(registry);
+    }
+
+    // 예외가 빠져나가면 이후 확인이 모두 멈추므로 레플리카를 빼고 다음 주기에 다시 본다.
+    private void checkSafely() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            log.warn("replica lag check failed unexpectedly", e);
+            available = false;
+        }
+    }
+
+    private Duration readLag() {
+        try (Connection connection = replica.getConnection()) {
+            return probe.lag(connection);
+        } catch (SQLException e) {
+            log.debug("replica lag check failed", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.devcourse.kurlymurly.data.routing;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 레플리카 커넥션에서 복제 지연 시간을 읽는다. 지연을 알 수 없으면(복제 중단 등) null 을 반환한다.
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+    Duration lag(Connection connection) throws SQLException;
+
+    /**
+     * MySQL 8.0.22 이상의 SHOW REPLICA STATUS 를 읽는다. 복제 설정이 없는 단독 인스턴스는 지연이 없는 것으로 본다.
+     */
+    static ReplicaLagProbe mysql() {
+        return connection -> {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!resultSet.next()) {
+                    return Duration.ZERO;
+                }
+
+                long seconds = resultSet.getLong("Seconds_Behind_Source");
+                return resultSet.wasNull() ? null : Duration.ofSeconds(seconds);
+            }
+        };
+    }
+}
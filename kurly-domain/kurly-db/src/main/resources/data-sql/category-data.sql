@@ -8,3 +8,7 @@ VALUES ('채소', '친환경'),
        ('면·양념·오일', '파스타·면류'),
        ('생수·음료·우유·커피', '생수·탄산수'),
        ('와인·위스키', '레드와인');
+
+UPDATE id_sequences
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM categories))
+WHERE sequence_name = 'categories';
@@ -6,3 +6,7 @@ VALUES (1, 0, '230903101234', 0, 42000, 0, 42000, 'cache', '', '', '', '', '', '
        (2, 0, '231112520234', 4000, 31700, 0, 31700, 'cache', '', '', '', '', '', '', NOW(), 'PROCESSING'),
        (3, 0, '221203100414', 0, 76240, 0, 76240, 'cache', '', '', '', '', '', '', NOW(), 'DELIVERED'),
        (4, 0, '230901271852', 4000, 17200, 0, 17200, 'cache', '', '', '', '', '', '', NOW(), 'DELIVERING');
+
+UPDATE id_sequences
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM orders))
+WHERE sequence_name = 'orders';
@@ -1,2 +1,6 @@
 INSERT INTO payments(user_id,pay_info,type,status)
 VALUES (1, "123412341234", "EASY","NORMAL");
+
+UPDATE id_sequences
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM payments))
+WHERE sequence_name = 'payments';
@@ -4,4 +4,8 @@ VALUES (1, 3, 0),
        (2, 1, 0),
        (3, 4, 1),
        (5, 3, 0),
-       (6, 3, 0);
\ No newline at end of file
+       (6, 3, 0);
+
+UPDATE id_sequences
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM review_likes))
+WHERE sequence_name = 'review_likes';
@@ -2,3 +2,6 @@ INSERT INTO shippings(user_id, road_address, is_default, is_express, receiver, c
                       message_alert_time)
 VALUES (1, "서울 특별시", true, true, "none", "none", "none", "none", "none");
 
+UPDATE id_sequences
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM shippings))
+WHERE sequence_name = 'shippings';
@@ -1,3 +1,7 @@
 INSERT INTO users(name, login_id, password, tier, reward, email, sex, birth, phone_number,
                   role, status)
-VALUES ("수연장", "abd1234", "kurly1234", "PURPLE", 0, "aaaa@gmail.com","male", DATE('2022-06-11 12:34:56'), "1234-4567","ROLE_USER","NORMAL")
+VALUES ("수연장", "abd1234", "kurly1234", "PURPLE", 0, "aaaa@gmail.com","male", DATE('2022-06-11 12:34:56'), "1234-4567","ROLE_USER","NORMAL");
+
+UPDATE id_sequences
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM users))
+WHERE sequence_name = 'users';
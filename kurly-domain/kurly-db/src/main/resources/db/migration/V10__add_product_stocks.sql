@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS product_stocks
+(
+    id         BIGINT PRIMARY KEY AUTO_INCREMENT,
+    product_id BIGINT NOT NULL,
+    bucket     INT    NOT NULL,
+    quantity   INT    NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    UNIQUE (product_id, bucket),
+    FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+INSERT INTO id_sequences (sequence_name, next_val) VALUES ('product_stocks', 1);
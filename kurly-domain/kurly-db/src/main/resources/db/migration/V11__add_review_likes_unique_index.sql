@@ -0,0 +1,12 @@
+-- 유니크 키가 없던 동안 동시에 눌린 좋아요가 중복 행으로 쌓였을 수 있으므로 가장 먼저 생긴 행만 남긴다.
+DELETE FROM review_likes
+WHERE id NOT IN (
+    SELECT id FROM (
+        SELECT MIN(id) AS id FROM review_likes GROUP BY like_user_id, review_id
+    ) first_likes
+);
+
+UPDATE reviews r
+SET likes = (SELECT COUNT(*) FROM review_likes l WHERE l.review_id = r.id AND l.is_deleted = FALSE);
+
+CREATE UNIQUE INDEX uk_review_likes_user_review ON review_likes (like_user_id, review_id);
@@ -0,0 +1 @@
+CREATE INDEX idx_products_updated_at_id ON products (updated_at, id);
@@ -0,0 +1,8 @@
+-- 베스트 순위를 다시 계산할 인스턴스를 한 곳으로 정하기 위한 한 행짜리 테이블
+CREATE TABLE IF NOT EXISTS best_product_refreshes
+(
+    id           INT         NOT NULL PRIMARY KEY,
+    refreshed_at DATETIME(6) NOT NULL
+);
+
+INSERT INTO best_product_refreshes (id, refreshed_at) VALUES (1, '1970-01-01 00:00:00');
@@ -0,0 +1,7 @@
+ALTER TABLE products ADD COLUMN review_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE products p
+SET review_count = (SELECT COUNT(*)
+                    FROM reviews r
+                    WHERE r.product_id = p.id
+                      AND r.status IN ('NORMAL', 'BEST'));
@@ -0,0 +1,3 @@
+CREATE INDEX idx_products_category_created ON products (category_id, created_at, id);
+CREATE INDEX idx_products_created ON products (created_at, id);
+CREATE INDEX idx_products_status_created ON products (status, created_at, id);
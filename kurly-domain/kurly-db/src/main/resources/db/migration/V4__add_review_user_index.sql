@@ -0,0 +1 @@
+CREATE INDEX idx_reviews_user_status_id ON reviews (user_id, status, id);
@@ -0,0 +1 @@
+CREATE UNIQUE INDEX uk_users_login_id ON users (login_id);
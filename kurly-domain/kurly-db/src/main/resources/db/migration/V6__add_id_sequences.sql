@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS id_sequences
+(
+    sequence_name VARCHAR(255) PRIMARY KEY,
+    next_val      BIGINT NOT NULL
+);
+
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'users', COALESCE(MAX(id), 0) + 1 FROM users;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'shippings', COALESCE(MAX(id), 0) + 1 FROM shippings;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'payments', COALESCE(MAX(id), 0) + 1 FROM payments;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'carts', COALESCE(MAX(id), 0) + 1 FROM carts;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'categories', COALESCE(MAX(id), 0) + 1 FROM categories;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'products', COALESCE(MAX(id), 0) + 1 FROM products;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'product_supports', COALESCE(MAX(id), 0) + 1 FROM product_supports;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'favorites', COALESCE(MAX(id), 0) + 1 FROM favorites;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'reviews', COALESCE(MAX(id), 0) + 1 FROM reviews;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'review_likes', COALESCE(MAX(id), 0) + 1 FROM review_likes;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'orders', COALESCE(MAX(id), 0) + 1 FROM orders;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'order_supports', COALESCE(MAX(id), 0) + 1 FROM order_supports;
@@ -0,0 +1,11 @@
+CREATE INDEX idx_users_email ON users (email);
+CREATE INDEX idx_carts_user ON carts (user_id);
+CREATE INDEX idx_shippings_user ON shippings (user_id);
+CREATE INDEX idx_payments_user_status ON payments (user_id, status);
+CREATE INDEX idx_favorites_user_product ON favorites (user_id, product_id, is_deleted);
+CREATE INDEX idx_product_supports_user_status_id ON product_supports (user_id, status, id);
+CREATE INDEX idx_reviews_product_status_id ON reviews (product_id, status, id);
+CREATE INDEX idx_review_likes_user_review ON review_likes (like_user_id, review_id);
+CREATE INDEX idx_orders_user_status_delivered ON orders (user_id, status, delivered_at);
+CREATE INDEX idx_order_lines_order ON order_lines (order_id, line_index);
+CREATE INDEX idx_order_supports_user ON order_supports (user_id);
@@ -0,0 +1 @@
+CREATE INDEX idx_order_lines_product ON order_lines (product_id);
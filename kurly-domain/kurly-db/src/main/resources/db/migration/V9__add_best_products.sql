@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS best_products
+(
+    category_id BIGINT      NOT NULL,
+    ranking     INT         NOT NULL,
+    product_id  BIGINT      NOT NULL,
+    score       DOUBLE      NOT NULL,
+    computed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (category_id, ranking)
+);
+
+CREATE INDEX idx_orders_created ON orders (created_at);
+CREATE INDEX idx_reviews_created ON reviews (created_at);
+CREATE INDEX idx_favorites_created ON favorites (created_at);
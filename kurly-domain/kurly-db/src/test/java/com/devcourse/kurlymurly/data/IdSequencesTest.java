@@ -0,0 +1,78 @@
+package com.devcourse.kurlymurly.data;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class IdSequencesTest {
+    private static final String URL = "jdbc:h2:mem:id-sequences;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private JdbcTemplate jdbcTemplate;
+    private IdSequences idSequences;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        idSequences = new IdSequences(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("id 없이 직접 넣은 행이 있으면 시퀀스를 그 다음 값으로 당긴다")
+    void synchronize_AdvanceBehindSequence() {
+        // given
+        jdbcTemplate.update("INSERT INTO categories (name, sub_category) VALUES ('채소', '친환경'), ('과일', '제철')");
+
+        // when
+        int advanced = idSequences.synchronize();
+
+        // then
+        assertThat(advanced).isEqualTo(1);
+        assertThat(nextVal("categories")).isEqualTo(3);
+        assertThat(idSequences.synchronize()).isZero();
+    }
+
+    @Test
+    @DisplayName("직접 넣을 행의 id 를 받으면 시퀀스가 그만큼 넘어가서 다음 발급과 겹치지 않는다")
+    void reserve_Success() {
+        // given
+        long before = nextVal("reviews");
+
+        // when
+        long first = idSequences.reserve("reviews", 10);
+        long second = idSequences.reserve("reviews", 5);
+
+        // then
+        assertThat(first).isEqualTo(before);
+        assertThat(second).isEqualTo(before + 10);
+        assertThat(nextVal("reviews")).isEqualTo(before + 15);
+    }
+
+    @Test
+    @DisplayName("시퀀스가 없는 테이블의 id 는 받을 수 없다")
+    void reserve_Fail_ByUnknownTable() {
+        assertThatIllegalArgumentException().isThrownBy(() -> idSequences.reserve("order_lines", 1));
+    }
+
+    private long nextVal(String table) {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM id_sequences WHERE sequence_name = ?", Long.class, table);
+    }
+}
@@ -0,0 +1,214 @@
+package com.devcourse.kurlymurly.data.generator;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DatasetGeneratorTest {
+    private static final String URL = "jdbc:h2:mem:dataset;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final long ROWS = 5_000;
+
+    private Connection connection;
+    private DatasetGenerator.Options options;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(URL, "sa", "");
+        options = DatasetGenerator.Options.parse(new String[]{"--url=" + URL, "--rows=" + ROWS, "--rows-per-statement=100"});
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("목표 행 수에 맞춰 모든 테이블을 채운다")
+    void generate() throws SQLException {
+        // given
+        DatasetGenerator generator = new DatasetGenerator(connection, options);
+        DatasetScale scale = generator.scale();
+
+        // when
+        generator.generate();
+
+        // then
+        assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(scale.users());
+        assertThat(count("SELECT COUNT(*) FROM shippings")).isEqualTo(scale.users());
+        assertThat(count("SELECT COUNT(*) FROM payments")).isEqualTo(scale.users());
+        assertThat(count("SELECT COUNT(*) FROM products")).isEqualTo(scale.products());
+        assertThat(count("SELECT COUNT(*) FROM orders")).isEqualTo(scale.orders());
+        assertThat(count("SELECT COUNT(*) FROM categories")).isEqualTo(9);
+        assertThat(count("SELECT COUNT(*) FROM order_lines")).isGreaterThanOrEqualTo(scale.orders());
+        assertThat(count("SELECT COUNT(*) FROM reviews")).isPositive();
+        assertThat(count("SELECT COUNT(*) FROM review_likes")).isPositive();
+        assertThat(count("SELECT COUNT(*) FROM order_supports")).isPositive();
+    }
+
+    @Test
+    @DisplayName("주문 상품과 후기는 존재하는 주문, 상품, 회원만 참조한다")
+    void generate_referentialIntegrity() throws SQLException {
+        // given
+        DatasetGenerator generator = new DatasetGenerator(connection, options);
+
+        // when
+        generator.generate();
+
+        // then
+        assertThat(count("""
+                SELECT COUNT(*) FROM order_lines ol
+                LEFT JOIN orders o ON o.id = ol.order_id
+                LEFT JOIN products p ON p.id = ol.product_id
+                WHERE o.id IS NULL OR p.id IS NULL
+                """)).isZero();
+        assertThat(count("""
+                SELECT COUNT(*) FROM reviews r
+                LEFT JOIN users u ON u.id = r.user_id
+                LEFT JOIN products p ON p.id = r.product_id
+                WHERE u.id IS NULL OR p.id IS NULL
+                """)).isZero();
+        assertThat(count("""
+                SELECT COUNT(*) FROM reviews r
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM order_lines ol JOIN orders o ON o.id = ol.order_id
+                    WHERE o.user_id = r.user_id AND ol.product_id = r.product_id
+                      AND ol.is_reviewed = TRUE AND o.status = 'DELIVERED')
+                """)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM review_likes rl LEFT JOIN reviews r ON r.id = rl.review_id WHERE r.id IS NULL"))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("상품의 후기 수와 후기의 좋아요 수는 실제 행 수와 일치한다")
+    void generate_denormalizedCounts() throws SQLException {
+        // given
+        DatasetGenerator generator = new DatasetGenerator(connection, options);
+
+        // when
+        generator.generate();
+
+        // then
+        assertThat(count("""
+                SELECT COUNT(*) FROM products p
+                WHERE p.review_count <> (
+                    SELECT COUNT(*) FROM reviews r WHERE r.product_id = p.id AND r.status IN ('NORMAL', 'BEST'))
+                """)).isZero();
+        assertThat(count("""
+                SELECT COUNT(*) FROM reviews r
+                WHERE r.likes <> (
+                    SELECT COUNT(*) FROM review_likes rl WHERE rl.review_id = r.id AND rl.is_deleted = FALSE)
+                """)).isZero();
+    }
+
+    @Test
+    @DisplayName("상품 인기도는 소수의 상품에 주문이 몰리도록 치우쳐 있다")
+    void generate_skewedPopularity() throws SQLException {
+        // given
+        DatasetGenerator generator = new DatasetGenerator(connection, options);
+
+        // when
+        generator.generate();
+
+        // then
+        long totalLines = count("SELECT COUNT(*) FROM order_lines");
+        long topProductLines = count("""
+                SELECT COALESCE(SUM(cnt), 0) FROM (
+                    SELECT COUNT(*) AS cnt FROM order_lines GROUP BY product_id ORDER BY cnt DESC LIMIT 10) t
+                """);
+        long products = generator.scale().products();
+
+        assertThat((double) topProductLines / totalLines).isGreaterThan(10.0 / products * 3);
+    }
+
+    @Test
+    @DisplayName("새로 추가되는 행은 생성된 id 다음 값부터 발급된다")
+    void generate_restartIdentity() throws SQLException {
+        // given
+        DatasetGenerator generator = new DatasetGenerator(connection, options);
+        generator.generate();
+
+        // when
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO categories (name, sub_category) VALUES ('간식', '과자')");
+        }
+
+        // then
+        assertThat(count("SELECT MAX(id) FROM categories")).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("엔티티 id 를 발급하는 id_sequences 도 생성된 id 다음 값으로 맞춘다")
+    void generate_syncIdSequences() throws SQLException {
+        // given
+        DatasetGenerator generator = new DatasetGenerator(connection, options);
+
+        // when
+        generator.generate();
+
+        // then
+        assertThat(count("SELECT next_val FROM id_sequences WHERE sequence_name = 'products'"))
+                .isEqualTo(count("SELECT MAX(id) FROM products") + 1);
+        assertThat(count("SELECT next_val FROM id_sequences WHERE sequence_name = 'review_likes'"))
+                .isEqualTo(count("SELECT MAX(id) FROM review_likes") + 1);
+    }
+
+    @Test
+    @DisplayName("이미 데이터가 있는 스키마에는 생성하지 않는다")
+    void generate_notEmpty() throws SQLException {
+        // given
+        new DatasetGenerator(connection, options).generate();
+        DatasetGenerator generator = new DatasetGenerator(connection, options);
+
+        // when, then
+        assertThrows(IllegalStateException.class, generator::generate);
+    }
+
+    @Test
+    @DisplayName("회원 비밀번호와 결제 비밀번호는 평문이 아닌 BCrypt 해시로 넣는다")
+    void generate_encodedPasswords() throws SQLException {
+        // given
+        DatasetGenerator generator = new DatasetGenerator(connection, options);
+
+        // when
+        generator.generate();
+
+        // then
+        assertThat(count("SELECT COUNT(*) FROM users WHERE password = '" + options.userPassword() + "'")).isZero();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT password, pay_password FROM users WHERE id = 1")) {
+            resultSet.next();
+            BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+            assertThat(passwordEncoder.matches(options.userPassword(), resultSet.getString(1))).isTrue();
+            assertThat(passwordEncoder.matches("123456", resultSet.getString(2))).isTrue();
+        }
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.devcourse.kurlymurly.data.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ObservedDataSourceTest {
+    private SimpleMeterRegistry registry;
+    private StatementMetrics metrics;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        registry = new SimpleMeterRegistry();
+        metrics = new StatementMetrics(Duration.ofSeconds(10));
+        metrics.bindTo(registry);
+        dataSource = ObservedDataSource.wrap(
+                new DriverManagerDataSource("jdbc:h2:mem:observed;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""), metrics);
+
+        execute("CREATE TABLE items (id BIGINT PRIMARY KEY, name VARCHAR(20))");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("범위 안에서 실행된 SQL 개수를 센다")
+    void count() throws SQLException {
+        // given
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            // when
+            insert(1L, "사과");
+            insert(2L, "배");
+            execute("SELECT * FROM items");
+
+            // then
+            assertThat(scope.count()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("겹쳐 열린 범위는 각자 자신이 열린 뒤의 SQL 만 센다")
+    void count_nested() throws SQLException {
+        // given
+        try (StatementCounter.Scope outer = StatementCounter.open()) {
+            insert(1L, "사과");
+
+            // when
+            try (StatementCounter.Scope inner = StatementCounter.open()) {
+                insert(2L, "배");
+                assertThat(inner.count()).isEqualTo(1);
+            }
+            execute("SELECT * FROM items");
+
+            // then
+            assertThat(outer.count()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("SQL 실행 시간을 문장 종류와 결과별로 기록한다")
+    void record() throws SQLException {
+        // given
+        insert(1L, "사과");
+
+        // when
+        execute("SELECT * FROM items");
+        assertThrows(SQLException.class, () -> execute("SELECT * FROM not_exists"));
+
+        // then
+        assertThat(registry.get("kurly.db.statement").tags("type", "insert", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("kurly.db.statement").tags("type", "select", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("kurly.db.statement").tags("type", "select", "outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기준 시간을 넘은 SQL 을 느린 쿼리로 센다")
+    void record_slowQuery() throws SQLException {
+        // given
+        metrics = new StatementMetrics(Duration.ZERO);
+        dataSource = ObservedDataSource.wrap(
+                new DriverManagerDataSource("jdbc:h2:mem:observed;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""), metrics);
+
+        // when
+        insert(1L, "사과");
+
+        // then
+        assertThat(metrics.slowQueryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 쿼리 로그에는 SQL 에 직접 들어간 값을 남기지 않는다")
+    void redact() {
+        // given
+        String sql = "SELECT * FROM users WHERE login_id = 'kurly' AND reward > 1000 AND t1_0.id = ?";
+
+        // when
+        String redacted = StatementMetrics.redact(sql);
+
+        // then
+        assertThat(redacted).isEqualTo("SELECT * FROM users WHERE login_id = ? AND reward > ? AND t1_0.id = ?");
+    }
+
+    @Test
+    @DisplayName("이미 감싼 DataSource 는 다시 감싸지 않는다")
+    void wrap_once() {
+        // when
+        DataSource wrapped = ObservedDataSource.wrap(dataSource, metrics);
+
+        // then
+        assertThat(wrapped).isSameAs(dataSource);
+    }
+
+    private void insert(Long id, String name) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("INSERT INTO items (id, name) VALUES (?, ?)")) {
+            statement.setLong(1, id);
+            statement.setString(2, name);
+            statement.executeUpdate();
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.devcourse.kurlymurly.data.routing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    private final AtomicReference<Duration> replicaLag = new AtomicReference<>(Duration.ZERO);
+    private final AtomicBoolean replicaDown = new AtomicBoolean();
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private ReplicaLagMonitor monitor;
+    private DataSourceRouter router;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        monitor = new ReplicaLagMonitor(replica, connection -> {
+            if (replicaDown.get()) {
+                throw new SQLException("replica down");
+            }
+            return replicaLag.get();
+        }, MAX_LAG);
+        router = new DataSourceRouter(monitor);
+
+        DataSource dataSource = ReadWriteRoutingDataSource.lazy(primary, replica, router);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        createNodes(primary, "primary");
+        createNodes(replica, "replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카에서, 쓰기 트랜잭션은 primary 에서 실행한다")
+    void route() {
+        // given
+        monitor.check();
+
+        // when
+        String read = readOnlyTransaction.execute(status -> currentNode());
+        String written = writeTransaction.execute(status -> {
+            jdbcTemplate.update("INSERT INTO nodes VALUES ('written')");
+            return currentNode();
+        });
+
+        // then
+        assertThat(read).isEqualTo("replica");
+        assertThat(written).isEqualTo("primary");
+        assertThat(new JdbcTemplate(primary).queryForObject("SELECT COUNT(*) FROM nodes", Long.class)).isEqualTo(2);
+        assertThat(router.routedCount(DataSourceRole.REPLICA)).isEqualTo(1);
+        assertThat(router.fallbackCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("레플리카 복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 primary 로 보낸다")
+    void route_lagging() {
+        // given
+        replicaLag.set(MAX_LAG.plusSeconds(1));
+        monitor.check();
+
+        // when
+        String read = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(read).isEqualTo("primary");
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(router.fallbackCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("레플리카에 연결할 수 없으면 primary 로 보내고, 회복되면 다시 레플리카를 쓴다")
+    void route_recovered() {
+        // given
+        replicaDown.set(true);
+        monitor.check();
+
+        // when
+        String beforeRecovery = readOnlyTransaction.execute(status -> currentNode());
+        replicaDown.set(false);
+        monitor.check();
+        String afterRecovery = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(beforeRecovery).isEqualTo("primary");
+        assertThat(afterRecovery).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("지연 확인은 공용 스케줄러 없이 전용 스레드에서 주기적으로 돈다")
+    void start_ChecksOnOwnThread() throws InterruptedException {
+        // given
+        monitor.start(Duration.ofMillis(20));
+
+        try {
+            // when
+            boolean cameUp = awaitAvailable(true);
+            replicaDown.set(true);
+            boolean wentDown = awaitAvailable(false);
+
+            // then
+            assertThat(cameUp).isTrue();
+            assertThat(wentDown).isTrue();
+        } finally {
+            monitor.close();
+        }
+    }
+
+    @Test
+    @DisplayName("풀별 라우팅 횟수와 복제 지연을 지표로 남긴다")
+    void bindTo() {
+        // given
+        MeterRegistry registry = new SimpleMeterRegistry();
+        router.bindTo(registry);
+        monitor.bindTo(registry);
+        replicaLag.set(Duration.ofMillis(1500));
+        monitor.check();
+
+        // when
+        readOnlyTransaction.execute(status -> currentNode());
+        writeTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(registry.get("kurly.db.routing.connections").tag("pool", "replica").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("kurly.db.routing.connections").tag("pool", "primary").functionCounter().count())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(registry.get("kurly.db.replica.lag").gauge().value()).isEqualTo(1.5);
+        assertThat(registry.get("kurly.db.replica.available").gauge().value()).isEqualTo(1);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM nodes ORDER BY name LIMIT 1", String.class);
+    }
+
+    private void createNodes(DataSource dataSource, String name) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE nodes (name VARCHAR(20))");
+        template.update("INSERT INTO nodes VALUES (?)", name);
+    }
+
+    private DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private boolean awaitAvailable(boolean expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (monitor.isAvailable() != expected) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+package com.devcourse.kurlymurly.data;
+
+import com.devcourse.kurlymurly.data.generator.DatasetGenerator;
+import com.devcourse.kurlymurly.data.metrics.StatementCounter;
+import org.junit.jupiter.api.function.Executable;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * 리포지토리 메서드가 실제로 실행한 SQL 의 실행 계획을 H2 에서 확인한다.
+ * SQL 은 {@code @Import(StatementMetricsConfig.class)} 로 감싼 DataSource 에서 기록하고, 바인딩 없이 그대로 EXPLAIN 한다.
+ * <pre>
+ * IndexUsage.generateDataset(dataSource, 50_000);
+ * IndexUsage.assertNoTableScan(dataSource, () -> userRepository.findByLoginId("user10"));
+ * </pre>
+ */
+public final class IndexUsage {
+    private static final String TABLE_SCAN = ".tablescan";
+
+    private IndexUsage() {
+    }
+
+    /** Flyway 로 만든 빈 스키마를 합성 데이터로 채우고 통계를 갱신한다. */
+    public static void generateDataset(DataSource dataSource, long rows) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String url = connection.getMetaData().getURL();
+            DatasetGenerator.Options options = DatasetGenerator.Options.parse(new String[]{"--url=" + url, "--rows=" + rows});
+            new DatasetGenerator(connection, options).generate();
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+        }
+    }
+
+    /** call 이 실행한 SELECT 를 모두 EXPLAIN 해서 전체 테이블 스캔이 하나라도 있으면 실패한다. */
+    public static void assertNoTableScan(DataSource dataSource, Executable call) throws Throwable {
+        List<String> selects;
+        try (StatementCounter.Scope scope = StatementCounter.openRecording()) {
+            call.execute();
+            selects = scope.statements().stream()
+                    .map(String::strip)
+                    .filter(sql -> sql.regionMatches(true, 0, "select", 0, 6))
+                    .toList();
+        }
+
+        assertFalse(selects.isEmpty(), "no SELECT statement was executed");
+        for (String sql : selects) {
+            String plan = explain(dataSource, sql);
+            assertFalse(plan.toLowerCase(Locale.ROOT).contains(TABLE_SCAN), () -> sql + "\n" + plan);
+        }
+    }
+
+    private static String explain(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.devcourse.kurlymurly.data.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 실행되는 SQL 개수의 상한을 정한다. (@BeforeEach 는 세지 않는다)
+ * {@link QueryBudget} 파라미터로 블록을 지정하면 그 블록만 센다.
+ * 상한을 넘으면 실행된 SQL 목록과 함께 실패한다. StatementMetricsConfig 가 등록된 컨텍스트에서만 SQL 이 세어진다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MaxQueriesExtension.class)
+public @interface MaxQueries {
+    int value();
+}
@@ -0,0 +1,65 @@
+package com.devcourse.kurlymurly.data.metrics;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.List;
+
+public class MaxQueriesExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback, ParameterResolver {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(MaxQueriesExtension.class);
+    private static final String SCOPE = "scope";
+    private static final String BUDGET = "budget";
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == QueryBudget.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return extensionContext.getStore(NAMESPACE).getOrComputeIfAbsent(BUDGET, key -> new QueryBudget(), QueryBudget.class);
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(SCOPE, StatementCounter.openRecording());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        StatementCounter.Scope scope = store.remove(SCOPE, StatementCounter.Scope.class);
+        QueryBudget budget = store.remove(BUDGET, QueryBudget.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+
+        // 테스트가 이미 실패했다면 원래 실패 원인을 가리지 않는다.
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        int max = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxQueries.class)
+                .map(MaxQueries::value)
+                .orElseThrow();
+        boolean blockOnly = budget != null && budget.isMeasured();
+        long count = blockOnly ? budget.count() : scope.count();
+        if (count > max) {
+            throw new AssertionError(failureMessage(max, count, blockOnly ? budget.statements() : scope.statements()));
+        }
+    }
+
+    private String failureMessage(int max, long count, List<String> statements) {
+        StringBuilder message = new StringBuilder()
+                .append("expected at most ").append(max).append(" statements but ").append(count).append(" were executed");
+        for (int i = 0; i < statements.size(); i++) {
+            message.append(System.lineSeparator()).append(i + 1).append(". ").append(statements.get(i));
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,60 @@
+package com.devcourse.kurlymurly.data.metrics;
+
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link MaxQueries} 테스트에서 given, then 단계의 조회를 빼고 특정 블록의 SQL 만 세고 싶을 때 파라미터로 받아서 쓴다.
+ * <pre>
+ * &#64;Test
+ * &#64;MaxQueries(2)
+ * void addCart(QueryBudget budget) {
+ *     budget.measure(() -> userFacade.addCart(userId, productId, 1));
+ *     assertThat(cartRepository.count()).isEqualTo(1);
+ * }
+ * </pre>
+ * 한 번이라도 measure 를 호출하면 측정한 블록의 합계만 예산과 비교한다.
+ */
+public final class QueryBudget {
+    private final List<String> statements = new ArrayList<>();
+    private long count;
+    private boolean measured;
+
+    QueryBudget() {
+    }
+
+    public void measure(Executable block) throws Throwable {
+        measure(() -> {
+            block.execute();
+            return null;
+        });
+    }
+
+    public <T> T measure(ThrowingSupplier<T> block) throws Throwable {
+        measured = true;
+        try (StatementCounter.Scope scope = StatementCounter.openRecording()) {
+            try {
+                return block.get();
+            } finally {
+                count += scope.count();
+                statements.addAll(scope.statements());
+            }
+        }
+    }
+
+    boolean isMeasured() {
+        return measured;
+    }
+
+    long count() {
+        return count;
+    }
+
+    List<String> statements() {
+        return Collections.unmodifiableList(statements);
+    }
+}
@@ -21,11 +21,9 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Random;
 
 import static com.devcourse.kurlymurly.common.exception.ErrorCode.INVALID_ORDER_LINE_INDEX;
 import static com.devcourse.kurlymurly.common.exception.ErrorCode.NOT_OWNER;
@@ -33,10 +31,6 @@ import static com.devcourse.kurlymurly.common.exception.ErrorCode.NOT_OWNER;
 @Entity
 @Table(name = "orders")
 public class Order extends BaseEntity {
-    private static final DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyMMddss");
-    private static final Random random = new Random();
-    private static final int RANDOM_BOUND = 10000;
-
     public enum Status { // 주문 완료, 출고 중, 배달 중, 배달 완료, 취소
         ORDERED, PROCESSING, DELIVERING, DELIVERED, CANCELED;
 
@@ -81,10 +75,10 @@ public class Order extends BaseEntity {
     protected Order() {
     }
 
-    Order(Long userId, List<OrderLine> orderLines, PaymentInfo paymentInfo, ShippingInfo shippingInfo,
+    Order(Long userId, String orderNumber, List<OrderLine> orderLines, PaymentInfo paymentInfo, ShippingInfo shippingInfo,
                  LocalDateTime deliveredAt, Status status, OrderState orderState) {
         this.userId = userId;
-        this.orderNumber = generateOrderNumber();
+        this.orderNumber = orderNumber;
         this.orderLines = orderLines;
         this.paymentInfo = paymentInfo;
         this.shippingInfo = shippingInfo;
@@ -93,20 +87,24 @@ public class Order extends BaseEntity {
         this.orderState = orderState;
     }
 
-    public Order(Long userId, List<OrderLine> orderLines, PaymentInfo paymentInfo, ShippingInfo shippingInfo) {
-        this(userId, orderLines, paymentInfo, shippingInfo, null, Status.ORDERED, new Ordered());
+    public Order(Long userId, String orderNumber, List<OrderLine> orderLines, PaymentInfo paymentInfo, ShippingInfo shippingInfo) {
+        this(userId, orderNumber, orderLines, paymentInfo, shippingInfo, null, Status.ORDERED, new Ordered());
     }
 
     public void nextState() {
-        if (orderState == null) {
-            this.orderState = status.generateState();
-        }
-
-        this.orderState = orderState.nextState(this);
+        this.orderState = currentState().nextState(this);
     }
 
     public void cancel() {
-        this.orderState = orderState.cancel(this);
+        this.orderState = currentState().cancel(this);
+    }
+
+    // DB 에서 읽은 주문은 상태 객체가 없으므로 저장된 상태로 만든다.
+    private OrderState currentState() {
+        if (orderState == null) {
+            this.orderState = status.generateState();
+        }
+        return orderState;
     }
 
     public void updateStatus(Order.Status status) {
@@ -118,13 +116,6 @@ public class Order extends BaseEntity {
         this.deliveredAt = LocalDateTime.now();
     }
 
-    private String generateOrderNumber() {
-        String currentDate = LocalDateTime.now().format(dateFormat);
-        int randomDigits = random.nextInt(RANDOM_BOUND);
-
-        return currentDate + randomDigits;
-    }
-
     public List<OrderLine> getOrderLines() {
         return orderLines;
     }
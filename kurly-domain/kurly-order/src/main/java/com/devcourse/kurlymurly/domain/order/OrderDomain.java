@@ -44,9 +44,10 @@ public class OrderDomain {
         orderStatus = Order.Status.ORDERED;
     }
 
-    public Order toEntity(Long userId) {
+    public Order toEntity(Long userId, String orderNumber) {
         return new Order(
                 userId,
+                orderNumber,
                 orderItems,
                 new PaymentInfo(
                         totalPrice,
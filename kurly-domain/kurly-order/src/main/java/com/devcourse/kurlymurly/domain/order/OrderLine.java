@@ -35,10 +35,22 @@ public class OrderLine {
         this.isReviewed = false;
     }
 
+    public Long getProductId() {
+        return productId;
+    }
+
     public String getProductName() {
         return productName;
     }
 
+    public int getTotalPrice() {
+        return totalPrice;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
     public void reviewed() {
         this.isReviewed = true;
     }
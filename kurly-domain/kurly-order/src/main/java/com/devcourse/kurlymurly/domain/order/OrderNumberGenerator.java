@@ -0,0 +1,8 @@
+package com.devcourse.kurlymurly.domain.order;
+
+/**
+ * 주문 번호 생성 전략, 시간 순으로 정렬되고 서로 겹치지 않는 고정 길이 문자열을 만든다.
+ */
+public interface OrderNumberGenerator {
+    String generate();
+}
@@ -1,6 +1,12 @@
 package com.devcourse.kurlymurly.domain.order;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -8,5 +14,26 @@ import java.util.Optional;
 public interface OrderRepository extends JpaRepository<Order, Long>, CustomOrderRepository {
     List<Order> findAllByUserId(Long userId);
 
-    Optional<Order> findByIdAndUserId(Long id, Long userId);
+    // 취소는 재고를 되돌리므로 같은 주문을 동시에 취소하면 뒤의 요청이 먼저 끝난 취소를 보도록 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id AND o.userId = :userId")
+    Optional<Order> findByIdAndUserIdForUpdate(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("""
+            SELECT NEW com.devcourse.kurlymurly.domain.order.OrderSummary(
+                o.id, ol.productName, SIZE(o.orderLines), o.orderNumber,
+                o.paymentInfo.payment, o.paymentInfo.actualPayAmount, o.status, o.createAt
+            )
+            FROM Order o
+            JOIN o.orderLines ol
+            WHERE o.userId = :userId
+            AND INDEX(ol) = 0
+            AND o.id < :startId
+            ORDER BY o.id DESC
+            """)
+    Slice<OrderSummary> findSummariesByUserIdFromStart(@Param("userId") Long userId, @Param("startId") Long startId, Pageable pageable);
 }
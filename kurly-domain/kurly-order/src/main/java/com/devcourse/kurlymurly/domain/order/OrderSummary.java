@@ -0,0 +1,21 @@
+package com.devcourse.kurlymurly.domain.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내역 목록에 필요한 값만 담은 조회 전용 객체, 주문 상품은 첫 번째 이름과 개수만 가진다.
+ */
+public record OrderSummary(
+        Long orderId,
+        String firstLineName,
+        int lineCount,
+        String orderNumber,
+        String payment,
+        int actualPayAmount,
+        Order.Status status,
+        LocalDateTime createdAt
+) {
+    public String summarizeOrderLines() {
+        return lineCount != 1 ? String.format("%s 외 %d건", firstLineName, lineCount - 1) : firstLineName;
+    }
+}
@@ -0,0 +1,66 @@
+package com.devcourse.kurlymurly.domain.order;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 41bit 타임스탬프(ms) + 10bit 노드 id + 12bit 순번으로 만든 19자리 주문 번호.
+ * 마지막 (타임스탬프, 순번)을 하나의 AtomicLong 에 담아 CAS 로만 갱신한다.
+ * 같은 ms 안에서 순번이 넘치거나 시계가 뒤로 가면 기다리지 않고 다음 ms 를 미리 당겨 쓴다.
+ * <p>
+ * 노드 id(kurly.order.node-id)는 주문을 만드는 인스턴스마다 달라야 하므로 기본값 없이 반드시 설정해야 한다.
+ * 같은 노드 id 를 쓰는 인스턴스가 둘이면 같은 주문 번호를 만들어 order_number 의 UNIQUE 제약에 걸린다.
+ */
+@Component
+public class SnowflakeOrderNumberGenerator implements OrderNumberGenerator {
+    private static final long EPOCH = Instant.parse("2023-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final String FORMAT = "%019d";
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final AtomicLong lastState = new AtomicLong();
+
+    @Autowired
+    public SnowflakeOrderNumberGenerator(@Value("${kurly.order.node-id}") long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeOrderNumberGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id must be between 0 and " + MAX_NODE_ID + " : " + nodeId);
+        }
+
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public String generate() {
+        return String.format(FORMAT, nextId());
+    }
+
+    public long nextId() {
+        long now = clock.getAsLong() - EPOCH;
+
+        while (true) {
+            long last = lastState.get();
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+            long next = now > lastTimestamp ? now << SEQUENCE_BITS : last + 1;
+
+            if (lastState.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+}
@@ -3,31 +3,38 @@ package com.devcourse.kurlymurly.domain.service;
 import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
 import com.devcourse.kurlymurly.domain.order.Order;
 import com.devcourse.kurlymurly.domain.order.OrderLine;
+import com.devcourse.kurlymurly.domain.order.OrderNumberGenerator;
 import com.devcourse.kurlymurly.domain.order.OrderRepository;
+import com.devcourse.kurlymurly.domain.order.OrderSummary;
 import com.devcourse.kurlymurly.domain.order.PaymentInfo;
 import com.devcourse.kurlymurly.domain.order.ShippingInfo;
-import com.devcourse.kurlymurly.domain.user.User;
 import com.devcourse.kurlymurly.web.order.CreateOrder;
-import com.devcourse.kurlymurly.web.order.CreateOrderLine;
 import com.devcourse.kurlymurly.web.order.GetOrderResponse;
 import com.devcourse.kurlymurly.web.product.ReviewResponse;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.devcourse.kurlymurly.common.exception.ErrorCode.NOT_CORRECT_PAY_PASSWORD;
 import static com.devcourse.kurlymurly.common.exception.ErrorCode.NOT_ORDER_HOST;
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.ORDER_AMOUNT_OVERFLOW;
 import static com.devcourse.kurlymurly.common.exception.ErrorCode.ORDER_NOT_FOUND;
 
 @Service
 @Transactional(readOnly = true)
 public class OrderService {
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int NO_DISCOUNT = 0;
+
     private final OrderRepository orderRepository;
+    private final OrderNumberGenerator orderNumberGenerator;
 
-    public OrderService(OrderRepository orderRepository) {
+    public OrderService(OrderRepository orderRepository, OrderNumberGenerator orderNumberGenerator) {
         this.orderRepository = orderRepository;
+        this.orderNumberGenerator = orderNumberGenerator;
     }
 
     @Transactional
@@ -36,25 +43,23 @@ public class OrderService {
         order.reviewOrderLine(lineIndex);
     }
 
+    /**
+     * 결제 비밀번호와 상품 확인, 가격 계산은 호출하는 쪽에서 끝낸 주문 상품으로 주문을 저장한다.
+     * 주문 상품은 order_lines 에 한 번의 배치 INSERT 로 들어간다. (hibernate.jdbc.batch_size)
+     */
     @Transactional
-    public CreateOrder.Response createOrder(User user, CreateOrder.Request request) {
-        // todo: seperate layer
-//        if (user.validatePayPassword(request.payPassword(), passwordEncoder)) {
-//            Order order = toOrder(user.getId(), request);
-//            orderRepository.save(order);
-//
-//            return new CreateOrder.Response(request.address(), order.getOrderNumber(), order.getActualPayAmount());
-//        }
-//
-        throw new KurlyBaseException(NOT_CORRECT_PAY_PASSWORD);
+    public CreateOrder.Response createOrder(Long userId, List<OrderLine> orderLines, CreateOrder.Request request) {
+        Order order = toOrder(userId, orderLines, request);
+        orderRepository.save(order);
+
+        return new CreateOrder.Response(request.address(), order.getOrderNumber(), order.getPaymentInfo().getActualPayAmount());
     }
 
-    private Order toOrder(Long userId, CreateOrder.Request request) {
-        List<OrderLine> orderItems = toOrderItems(request.orderItems());
-        PaymentInfo paymentInfo = paymentInfo(request);
+    private Order toOrder(Long userId, List<OrderLine> orderLines, CreateOrder.Request request) {
+        PaymentInfo paymentInfo = paymentInfo(orderLines, request.payment());
         ShippingInfo shippingInfo = shippingInfo(request);
 
-        return new Order(userId, orderItems, paymentInfo, shippingInfo);
+        return new Order(userId, orderNumberGenerator.generate(), orderLines, paymentInfo, shippingInfo);
     }
 
     public GetOrderResponse.DetailInfo findOrderAndToDetailOrderInfo(Long id) {
@@ -91,20 +96,21 @@ public class OrderService {
     }
 
     // todo: 삭제된 것 제외하고 가져오기
-    public List<GetOrderResponse.SimpleInfo> findOrderListSimpleFormByUserId(Long userId) {
-        return orderRepository.findAllByUserId(userId).stream()
-                .map(this::toSimpleInfo)
-                .toList();
+    public Slice<GetOrderResponse.SimpleInfo> findOrderListSimpleFormByUserId(Long userId, Long start) {
+        Long startId = start == null ? Long.MAX_VALUE : start;
+        return orderRepository.findSummariesByUserIdFromStart(userId, startId, PageRequest.ofSize(DEFAULT_PAGE_SIZE))
+                .map(this::toSimpleInfo);
     }
 
-    private GetOrderResponse.SimpleInfo toSimpleInfo(Order order) {
+    private GetOrderResponse.SimpleInfo toSimpleInfo(OrderSummary summary) {
         return new GetOrderResponse.SimpleInfo(
-                order.summarizeOrderLines(),
-                order.getOrderNumber(),
-                order.getPaymentInfo().getPayment(),
-                order.getPaymentInfo().getActualPayAmount(),
-                order.getStatus().name(),
-                order.getCreateAt()
+                summary.orderId(),
+                summary.summarizeOrderLines(),
+                summary.orderNumber(),
+                summary.payment(),
+                summary.actualPayAmount(),
+                summary.status().name(),
+                summary.createdAt()
         );
     }
 
@@ -119,33 +125,32 @@ public class OrderService {
     }
 
     @Transactional
-    public void cancelOrder(Long id) {
-        Order order = findByIdOrThrow(id);
+    public Order cancelOrder(Long id) {
+        Order order = orderRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new KurlyBaseException(ORDER_NOT_FOUND));
         order.cancel();
+        return order;
     }
 
     @Transactional
-    public void toCancelByUser(Long id, Long userId) {
-        Order order = orderRepository.findByIdAndUserId(id, userId)
+    public Order toCancelByUser(Long id, Long userId) {
+        Order order = orderRepository.findByIdAndUserIdForUpdate(id, userId)
                 .orElseThrow(() -> new KurlyBaseException(NOT_ORDER_HOST));
 
         order.validateOrdersOwner(userId);
         order.cancel();
-    }
-
-    private List<OrderLine> toOrderItems(List<CreateOrderLine.Request> requests) {
-        return requests.stream()
-                .map(this::toOrderItem)
-                .toList();
-    }
-
-    private OrderLine toOrderItem(CreateOrderLine.Request request) {
-        return new OrderLine(request.productId(), request.productName(), request.imageUrl(), request.totalPrice(), request.quantity());
-    }
-
-    // todo: 의존성 제거
-    private PaymentInfo paymentInfo(CreateOrder.Request request) {
-        return new PaymentInfo(request.totalPrice(), request.totalDiscount(), request.payment());
+        return order;
+    }
+
+    private PaymentInfo paymentInfo(List<OrderLine> orderLines, String payment) {
+        try {
+            int totalPrice = orderLines.stream()
+                    .mapToInt(OrderLine::getTotalPrice)
+                    .reduce(0, Math::addExact);
+            return new PaymentInfo(totalPrice, NO_DISCOUNT, payment);
+        } catch (ArithmeticException e) {
+            throw new KurlyBaseException(ORDER_AMOUNT_OVERFLOW, e);
+        }
     }
 
     // todo: 의존성 제거
@@ -0,0 +1,69 @@
+package com.devcourse.kurlymurly.domain.order;
+
+import com.devcourse.kurlymurly.data.IndexUsage;
+import com.devcourse.kurlymurly.data.metrics.StatementMetricsConfig;
+import com.devcourse.kurlymurly.domain.order.support.OrderSupportRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.stream.Stream;
+
+/**
+ * 합성 데이터셋 위에서 리포지토리 메서드가 실행한 SQL 의 실행 계획을 확인해서 전체 테이블 스캔이 있으면 실패한다.
+ * 데이터셋이 다른 테스트에 섞이지 않도록 컨텍스트(임베디드 DB)를 따로 쓴다.
+ */
+@DataJpaTest(properties = "spring.datasource.generate-unique-name=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(StatementMetricsConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IndexUsageTest {
+    private static final long ROWS = 50_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSupportRepository orderSupportRepository;
+
+    @BeforeAll
+    void generateDataset() throws SQLException {
+        IndexUsage.generateDataset(dataSource, ROWS);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("리포지토리 쿼리는 전체 테이블 스캔 없이 인덱스로 조회해야 한다")
+    void explain(String repositoryMethod, Executable query) throws Throwable {
+        IndexUsage.assertNoTableScan(dataSource, query);
+    }
+
+    private Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                query("OrderRepository.findSummariesByUserIdFromStart",
+                        () -> orderRepository.findSummariesByUserIdFromStart(10L, Long.MAX_VALUE, PageRequest.ofSize(10))),
+                query("OrderRepository.findReviewableOrdersByUserIdWithinThirtyDays",
+                        () -> orderRepository.findReviewableOrdersByUserIdWithinThirtyDays(10L)),
+                query("OrderSupportRepository.findAllByUserId", () -> orderSupportRepository.findAllByUserId(10L))
+        );
+    }
+
+    private Arguments query(String repositoryMethod, Executable query) {
+        return Arguments.of(repositoryMethod, query);
+    }
+}
@@ -1,6 +1,6 @@
 package com.devcourse.kurlymurly.domain.order;
 
-import com.devcourse.kurlymurly.web.order.CreateOrderLine;
+import com.devcourse.kurlymurly.domain.order.state.OrderState;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,8 +9,8 @@ import static com.devcourse.kurlymurly.domain.order.Order.*;
 
 public enum OrderFixture {
     HEJOW_ORDER(1L, List.of(
-            new CreateOrderLine.Request(1L, "소고기", "", 30000, 2),
-            new CreateOrderLine.Request(2L, "비싼 소고기", "", 20000, 1)),
+            new Line(1L, "소고기", "", 30000, 2),
+            new Line(2L, "비싼 소고기", "", 20000, 1)),
             50000,
             0,
             "컬리페이(국민은행)",
@@ -21,8 +21,8 @@ public enum OrderFixture {
             "공동현관 비밀번호(****)",
             "종이 포장재"),
     HEJOW_ORDER2(1L, List.of(
-            new CreateOrderLine.Request(1L, "소고기", "", 30000, 2),
-            new CreateOrderLine.Request(2L, "비싼 소고기", "", 20000, 1)),
+            new Line(1L, "소고기", "", 30000, 2),
+            new Line(2L, "비싼 소고기", "", 20000, 1)),
             50000,
             0,
             "컬리페이(국민은행)",
@@ -33,8 +33,10 @@ public enum OrderFixture {
             "공동현관 비밀번호(****)",
             "종이 포장재");
 
+    private static final OrderNumberGenerator ORDER_NUMBER_GENERATOR = new SnowflakeOrderNumberGenerator(0);
+
     private final Long userId;
-    private final List<CreateOrderLine.Request> orderItemRequests;
+    private final List<Line> orderLines;
     private final int totalPrice;
     private final int totalDiscount;
     private final String payment;
@@ -45,9 +47,9 @@ public enum OrderFixture {
     private final String entranceInfo;
     private final String packaging;
 
-    OrderFixture(Long userId, List<CreateOrderLine.Request> orderItemRequests, int totalPrice, int totalDiscount, String payment, String receiver, String phoneNumber, String address, String receiveArea, String entranceInfo, String packaging) {
+    OrderFixture(Long userId, List<Line> orderLines, int totalPrice, int totalDiscount, String payment, String receiver, String phoneNumber, String address, String receiveArea, String entranceInfo, String packaging) {
         this.userId = userId;
-        this.orderItemRequests = orderItemRequests;
+        this.orderLines = orderLines;
         this.totalPrice = totalPrice;
         this.totalDiscount = totalDiscount;
         this.payment = payment;
@@ -62,6 +64,7 @@ public enum OrderFixture {
     public Order toEntity() {
         return new Order(
                 userId,
+                ORDER_NUMBER_GENERATOR.generate(),
                 toOrderLines(),
                 new PaymentInfo(totalPrice, totalDiscount, payment),
                 new ShippingInfo(receiver, phoneNumber, address, receiveArea, entranceInfo, packaging)
@@ -69,25 +72,33 @@ public enum OrderFixture {
     }
 
     public Order toSpecificStateEntity(Order.Status status) {
+        return toEntity(status, status.generateState());
+    }
+
+    // DB 에서 읽은 주문처럼 상태 객체 없이 만든다.
+    public Order toLoadedEntity(Order.Status status) {
+        return toEntity(status, null);
+    }
+
+    private Order toEntity(Order.Status status, OrderState orderState) {
         return new Order(
                 userId,
+                ORDER_NUMBER_GENERATOR.generate(),
                 toOrderLines(),
                 new PaymentInfo(totalPrice, totalDiscount, payment),
                 new ShippingInfo(receiver, phoneNumber, address, receiveArea, entranceInfo, packaging),
                 status == Status.DELIVERED ? LocalDateTime.now().minusWeeks(1) : null,
                 status,
-                status.generateState()
+                orderState
         );
     }
 
     private List<OrderLine> toOrderLines() {
-        return orderItemRequests.stream()
-                .map(request -> new OrderLine(
-                        request.productId(),
-                        request.productName(),
-                        request.imageUrl(),
-                        request.totalPrice(),
-                        request.quantity()
-                )).toList();
+        return orderLines.stream()
+                .map(line -> new OrderLine(line.productId(), line.productName(), line.imageUrl(), line.totalPrice(), line.quantity()))
+                .toList();
+    }
+
+    record Line(Long productId, String productName, String imageUrl, int totalPrice, int quantity) {
     }
 }
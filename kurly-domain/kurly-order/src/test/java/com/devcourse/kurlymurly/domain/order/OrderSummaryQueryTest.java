@@ -0,0 +1,80 @@
+package com.devcourse.kurlymurly.domain.order;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.stream.IntStream;
+
+import static com.devcourse.kurlymurly.domain.order.OrderFixture.HEJOW_ORDER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderSummaryQueryTest {
+    private static final Pageable PAGE = PageRequest.ofSize(10);
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void initStatistics() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("주문 요약은 첫 번째 주문 상품 이름과 상품 개수를 함께 담아야 한다.")
+    void findSummariesByUserIdFromStart_Success() {
+        // given
+        Order order = orderRepository.save(HEJOW_ORDER.toEntity());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Slice<OrderSummary> summaries = orderRepository.findSummariesByUserIdFromStart(USER_ID, Long.MAX_VALUE, PAGE);
+
+        // then
+        assertThat(summaries.getContent()).hasSize(1);
+
+        OrderSummary summary = summaries.getContent().get(0);
+        assertThat(summary.orderId()).isEqualTo(order.getId());
+        assertThat(summary.lineCount()).isEqualTo(2);
+        assertThat(summary.summarizeOrderLines()).isEqualTo(order.summarizeOrderLines());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30, 300})
+    @DisplayName("주문 수와 관계없이 주문 내역 조회는 한 번의 쿼리로 끝나야 한다.")
+    void findSummariesByUserIdFromStart_ConstantStatements(int orderCount) {
+        // given
+        IntStream.range(0, orderCount).forEach(i -> orderRepository.save(HEJOW_ORDER.toEntity()));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        Slice<OrderSummary> firstPage = orderRepository.findSummariesByUserIdFromStart(USER_ID, Long.MAX_VALUE, PAGE);
+        firstPage.getContent().forEach(OrderSummary::summarizeOrderLines);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(firstPage.getContent()).hasSize(Math.min(orderCount, PAGE.getPageSize()));
+        assertThat(firstPage.hasNext()).isEqualTo(orderCount > PAGE.getPageSize());
+    }
+}
@@ -89,6 +89,20 @@ class OrderTest {
             assertThat(order.getStatus()).isEqualTo(Status.CANCELED);
         }
 
+        @ParameterizedTest
+        @EnumSource(value = Status.class, names = {"ORDERED", "PROCESSING"})
+        @DisplayName("DB 에서 읽어 상태 객체가 없는 주문도 저장된 상태로 취소할 수 있어야 한다.")
+        void cancelOrder_Success_ByLoadedOrder(Status status) {
+            // given
+            Order order = HEJOW_ORDER.toLoadedEntity(status);
+
+            // when
+            order.cancel();
+
+            // then
+            assertThat(order.getStatus()).isEqualTo(Status.CANCELED);
+        }
+
         @ParameterizedTest
         @EnumSource(value = Status.class, names = {"DELIVERING", "DELIVERED", "CANCELED"})
         @DisplayName("배송 중이거나 완료, 그리고 취소된 상품은 취소하려고 하면 예외를 던진다.")
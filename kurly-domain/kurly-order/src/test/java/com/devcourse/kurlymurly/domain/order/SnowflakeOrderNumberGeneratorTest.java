@@ -0,0 +1,139 @@
+package com.devcourse.kurlymurly.domain.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SnowflakeOrderNumberGeneratorTest {
+    @Test
+    @DisplayName("스프링 컨텍스트에서 설정한 노드 id 로 생성기 빈을 만들 수 있어야 한다.")
+    void bean_CreatedWithConfiguredNodeId() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(SnowflakeOrderNumberGenerator.class)
+                .withPropertyValues("kurly.order.node-id=7")
+                .run(context -> {
+                    // then
+                    assertThat(context).hasNotFailed().hasSingleBean(OrderNumberGenerator.class);
+                    long id = context.getBean(SnowflakeOrderNumberGenerator.class).nextId();
+                    assertThat((id >>> 12) & 1023).isEqualTo(7);
+                });
+    }
+
+    @Test
+    @DisplayName("노드 id 를 설정하지 않으면 생성기 빈을 만들지 않아야 한다.")
+    void bean_Fail_ByMissingNodeId() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(SnowflakeOrderNumberGenerator.class)
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    @DisplayName("주문 번호는 19자리 숫자로 생성된다.")
+    void generate_FixedWidth() {
+        // given
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(1);
+
+        // when
+        String orderNumber = generator.generate();
+
+        // then
+        assertThat(orderNumber).hasSize(19).containsOnlyDigits();
+    }
+
+    @Test
+    @DisplayName("노드 id 범위를 벗어나면 생성기를 만들 수 없다.")
+    void create_Fail_ByInvalidNodeId() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SnowflakeOrderNumberGenerator(1024));
+        assertThatIllegalArgumentException().isThrownBy(() -> new SnowflakeOrderNumberGenerator(-1));
+    }
+
+    @Test
+    @DisplayName("시계가 멈추거나 뒤로 가도 번호는 계속 증가한다.")
+    void nextId_Increase_WhenClockGoesBack() {
+        // given
+        long[] now = {System.currentTimeMillis()};
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(0, () -> now[0]);
+
+        // when
+        long first = generator.nextId();
+        long second = generator.nextId();
+        now[0] -= 10_000;
+        long third = generator.nextId();
+
+        // then
+        assertThat(first).isLessThan(second);
+        assertThat(second).isLessThan(third);
+    }
+
+    @Test
+    @DisplayName("같은 ms 에 순번이 넘쳐도 번호가 겹치지 않는다.")
+    void nextId_Unique_WhenSequenceOverflow() {
+        // given
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(0, () -> 1_700_000_000_000L);
+        long[] ids = new long[10_000];
+
+        // when
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = generator.nextId();
+        }
+
+        // then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 천만 건을 생성해도 중복이 없고 모두 노드 id를 담고 있다.")
+    void nextId_NoDuplicates_UnderStress() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 1_250_000;
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(7);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                long[] ids = new long[perThread];
+                for (int i = 0; i < perThread; i++) {
+                    ids[i] = generator.nextId();
+                }
+                return ids;
+            }));
+        }
+
+        long[] all = new long[threads * perThread];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] ids = future.get();
+            assertThat(isStrictlyIncreasing(ids)).isTrue();
+            System.arraycopy(ids, 0, all, offset, ids.length);
+            offset += ids.length;
+        }
+        executor.shutdown();
+
+        // then
+        Arrays.sort(all);
+        assertThat(isStrictlyIncreasing(all)).isTrue();
+        assertThat(Arrays.stream(all).allMatch(id -> ((id >>> 12) & 1023) == 7)).isTrue();
+    }
+
+    private boolean isStrictlyIncreasing(long[] ids) {
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i - 1] >= ids[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
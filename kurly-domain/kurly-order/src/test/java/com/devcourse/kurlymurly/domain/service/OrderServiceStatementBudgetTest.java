@@ -0,0 +1,59 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import com.devcourse.kurlymurly.data.metrics.MaxQueries;
+import com.devcourse.kurlymurly.data.metrics.StatementMetricsConfig;
+import com.devcourse.kurlymurly.domain.order.OrderNumberGenerator;
+import com.devcourse.kurlymurly.domain.order.OrderRepository;
+import com.devcourse.kurlymurly.web.order.GetOrderResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+
+import java.util.stream.IntStream;
+
+import static com.devcourse.kurlymurly.domain.order.OrderFixture.HEJOW_ORDER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({OrderService.class, StatementMetricsConfig.class})
+class OrderServiceStatementBudgetTest {
+    private static final Long USER_ID = 1L;
+    private static final int ORDER_COUNT = 30;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @BeforeEach
+    void initOrders() {
+        IntStream.range(0, ORDER_COUNT).forEach(i -> orderRepository.save(HEJOW_ORDER.toEntity()));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @MaxQueries(1)
+    @DisplayName("주문 내역 목록은 주문 상품 수와 관계없이 한 번의 쿼리로 조회해야 한다.")
+    void findOrderListSimpleFormByUserId() {
+        // when
+        Slice<GetOrderResponse.SimpleInfo> orders = orderService.findOrderListSimpleFormByUserId(USER_ID, null);
+
+        // then
+        assertThat(orders.getContent()).hasSize(10);
+        assertThat(orders.hasNext()).isTrue();
+    }
+}
@@ -1,5 +1,6 @@
 package com.devcourse.kurlymurly.domain.service;
 
+import com.devcourse.kurlymurly.domain.order.OrderNumberGenerator;
 import com.devcourse.kurlymurly.domain.order.OrderRepository;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -18,6 +19,9 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderNumberGenerator orderNumberGenerator;
+
 //    @Mock
 //    private PasswordEncoder passwordEncoder;
 
@@ -0,0 +1,8 @@
+package com.devcourse.kurlymurly.domain.product;
+
+public interface CustomProductRepository {
+    int increaseReviewCount(Long id);
+
+    /** 0 아래로는 차감하지 않는다. */
+    int decreaseReviewCount(Long id);
+}
@@ -0,0 +1,62 @@
+package com.devcourse.kurlymurly.domain.product;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 후기 수는 후기가 등록, 삭제될 때마다 바뀌므로 상품 2차 캐시 영역 전체를 비우지 않고 바뀐 상품 하나만 비운다.
+ * JPQL UPDATE 나 products 를 동기화 공간으로 준 네이티브 UPDATE 는 Product 영역 전체를 비운다.
+ */
+class CustomProductRepositoryImpl implements CustomProductRepository {
+    // Product 의 테이블과 겹치지 않는 공간이라 영역 전체를 비우지 않는다.
+    private static final String REVIEW_COUNT_SPACE = "product_review_counts";
+
+    private final EntityManager entityManager;
+
+    public CustomProductRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public int increaseReviewCount(Long id) {
+        return updateReviewCount("UPDATE products SET review_count = review_count + 1 WHERE id = :id", id);
+    }
+
+    @Override
+    @Transactional
+    public int decreaseReviewCount(Long id) {
+        return updateReviewCount("UPDATE products SET review_count = review_count - 1 WHERE id = :id AND review_count > 0", id);
+    }
+
+    private int updateReviewCount(String sql, Long id) {
+        // 동기화 공간이 겹치지 않아 자동으로 flush 되지 않으므로 아직 쓰지 않은 상품을 먼저 내보낸다.
+        entityManager.flush();
+        int updated = entityManager.createNativeQuery(sql)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, REVIEW_COUNT_SPACE)
+                .setParameter("id", id)
+                .executeUpdate();
+
+        evict(id);
+        return updated;
+    }
+
+    // 커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시에 넣을 수 있으므로 커밋 뒤에 한 번 더 비운다.
+    private void evict(Long id) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(Product.class, id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(Product.class, id);
+                }
+            });
+        }
+    }
+}
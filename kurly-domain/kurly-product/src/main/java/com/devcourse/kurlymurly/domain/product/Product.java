@@ -2,17 +2,22 @@ package com.devcourse.kurlymurly.domain.product;
 
 import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
 import com.devcourse.kurlymurly.data.BaseEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import static com.devcourse.kurlymurly.common.exception.ErrorCode.DELETED_PRODUCT;
 import static com.devcourse.kurlymurly.common.exception.ErrorCode.INORDERABLE_PRODUCT;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PRODUCT_REGION)
 @Table(name = "products")
 public class Product extends BaseEntity {
     /** 샛별 배송, 일반 배송 */
@@ -49,6 +54,10 @@ public class Product extends BaseEntity {
     @Column(nullable = false)
     private boolean isKurlyOnly;
 
+    /** 노출 가능한(NORMAL, BEST) 후기 수, 엔티티 변경으로 덮어쓰지 않도록 쿼리로만 갱신한다. */
+    @Column(nullable = false, updatable = false)
+    private long reviewCount;
+
     protected Product() {
     }
 
@@ -63,6 +72,7 @@ public class Product extends BaseEntity {
         this.detail = detail;
         this.status = Status.NORMAL;
         this.isKurlyOnly = isKurlyOnly;
+        this.reviewCount = 0;
     }
 
     public void validateOrderable() {
@@ -86,15 +96,42 @@ public class Product extends BaseEntity {
         this.status = Status.SOLD_OUT;
     }
 
+    // 재고가 다시 들어오면 품절 상태만 되돌린다.
+    public void backInStock() {
+        if (this.status == Status.SOLD_OUT) {
+            this.status = Status.NORMAL;
+        }
+    }
+
     public void toBest() {
         validateSupportable();
         this.status = Status.BEST;
     }
 
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
     public String getName() {
         return name;
     }
 
+    public String getDescription() {
+        return description;
+    }
+
+    public Delivery getDelivery() {
+        return delivery;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public boolean isKurlyOnly() {
+        return isKurlyOnly;
+    }
+
     public Status getStatus() {
         return status;
     }
@@ -102,4 +139,12 @@ public class Product extends BaseEntity {
     public int getPrice() {
         return price;
     }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public ProductDetail getDetail() {
+        return detail;
+    }
 }
@@ -0,0 +1,48 @@
+package com.devcourse.kurlymurly.domain.product;
+
+import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.INVALID_CURSOR;
+
+/**
+ * 상품 목록의 (생성일, id) 탐색 위치, 클라이언트에는 불투명한 문자열로 내려준다.
+ */
+public record ProductCursor(LocalDateTime createAt, Long id) {
+    private static final String DELIMITER = "|";
+    private static final ProductCursor FIRST = new ProductCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static ProductCursor first() {
+        return FIRST;
+    }
+
+    public static ProductCursor from(Product product) {
+        return new ProductCursor(product.getCreateAt(), product.getId());
+    }
+
+    public static ProductCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiter = decoded.indexOf(DELIMITER);
+            return new ProductCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiter)),
+                    Long.parseLong(decoded.substring(delimiter + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new KurlyBaseException(INVALID_CURSOR, e);
+        }
+    }
+
+    public String encode() {
+        String raw = createAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
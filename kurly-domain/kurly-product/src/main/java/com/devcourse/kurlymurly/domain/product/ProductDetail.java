@@ -45,4 +45,9 @@ public class ProductDetail {
         this.allergyInfo = allergyInfo;
         this.expirationInformation = expirationInformation;
     }
+
+    /** 검색 색인에 넣을 상세 정보 문자열 */
+    public String toSearchText() {
+        return String.join(" ", seller, saleUnit, weight, origin, allergyInfo, expirationInformation);
+    }
 }
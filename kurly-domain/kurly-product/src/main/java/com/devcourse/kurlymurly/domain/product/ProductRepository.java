@@ -1,24 +1,33 @@
 package com.devcourse.kurlymurly.domain.product;
 
 import com.devcourse.kurlymurly.web.product.ProductResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProductRepository extends JpaRepository<Product, Long>, CustomProductRepository {
+    interface NameWithOrderCount {
+        Long getId();
+
+        String getName();
+
+        long getOrderCount();
+    }
+
     @Query("""
             SELECT NEW com.devcourse.kurlymurly.web.product.ProductResponse$GetSimple(
-                p.imageUrl, CAST(p.delivery AS STRING), p.name, p.description, p.price, COALESCE(r.reviewCount, 0), p.isKurlyOnly, CAST(p.status AS STRING)
+                p.imageUrl, CAST(p.delivery AS STRING), p.name, p.description, p.price, p.reviewCount, p.isKurlyOnly, CAST(p.status AS STRING)
             )
             FROM Product p
-            LEFT JOIN (
-                SELECT r.productId AS productId, COUNT(*) AS reviewCount
-                FROM Review r
-                WHERE r.status IN ('NORMAL', 'BEST')
-                GROUP BY r.productId
-            ) r ON p.id = r.productId
             WHERE p.categoryId = :categoryId
             AND p.status != 'DELETED'
             """)
@@ -26,15 +35,9 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     @Query("""
             SELECT NEW com.devcourse.kurlymurly.web.product.ProductResponse$GetSimple(
-                p.imageUrl, CAST(p.delivery AS STRING), p.name, p.description, p.price, COALESCE(r.reviewCount, 0), p.isKurlyOnly, CAST(p.status AS STRING)
+                p.imageUrl, CAST(p.delivery AS STRING), p.name, p.description, p.price, p.reviewCount, p.isKurlyOnly, CAST(p.status AS STRING)
             )
             FROM Product p
-            LEFT JOIN (
-                SELECT r.productId AS productId, COUNT(*) AS reviewCount
-                FROM Review r
-                WHERE r.status IN ('NORMAL', 'BEST')
-                GROUP BY r.productId
-            ) r ON p.id = r.productId
             WHERE p.createAt >= CURRENT_DATE - 7
             AND p.status != 'DELETED'
             """)
@@ -42,16 +45,84 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     @Query("""
             SELECT NEW com.devcourse.kurlymurly.web.product.ProductResponse$GetSimple(
-                 p.imageUrl, CAST(p.delivery AS STRING), p.name, p.description, p.price, COALESCE(r.reviewCount, 0), p.isKurlyOnly, CAST(p.status AS STRING)
-            ) 
-            FROM Product p   
-            LEFT JOIN (
-                 SELECT r.productId AS productId, COUNT(*) AS reviewCount
-                 FROM Review r
-                 WHERE r.status IN ('NORMAL', 'BEST')
-                 GROUP BY r.productId
-            )  r ON p.id = r.productId       
-             WHERE p.status = 'BEST'
-             """)
+                p.imageUrl, CAST(p.delivery AS STRING), p.name, p.description, p.price, p.reviewCount, p.isKurlyOnly, CAST(p.status AS STRING)
+            )
+            FROM Product p
+            WHERE p.status = 'BEST'
+            """)
     Page<ProductResponse.GetSimple> loadBestProducts(Pageable pageable);
+
+    @Query("""
+            SELECT p FROM Product p
+            WHERE p.categoryId = :categoryId
+            AND p.status != 'DELETED'
+            AND (p.createAt < :createAt OR (p.createAt = :createAt AND p.id < :id))
+            ORDER BY p.createAt DESC, p.id DESC
+            """)
+    List<Product> seekProductsByCategory(@Param("categoryId") Long categoryId, @Param("createAt") LocalDateTime createAt, @Param("id") Long id, Pageable limit);
+
+    @Query("""
+            SELECT p FROM Product p
+            WHERE p.createAt >= CURRENT_DATE - 7
+            AND p.status != 'DELETED'
+            AND (p.createAt < :createAt OR (p.createAt = :createAt AND p.id < :id))
+            ORDER BY p.createAt DESC, p.id DESC
+            """)
+    List<Product> seekNewProducts(@Param("createAt") LocalDateTime createAt, @Param("id") Long id, Pageable limit);
+
+    // 검색 색인을 다시 만들 때 전체 상품을 훑으므로 2차 캐시에 넣지 않는다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    @Query("""
+            SELECT p FROM Product p
+            WHERE p.id > :id
+            AND p.status != 'DELETED'
+            ORDER BY p.id
+            """)
+    List<Product> findIndexableAfter(@Param("id") Long id, Pageable limit);
+
+    // 다른 인스턴스에서 바뀐 상품을 검색 색인에 반영할 때 쓴다. 삭제된 상품도 읽어야 색인에서 뺄 수 있다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    @Query("""
+            SELECT p FROM Product p
+            WHERE p.updatedAt > :updatedAt OR (p.updatedAt = :updatedAt AND p.id > :id)
+            ORDER BY p.updatedAt, p.id
+            """)
+    List<Product> findUpdatedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id, Pageable limit);
+
+    @Query(nativeQuery = true, value = """
+            SELECT p.id AS id, p.name AS name,
+                (SELECT COUNT(*) FROM order_lines ol WHERE ol.product_id = p.id) AS orderCount
+            FROM products p
+            WHERE p.id > :id
+            AND p.status <> 'DELETED'
+            ORDER BY p.id
+            LIMIT :limit
+            """)
+    List<NameWithOrderCount> findNamesWithOrderCountAfter(@Param("id") Long id, @Param("limit") int limit);
+
+    @Query(nativeQuery = true, value = """
+            SELECT COUNT(*)
+            FROM products p
+            WHERE p.review_count <> (
+                SELECT COUNT(*) FROM reviews r
+                WHERE r.product_id = p.id AND r.status IN ('NORMAL', 'BEST')
+            )
+            """)
+    long countReviewCountDrift();
+
+    // 네이티브 UPDATE 는 어떤 테이블을 바꾸는지 알려주지 않으면 2차 캐시 전체를 비운다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "products"))
+    @Query(nativeQuery = true, value = """
+            UPDATE products p
+            SET review_count = (
+                SELECT COUNT(*) FROM reviews r
+                WHERE r.product_id = p.id AND r.status IN ('NORMAL', 'BEST')
+            )
+            WHERE p.review_count <> (
+                SELECT COUNT(*) FROM reviews r
+                WHERE r.product_id = p.id AND r.status IN ('NORMAL', 'BEST')
+            )
+            """)
+    int reconcileReviewCounts();
 }
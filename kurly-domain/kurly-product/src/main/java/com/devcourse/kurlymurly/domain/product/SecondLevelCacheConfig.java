@@ -0,0 +1,75 @@
+package com.devcourse.kurlymurly.domain.product;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 자주 읽고 거의 바뀌지 않는 상품, 카테고리를 Hibernate 2차 캐시(Ehcache, JCache)에 둔다.
+ * 영역은 모두 여기서 크기를 정해 만들고, 정의되지 않은 영역이 쓰이면 SessionFactory 생성을 실패시킨다.
+ * 영역별 적중률은 hibernate-micrometer 가 hibernate.second.level.cache.* 지표로 내보낸다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    public static final String PRODUCT_REGION = "product";
+    public static final String CATEGORY_REGION = "category";
+    public static final String CATEGORY_EXISTS_REGION = "category-exists";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${kurly.cache.l2.product.max-entries:10000}") long productEntries,
+            @Value("${kurly.cache.l2.product.ttl:PT10M}") Duration productTtl,
+            @Value("${kurly.cache.l2.category.max-entries:500}") long categoryEntries,
+            @Value("${kurly.cache.l2.category.ttl:PT1H}") Duration categoryTtl
+    ) {
+        // 테스트처럼 컨텍스트가 여러 개 떠도 영역 이름이 겹치지 않도록 CacheManager 마다 URI 를 따로 쓴다.
+        URI uri = URI.create("urn:kurly:l2:" + UUID.randomUUID());
+        CacheManager cacheManager = Caching.getCachingProvider(EhcacheCachingProvider.class.getName())
+                .getCacheManager(uri, getClass().getClassLoader());
+
+        createRegion(cacheManager, PRODUCT_REGION, productEntries, productTtl);
+        createRegion(cacheManager, CATEGORY_REGION, categoryEntries, categoryTtl);
+        createRegion(cacheManager, CATEGORY_EXISTS_REGION, categoryEntries, categoryTtl);
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, categoryEntries, categoryTtl);
+        // 갱신 시각 영역이 먼저 만료되면 쿼리 캐시가 오래된 결과를 돌려줄 수 있으므로 만료시키지 않는다.
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, categoryEntries, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, String region, long maxEntries, Duration ttl) {
+        CacheConfigurationBuilder<Object, Object> configuration = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries));
+        if (ttl != null) {
+            configuration = configuration.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl));
+        }
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+    }
+}
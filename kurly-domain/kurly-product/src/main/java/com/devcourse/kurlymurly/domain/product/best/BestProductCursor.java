@@ -0,0 +1,45 @@
+package com.devcourse.kurlymurly.domain.product.best;
+
+import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.INVALID_CURSOR;
+
+/**
+ * 베스트 상품 순위표에서 다음에 읽을 순위 위치(0부터), 클라이언트에는 불투명한 문자열로 내려준다.
+ * 그 사이에 순위표가 다시 계산되면 새 순위표의 같은 위치부터 이어서 읽는다.
+ */
+public record BestProductCursor(int offset) {
+    private static final BestProductCursor FIRST = new BestProductCursor(0);
+
+    public static BestProductCursor first() {
+        return FIRST;
+    }
+
+    public static BestProductCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int offset = Integer.parseInt(decoded);
+            if (offset < 0) {
+                throw new IllegalArgumentException("negative offset : " + offset);
+            }
+            return new BestProductCursor(offset);
+        } catch (IllegalArgumentException e) {
+            throw new KurlyBaseException(INVALID_CURSOR, e);
+        }
+    }
+
+    public BestProductCursor next(int read) {
+        return new BestProductCursor(offset + read);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(offset).getBytes(StandardCharsets.UTF_8));
+    }
+}
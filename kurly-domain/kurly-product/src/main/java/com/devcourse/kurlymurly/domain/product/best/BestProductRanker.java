@@ -0,0 +1,152 @@
+package com.devcourse.kurlymurly.domain.product.best;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 최근 기간의 주문 수량, 후기 수, 찜 수에 가중치를 곱해 더한 점수로 베스트 상품 순위를 매기고 best_products 에 저장한다.
+ * 집계 결과는 상품마다 한 행씩 흘려 보내면서 카테고리별 상위 {@code limit} 개만 남기므로 상품 수와 상관없이 메모리를 적게 쓴다.
+ */
+@Component
+public class BestProductRanker {
+    // 취소된 주문, 숨겨지거나 삭제된 후기, 취소한 찜은 세지 않는다.
+    private static final String SCORE_INPUTS = """
+            SELECT p.id, p.category_id,
+                COALESCE(po.ordered, 0) AS ordered,
+                COALESCE(pr.reviews, 0) AS reviews,
+                COALESCE(pf.favorites, 0) AS favorites
+            FROM products p
+            LEFT JOIN (
+                SELECT ol.product_id, SUM(ol.quantity) AS ordered
+                FROM orders o
+                JOIN order_lines ol ON ol.order_id = o.id
+                WHERE o.created_at >= ? AND o.created_at < ?
+                AND o.status <> 'CANCELED'
+                GROUP BY ol.product_id
+            ) po ON po.product_id = p.id
+            LEFT JOIN (
+                SELECT r.product_id, COUNT(*) AS reviews
+                FROM reviews r
+                WHERE r.created_at >= ? AND r.created_at < ?
+                AND r.status IN ('NORMAL', 'BEST')
+                GROUP BY r.product_id
+            ) pr ON pr.product_id = p.id
+            LEFT JOIN (
+                SELECT f.product_id, COUNT(*) AS favorites
+                FROM favorites f
+                WHERE f.created_at >= ? AND f.created_at < ?
+                AND f.is_deleted = FALSE
+                GROUP BY f.product_id
+            ) pf ON pf.product_id = p.id
+            WHERE p.status <> 'DELETED'
+            AND (po.ordered IS NOT NULL OR pr.reviews IS NOT NULL OR pf.favorites IS NOT NULL)
+            """;
+
+    // 마지막 갱신이 충분히 오래됐을 때만 시각을 바꾸므로, 동시에 시도해도 한 인스턴스만 1 을 돌려받는다.
+    private static final String CLAIM_REFRESH = """
+            UPDATE best_product_refreshes SET refreshed_at = ?
+            WHERE id = 1 AND refreshed_at <= ?
+            """;
+    private static final String DELETE_RANKING = "DELETE FROM best_products";
+    private static final String INSERT_RANKING = """
+            INSERT INTO best_products (category_id, ranking, product_id, score, computed_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    // 저장한 뒤에 삭제된 상품은 읽지 않는다.
+    private static final String SELECT_RANKING = """
+            SELECT b.category_id, b.product_id, b.score, b.computed_at
+            FROM best_products b
+            JOIN products p ON p.id = b.product_id
+            WHERE p.status <> 'DELETED'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration window;
+    private final int limit;
+    private final double orderWeight;
+    private final double reviewWeight;
+    private final double favoriteWeight;
+
+    public BestProductRanker(
+            JdbcTemplate jdbcTemplate,
+            @Value("${kurly.best.window:P30D}") Duration window,
+            @Value("${kurly.best.limit:100}") int limit,
+            @Value("${kurly.best.weight.order:1.0}") double orderWeight,
+            @Value("${kurly.best.weight.review:3.0}") double reviewWeight,
+            @Value("${kurly.best.weight.favorite:2.0}") double favoriteWeight
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.window = window;
+        this.limit = limit;
+        this.orderWeight = orderWeight;
+        this.reviewWeight = reviewWeight;
+        this.favoriteWeight = favoriteWeight;
+    }
+
+    /** {@code now} 직전 window 기간을 집계해서 전체 순위와 카테고리별 순위를 만든다. */
+    @Transactional(readOnly = true)
+    public BestProductRanking compute(LocalDateTime now) {
+        Timestamp since = Timestamp.valueOf(now.minus(window));
+        Timestamp until = Timestamp.valueOf(now);
+        BestProductRanking.Builder builder = BestProductRanking.builder(limit);
+
+        jdbcTemplate.query(SCORE_INPUTS, (RowCallbackHandler) resultSet -> {
+            double score = score(resultSet.getLong("ordered"), resultSet.getLong("reviews"), resultSet.getLong("favorites"));
+            if (score <= 0) {
+                return;
+            }
+
+            long productId = resultSet.getLong("id");
+            builder.add(BestProductRanking.ALL_CATEGORIES, productId, score);
+            builder.add(resultSet.getLong("category_id"), productId, score);
+        }, since, until, since, until, since, until);
+
+        return builder.build(now);
+    }
+
+    public double score(long ordered, long reviews, long favorites) {
+        return orderWeight * ordered + reviewWeight * reviews + favoriteWeight * favorites;
+    }
+
+    /**
+     * 이번 갱신을 맡는다. 다른 인스턴스가 {@code interval} 안에 이미 맡았으면 false 를 돌려준다.
+     * 한 곳에서만 best_products 를 지우고 다시 쓰게 해서 인스턴스끼리 교착되지 않게 한다.
+     */
+    public boolean claimRefresh(LocalDateTime now, Duration interval) {
+        return jdbcTemplate.update(CLAIM_REFRESH, Timestamp.valueOf(now), Timestamp.valueOf(now.minus(interval))) == 1;
+    }
+
+    /** 이전 순위를 지우고 새 순위로 바꾼다. 한 트랜잭션이므로 읽는 쪽은 둘 중 하나만 본다. */
+    @Transactional
+    public void save(BestProductRanking ranking) {
+        Timestamp computedAt = Timestamp.valueOf(ranking.computedAt());
+        List<Object[]> args = ranking.entries().stream()
+                .map(entry -> new Object[]{entry.categoryId(), entry.rank(), entry.productId(), entry.score(), computedAt})
+                .toList();
+
+        jdbcTemplate.update(DELETE_RANKING);
+        jdbcTemplate.batchUpdate(INSERT_RANKING, args);
+    }
+
+    /** 마지막으로 저장한 순위를 읽는다. 저장된 순위가 없으면 빈 순위표를 돌려준다. */
+    @Transactional(readOnly = true)
+    public BestProductRanking load() {
+        BestProductRanking.Builder builder = BestProductRanking.builder(limit);
+        LocalDateTime[] computedAt = new LocalDateTime[1];
+
+        jdbcTemplate.query(SELECT_RANKING, (RowCallbackHandler) resultSet -> {
+            builder.add(resultSet.getLong("category_id"), resultSet.getLong("product_id"), resultSet.getDouble("score"));
+            computedAt[0] = resultSet.getTimestamp("computed_at").toLocalDateTime();
+        });
+
+        return computedAt[0] == null ? BestProductRanking.empty() : builder.build(computedAt[0]);
+    }
+}
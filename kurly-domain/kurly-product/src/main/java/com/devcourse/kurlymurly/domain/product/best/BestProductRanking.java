@@ -0,0 +1,179 @@
+package com.devcourse.kurlymurly.domain.product.best;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * 카테고리별 베스트 상품 순위표. 상품 id 를 순위대로 배열에 담아 두고, 한 페이지는 배열을 잘라서 만든다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드가 락 없이 읽는다.
+ */
+public final class BestProductRanking {
+    /** 카테고리와 상관없는 전체 순위의 카테고리 id */
+    public static final long ALL_CATEGORIES = 0L;
+
+    private static final BestProductRanking EMPTY = new BestProductRanking(Map.of(), null);
+
+    // 점수가 같으면 먼저 등록된 상품을 앞에 둔다.
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingDouble(Candidate::score).reversed()
+            .thenComparingLong(Candidate::productId);
+
+    public record Entry(long categoryId, int rank, long productId, double score) {
+    }
+
+    private record Candidate(long productId, double score) {
+    }
+
+    private record Ranked(long[] productIds, double[] scores) {
+    }
+
+    private final Map<Long, Ranked> rankings;
+    private final LocalDateTime computedAt;
+
+    private BestProductRanking(Map<Long, Ranked> rankings, LocalDateTime computedAt) {
+        this.rankings = rankings;
+        this.computedAt = computedAt;
+    }
+
+    public static BestProductRanking empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder(int limit) {
+        return new Builder(limit);
+    }
+
+    /** {@code offset} 번째 순위부터 최대 {@code size} 개의 상품 id 를 순위대로 돌려준다. */
+    public List<Long> page(long categoryId, long offset, int size) {
+        Ranked ranked = rankings.get(categoryId);
+        if (ranked == null || offset >= ranked.productIds().length) {
+            return List.of();
+        }
+
+        int from = (int) offset;
+        int to = (int) Math.min(ranked.productIds().length, offset + size);
+        List<Long> productIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            productIds.add(ranked.productIds()[i]);
+        }
+        return productIds;
+    }
+
+    /** 상품 하나를 모든 카테고리 순위에서 뺀 순위표를 돌려준다. 뒤 순위는 한 칸씩 당겨진다. */
+    public BestProductRanking without(long productId) {
+        Map<Long, Ranked> removed = new HashMap<>(rankings);
+        boolean changed = false;
+        for (Map.Entry<Long, Ranked> entry : rankings.entrySet()) {
+            Ranked ranked = entry.getValue();
+            int index = indexOf(ranked.productIds(), productId);
+            if (index < 0) {
+                continue;
+            }
+
+            removed.put(entry.getKey(), new Ranked(remove(ranked.productIds(), index), remove(ranked.scores(), index)));
+            changed = true;
+        }
+        return changed ? new BestProductRanking(Map.copyOf(removed), computedAt) : this;
+    }
+
+    private static int indexOf(long[] productIds, long productId) {
+        for (int i = 0; i < productIds.length; i++) {
+            if (productIds[i] == productId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long[] remove(long[] values, int index) {
+        long[] removed = new long[values.length - 1];
+        System.arraycopy(values, 0, removed, 0, index);
+        System.arraycopy(values, index + 1, removed, index, removed.length - index);
+        return removed;
+    }
+
+    private static double[] remove(double[] values, int index) {
+        double[] removed = new double[values.length - 1];
+        System.arraycopy(values, 0, removed, 0, index);
+        System.arraycopy(values, index + 1, removed, index, removed.length - index);
+        return removed;
+    }
+
+    public int size(long categoryId) {
+        Ranked ranked = rankings.get(categoryId);
+        return ranked == null ? 0 : ranked.productIds().length;
+    }
+
+    /** 카테고리 id, 순위 순으로 모든 항목을 돌려준다. 순위는 1부터 센다. */
+    public List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>();
+        new TreeMap<>(rankings).forEach((categoryId, ranked) -> {
+            for (int i = 0; i < ranked.productIds().length; i++) {
+                entries.add(new Entry(categoryId, i + 1, ranked.productIds()[i], ranked.scores()[i]));
+            }
+        });
+        return entries;
+    }
+
+    public boolean isEmpty() {
+        return rankings.isEmpty();
+    }
+
+    /** 순위를 계산한 시각. 아직 계산한 적이 없으면 null 이다. */
+    public LocalDateTime computedAt() {
+        return computedAt;
+    }
+
+    /**
+     * 카테고리마다 점수가 가장 낮은 후보가 맨 위에 오는 힙을 두고 상위 {@code limit} 개만 남긴다.
+     * 상품 수가 많아도 카테고리 수 x limit 만큼만 메모리를 쓴다.
+     */
+    public static final class Builder {
+        private final int limit;
+        private final Map<Long, PriorityQueue<Candidate>> candidates = new HashMap<>();
+
+        private Builder(int limit) {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("limit must be positive : " + limit);
+            }
+            this.limit = limit;
+        }
+
+        public Builder add(long categoryId, long productId, double score) {
+            PriorityQueue<Candidate> queue = candidates.computeIfAbsent(categoryId,
+                    id -> new PriorityQueue<>(limit + 1, BEST_FIRST.reversed()));
+            Candidate candidate = new Candidate(productId, score);
+
+            if (queue.size() < limit) {
+                queue.add(candidate);
+            } else if (BEST_FIRST.compare(candidate, queue.peek()) < 0) {
+                queue.poll();
+                queue.add(candidate);
+            }
+            return this;
+        }
+
+        public BestProductRanking build(LocalDateTime computedAt) {
+            Map<Long, Ranked> rankings = new HashMap<>();
+            candidates.forEach((categoryId, queue) -> {
+                Candidate[] sorted = queue.toArray(new Candidate[0]);
+                Arrays.sort(sorted, BEST_FIRST);
+
+                long[] productIds = new long[sorted.length];
+                double[] scores = new double[sorted.length];
+                for (int i = 0; i < sorted.length; i++) {
+                    productIds[i] = sorted[i].productId();
+                    scores[i] = sorted[i].score();
+                }
+                rankings.put(categoryId, new Ranked(productIds, scores));
+            });
+            return new BestProductRanking(Map.copyOf(rankings), computedAt);
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.devcourse.kurlymurly.domain.product.category;
 
 import com.devcourse.kurlymurly.data.BaseEntity;
+import com.devcourse.kurlymurly.domain.product.SecondLevelCacheConfig;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CATEGORY_REGION)
 @Table(name = "categories")
 public class Category extends BaseEntity {
     @Column(length = 20, nullable = false)
@@ -1,7 +1,21 @@
 package com.devcourse.kurlymurly.domain.product.category;
 
+import com.devcourse.kurlymurly.domain.product.SecondLevelCacheConfig;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     boolean existsById(Long id);
+
+    /** 상품 등록마다 호출되므로 쿼리 캐시에 둔다. categories 가 바뀌면 Hibernate 가 결과를 무효화한다. */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.CATEGORY_EXISTS_REGION)
+    })
+    @Query("SELECT COUNT(c.id) > 0 FROM Category c WHERE c.id = :id")
+    boolean existsCachedById(@Param("id") Long id);
 }
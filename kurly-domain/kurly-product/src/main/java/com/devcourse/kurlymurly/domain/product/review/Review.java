@@ -34,7 +34,8 @@ public class Review extends BaseEntity {
     @Column(nullable = false, columnDefinition = "text")
     private String content;
 
-    @Column(nullable = false)
+    /** ReviewLikeAccumulator 가 모아서 반영하므로 엔티티 변경으로 덮어쓰지 않는다. */
+    @Column(nullable = false, updatable = false)
     private Integer likes;
 
     @Column(nullable = false)
@@ -57,14 +58,6 @@ public class Review extends BaseEntity {
         this.isSecret = isSecret;
     }
 
-    public void liked() {
-        this.likes += 1;
-    }
-
-    public void disliked() {
-        this.likes -= 1;
-    }
-
     public void update(String content, boolean isSecret) {
         this.content = content;
         this.isSecret = isSecret;
@@ -95,6 +88,11 @@ public class Review extends BaseEntity {
         this.status = DELETED;
     }
 
+    /** 상품의 후기 수에 포함되는 상태인지 확인한다. */
+    public boolean isCounted() {
+        return this.status == NORMAL || this.status == BEST;
+    }
+
     public Long getProductId() {
         return this.productId;
     }
@@ -34,6 +34,10 @@ public class ReviewLike extends BaseEntity {
         this.isDeleted = false;
     }
 
+    public boolean isActive() {
+        return !isDeleted;
+    }
+
     public Long getReviewId() {
         return reviewId;
     }
@@ -1,9 +1,29 @@
 package com.devcourse.kurlymurly.domain.product.review;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
     Optional<ReviewLike> findByUserIdAndReviewId(Long userId, Long reviewId);
+
+    boolean existsByUserIdAndReviewId(Long userId, Long reviewId);
+
+    // 상태가 실제로 바뀐 요청만 1 을 돌려받으므로 같은 좋아요를 동시에 눌러도 한 번만 센다.
+    @Modifying
+    @Query("""
+            UPDATE ReviewLike l SET l.isDeleted = false
+            WHERE l.userId = :userId AND l.reviewId = :reviewId AND l.isDeleted = true
+            """)
+    int activateIfCanceled(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
+
+    @Modifying
+    @Query("""
+            UPDATE ReviewLike l SET l.isDeleted = true
+            WHERE l.userId = :userId AND l.reviewId = :reviewId AND l.isDeleted = false
+            """)
+    int cancelIfActive(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
 }
@@ -1,25 +1,25 @@
 package com.devcourse.kurlymurly.domain.product.review;
 
 import com.devcourse.kurlymurly.web.product.ReviewResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.List;
-
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("""
             SELECT NEW com.devcourse.kurlymurly.web.product.ReviewResponse$Reviewed(
-                 r.id, p.id, p.name, r.content, r.isSecret, r.createAt, r.updatedAt
+                 r.id, r.productId, r.productName, r.content, r.isSecret, r.createAt, r.updatedAt
             )
             FROM Review r
-            LEFT JOIN User u ON u.id = :userId
-            LEFT JOIN Product p ON p.id = r.productId
-            WHERE r.status in ('NORMAL', 'BEST')
+            WHERE r.userId = :userId
+            AND r.status in ('NORMAL', 'BEST')
+            AND r.id < :startId
             ORDER BY r.id DESC
             """)
-    List<ReviewResponse.Reviewed> getAllReviewsByUserId(@Param("userId") Long userId);
+    Slice<ReviewResponse.Reviewed> getReviewsByUserIdFromStart(@Param("userId") Long userId, @Param("startId") Long startId, Pageable pageable);
 
     @Query("""
             SELECT NEW com.devcourse.kurlymurly.web.product.ReviewResponse$OfProduct(
@@ -29,9 +29,14 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             LEFT JOIN User u ON u.id = r.userId
             LEFT JOIN Product p ON p.id = r.productId
             WHERE r.status in ('NORMAL', 'BEST')
-            AND r.id < :startId AND p.id = :productId
+            AND r.id < :startId AND r.productId = :productId
             ORDER BY r.id DESC
             LIMIT 10
             """)
     Slice<ReviewResponse.OfProduct> getTenReviewsOfProductFromStart(@Param("productId") Long productId, @Param("startId") Long startId);
+
+    // 후기 수에 포함되는 상태일 때만 바꾸므로 같은 후기를 동시에 처리해도 한 요청만 1 을 돌려받는다.
+    @Modifying
+    @Query("UPDATE Review r SET r.status = :status WHERE r.id = :id AND r.status IN ('NORMAL', 'BEST')")
+    int updateStatusIfCounted(@Param("id") Long id, @Param("status") Review.Status status);
 }
@@ -0,0 +1,351 @@
+package com.devcourse.kurlymurly.domain.product.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 상품 이름 자동완성용 압축 트라이. 만든 뒤에는 바꾸지 않으므로 여러 스레드가 락 없이 읽는다.
+ * <p>
+ * 이름을 {@link Jamo} 로 풀어 쓴 문자열과, 각 단어에서 시작하는 뒷부분을 키로 넣는다. ("양념 LA 갈비" 는 "갈" 로도 찾는다.)
+ * 가지가 하나뿐인 구간은 간선 하나로 합치고, 노드마다 인기순 상위 k 개를 미리 담아 두어
+ * 질의는 입력 길이만큼 트라이를 내려가는 것으로 끝난다.
+ */
+public final class AutocompleteIndex {
+    /** 키는 이 길이(자모 수)까지만 넣는다. 더 긴 입력은 앞부분으로만 찾는다. */
+    static final int MAX_KEY_LENGTH = 48;
+    private static final int MAX_WORD_STARTS = 4;
+    private static final int ROOT = 0;
+
+    public record Suggestion(long productId, String name) {
+    }
+
+    private final int topK;
+    private final long[] productIds;
+    private final String[] names;
+    private final char[][] jamo;
+    private final int[] keySuggestion;
+    private final int[] keyOffset;
+
+    private final int[] labelKey;
+    private final int[] labelStart;
+    private final int[] labelEnd;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topStart;
+    private final int[] topLength;
+    private final int[] top;
+
+    private AutocompleteIndex(int topK, long[] productIds, String[] names, char[][] jamo, Builder.Key[] keys, Nodes nodes) {
+        this.topK = topK;
+        this.productIds = productIds;
+        this.names = names;
+        this.jamo = jamo;
+        this.keySuggestion = new int[keys.length];
+        this.keyOffset = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keySuggestion[i] = keys[i].suggestion();
+            keyOffset[i] = keys[i].offset();
+        }
+        this.labelKey = Arrays.copyOf(nodes.labelKey, nodes.count);
+        this.labelStart = Arrays.copyOf(nodes.labelStart, nodes.count);
+        this.labelEnd = Arrays.copyOf(nodes.labelEnd, nodes.count);
+        this.firstChild = Arrays.copyOf(nodes.firstChild, nodes.count);
+        this.childCount = Arrays.copyOf(nodes.childCount, nodes.count);
+        this.topStart = Arrays.copyOf(nodes.topStart, nodes.count);
+        this.topLength = Arrays.copyOf(nodes.topLength, nodes.count);
+        this.top = Arrays.copyOf(nodes.top, nodes.topCount);
+    }
+
+    public static Builder builder(int topK) {
+        return new Builder(topK);
+    }
+
+    public static AutocompleteIndex empty() {
+        return builder(1).build();
+    }
+
+    /**
+     * 입력으로 시작하는 상품을 인기순으로 최대 {@code limit} 개 돌려준다. {@code limit} 는 만들 때 정한 k 를 넘을 수 없다.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String query = Jamo.decompose(prefix);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        int node = find(query.substring(0, Math.min(query.length(), MAX_KEY_LENGTH)));
+        if (node < 0) {
+            return List.of();
+        }
+
+        int length = Math.min(limit, topLength[node]);
+        List<Suggestion> suggestions = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            int suggestion = top[topStart[node] + i];
+            suggestions.add(new Suggestion(productIds[suggestion], names[suggestion]));
+        }
+        return suggestions;
+    }
+
+    public int topK() {
+        return topK;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public int nodeCount() {
+        return labelKey.length;
+    }
+
+    /** 자모 키와 노드 배열이 차지하는 대략적인 바이트 수. 상품 이름 문자열은 뺀다. */
+    public long memoryBytes() {
+        long bytes = (long) productIds.length * Long.BYTES + (long) top.length * Integer.BYTES;
+        bytes += (long) keySuggestion.length * Integer.BYTES * 2;
+        bytes += (long) labelKey.length * Integer.BYTES * 7;
+        for (char[] chars : jamo) {
+            bytes += 16 + (long) chars.length * Character.BYTES;
+        }
+        return bytes;
+    }
+
+    private int find(String query) {
+        int node = ROOT;
+        int position = 0;
+        while (position < query.length()) {
+            int child = findChild(node, query.charAt(position));
+            if (child < 0) {
+                return -1;
+            }
+
+            int key = labelKey[child];
+            char[] label = jamo[keySuggestion[key]];
+            int offset = keyOffset[key];
+            for (int i = labelStart[child]; i < labelEnd[child] && position < query.length(); i++, position++) {
+                if (label[offset + i] != query.charAt(position)) {
+                    return -1;
+                }
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    private int findChild(int node, char c) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int key = labelKey[middle];
+            char first = jamo[keySuggestion[key]][keyOffset[key] + labelStart[middle]];
+            if (first < c) {
+                low = middle + 1;
+            } else if (first > c) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    public static final class Builder {
+        private record Candidate(long productId, String name, long popularity) {
+        }
+
+        /** 상품 번호 suggestion 의 자모 문자열에서 offset 부터 length 만큼이 키이다. */
+        private record Key(char[] jamo, int suggestion, int offset, int length) {
+            char charAt(int depth) {
+                return jamo[offset + depth];
+            }
+        }
+
+        private static final Comparator<Candidate> BY_POPULARITY = Comparator.comparingLong(Candidate::popularity).reversed()
+                .thenComparing(Candidate::name)
+                .thenComparingLong(Candidate::productId);
+
+        private static final Comparator<Key> BY_KEY = (left, right) -> {
+            int compared = Arrays.compare(left.jamo(), left.offset(), left.offset() + left.length(),
+                    right.jamo(), right.offset(), right.offset() + right.length());
+            return compared != 0 ? compared : Integer.compare(left.suggestion(), right.suggestion());
+        };
+
+        private final int topK;
+        private final List<Candidate> candidates = new ArrayList<>();
+
+        private Builder(int topK) {
+            if (topK <= 0) {
+                throw new IllegalArgumentException("topK must be positive : " + topK);
+            }
+            this.topK = topK;
+        }
+
+        public Builder add(long productId, String name, long popularity) {
+            candidates.add(new Candidate(productId, name, popularity));
+            return this;
+        }
+
+        public AutocompleteIndex build() {
+            // 인기순으로 번호를 매기면 번호가 작을수록 인기가 높으므로, 상위 k 개는 번호 순 병합으로 구할 수 있다.
+            candidates.sort(BY_POPULARITY);
+            long[] productIds = new long[candidates.size()];
+            String[] names = new String[candidates.size()];
+            char[][] jamo = new char[candidates.size()][];
+            List<Key> keys = new ArrayList<>();
+
+            StringBuilder decomposed = new StringBuilder();
+            int[] wordStarts = new int[MAX_WORD_STARTS];
+            for (int i = 0; i < candidates.size(); i++) {
+                Candidate candidate = candidates.get(i);
+                productIds[i] = candidate.productId();
+                names[i] = candidate.name();
+
+                decomposed.setLength(0);
+                int words = Jamo.decompose(candidate.name(), decomposed, wordStarts);
+                int length = Math.min(decomposed.length(), wordStarts[Math.max(0, words - 1)] + MAX_KEY_LENGTH);
+                jamo[i] = new char[length];
+                decomposed.getChars(0, length, jamo[i], 0);
+                for (int w = 0; w < words; w++) {
+                    keys.add(new Key(jamo[i], i, wordStarts[w], Math.min(length - wordStarts[w], MAX_KEY_LENGTH)));
+                }
+            }
+            keys.sort(BY_KEY);
+
+            Key[] sorted = keys.toArray(Key[]::new);
+            Nodes nodes = new Nodes(topK);
+            int root = nodes.allocate(1);
+            nodes.link(root, 0, 0, 0);
+            nodes.build(sorted, root, 0, sorted.length, 0);
+            return new AutocompleteIndex(topK, productIds, names, jamo, sorted, nodes);
+        }
+    }
+
+    /**
+     * 정렬된 키 배열 위에서 노드를 만든다. 한 노드 아래의 키는 정렬 순서상 연속된 구간이므로,
+     * 구간의 첫 키와 마지막 키의 공통 접두사 길이가 곧 합쳐진 간선의 끝이다.
+     */
+    private static final class Nodes {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final int topK;
+
+        private int[] labelKey = new int[INITIAL_CAPACITY];
+        private int[] labelStart = new int[INITIAL_CAPACITY];
+        private int[] labelEnd = new int[INITIAL_CAPACITY];
+        private int[] firstChild = new int[INITIAL_CAPACITY];
+        private int[] childCount = new int[INITIAL_CAPACITY];
+        private int[] topStart = new int[INITIAL_CAPACITY];
+        private int[] topLength = new int[INITIAL_CAPACITY];
+        private int count;
+
+        private int[] top = new int[INITIAL_CAPACITY];
+        private int topCount;
+
+        Nodes(int topK) {
+            this.topK = topK;
+        }
+
+        int allocate(int size) {
+            int first = count;
+            count += size;
+            if (count > labelKey.length) {
+                int capacity = Math.max(count, labelKey.length * 2);
+                labelKey = Arrays.copyOf(labelKey, capacity);
+                labelStart = Arrays.copyOf(labelStart, capacity);
+                labelEnd = Arrays.copyOf(labelEnd, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                childCount = Arrays.copyOf(childCount, capacity);
+                topStart = Arrays.copyOf(topStart, capacity);
+                topLength = Arrays.copyOf(topLength, capacity);
+            }
+            return first;
+        }
+
+        void link(int node, int key, int start, int end) {
+            labelKey[node] = key;
+            labelStart[node] = start;
+            labelEnd[node] = end;
+        }
+
+        /** keys[low, high) 는 모두 앞의 depth 글자가 같고, node 의 간선은 depth 에서 끝난다. */
+        void build(Builder.Key[] keys, int node, int low, int high, int depth) {
+            int terminalEnd = low;
+            while (terminalEnd < high && keys[terminalEnd].length() == depth) {
+                terminalEnd++;
+            }
+
+            int children = 0;
+            for (int i = terminalEnd; i < high; i = groupEnd(keys, i, high, depth)) {
+                children++;
+            }
+
+            int first = allocate(children);
+            firstChild[node] = first;
+            childCount[node] = children;
+
+            int child = first;
+            for (int i = terminalEnd; i < high; ) {
+                int end = groupEnd(keys, i, high, depth);
+                int edgeEnd = commonPrefix(keys[i], keys[end - 1], depth + 1);
+                link(child, i, depth, edgeEnd);
+                build(keys, child, i, end, edgeEnd);
+                child++;
+                i = end;
+            }
+
+            collectTop(keys, node, low, terminalEnd, first, children);
+        }
+
+        private int groupEnd(Builder.Key[] keys, int from, int high, int depth) {
+            char c = keys[from].charAt(depth);
+            int end = from + 1;
+            while (end < high && keys[end].charAt(depth) == c) {
+                end++;
+            }
+            return end;
+        }
+
+        private int commonPrefix(Builder.Key left, Builder.Key right, int from) {
+            int length = Math.min(left.length(), right.length());
+            int i = from;
+            while (i < length && left.charAt(i) == right.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+
+        // 이 노드에서 끝나는 키와 자식들의 상위 k 개를 합쳐 번호(인기) 순으로 중복 없이 k 개를 고른다.
+        private void collectTop(Builder.Key[] keys, int node, int terminalLow, int terminalHigh, int first, int children) {
+            int[] merged = new int[terminalHigh - terminalLow + children * topK];
+            int size = 0;
+            for (int i = terminalLow; i < terminalHigh; i++) {
+                merged[size++] = keys[i].suggestion();
+            }
+            for (int child = first; child < first + children; child++) {
+                System.arraycopy(top, topStart[child], merged, size, topLength[child]);
+                size += topLength[child];
+            }
+            Arrays.sort(merged, 0, size);
+
+            ensureTopCapacity(topK);
+            topStart[node] = topCount;
+            int length = 0;
+            for (int i = 0; i < size && length < topK; i++) {
+                if (i == 0 || merged[i] != merged[i - 1]) {
+                    top[topCount++] = merged[i];
+                    length++;
+                }
+            }
+            topLength[node] = length;
+        }
+
+        private void ensureTopCapacity(int extra) {
+            if (topCount + extra > top.length) {
+                top = Arrays.copyOf(top, Math.max(top.length * 2, topCount + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.devcourse.kurlymurly.domain.product.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 한글은 띄어쓰기가 일정하지 않고 복합어가 많아서 형태소 대신 글자 2-gram 으로 색인한다.
+ * ("국내산소고기" 와 "국내산 소고기" 가 같은 term 을 만든다.)
+ * term 은 두 글자를 int 하나에 담고, 한 글자짜리 단어는 글자 하나만 담는다.
+ */
+public final class BigramTokenizer {
+    private BigramTokenizer() {
+    }
+
+    @FunctionalInterface
+    public interface TermConsumer {
+        void accept(int term);
+    }
+
+    public static void tokenize(String text, TermConsumer consumer) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!wordChar && wordStart >= 0) {
+                emitWord(normalized, wordStart, i, consumer);
+                wordStart = -1;
+            }
+        }
+    }
+
+    private static void emitWord(String text, int start, int end, TermConsumer consumer) {
+        if (end - start == 1) {
+            consumer.accept(term(text.charAt(start), '\0'));
+            return;
+        }
+
+        for (int i = start; i < end - 1; i++) {
+            consumer.accept(term(text.charAt(i), text.charAt(i + 1)));
+        }
+    }
+
+    static int term(char first, char second) {
+        return first << 16 | second;
+    }
+}
@@ -0,0 +1,87 @@
+package com.devcourse.kurlymurly.domain.product.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 한글을 자판에서 누르는 순서대로 자모로 풀어 쓴다.
+ * 입력 중인 "달" 이 "닭" 의 앞부분과 맞도록 겹받침과 이중 모음도 낱자로 나눈다. ("닭" -> ㄷㅏㄹㄱ, "과" -> ㄱㅗㅏ)
+ * 초성과 받침은 같은 호환 자모로 바꾸므로 "간" 은 "가나" 의 앞부분이 된다.
+ */
+final class Jamo {
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = split("ㄱ ㄲ ㄴ ㄷ ㄸ ㄹ ㅁ ㅂ ㅃ ㅅ ㅆ ㅇ ㅈ ㅉ ㅊ ㅋ ㅌ ㅍ ㅎ");
+    private static final String[] JUNGSEONG = split("ㅏ ㅐ ㅑ ㅒ ㅓ ㅔ ㅕ ㅖ ㅗ ㅗㅏ ㅗㅐ ㅗㅣ ㅛ ㅜ ㅜㅓ ㅜㅔ ㅜㅣ ㅠ ㅡ ㅡㅣ ㅣ");
+    private static final String[] JONGSEONG = split("_ ㄱ ㄲ ㄱㅅ ㄴ ㄴㅈ ㄴㅎ ㄷ ㄹ ㄹㄱ ㄹㅁ ㄹㅂ ㄹㅅ ㄹㅌ ㄹㅍ ㄹㅎ ㅁ ㅂ ㅂㅅ ㅅ ㅆ ㅇ ㅈ ㅊ ㅋ ㅌ ㅍ ㅎ");
+
+    // 호환 자모(ㄱ, ㅏ 등)는 NFKC 를 거치면 조합형 자모(U+1100 ~ U+11FF)로 바뀐다.
+    private static final char CHOSEONG_BASE = '\u1100';
+    private static final char JUNGSEONG_BASE = '\u1161';
+    private static final char JONGSEONG_BASE = '\u11A7';
+
+    private Jamo() {
+    }
+
+    /**
+     * 글자와 숫자만 남겨 자모로 풀고, 단어가 시작하는 위치를 {@code wordStarts} 에 차례로 적는다.
+     *
+     * @return 채운 단어 시작 위치 개수
+     */
+    static int decompose(String text, StringBuilder out, int[] wordStarts) {
+        if (text == null) {
+            return 0;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                inWord = false;
+                continue;
+            }
+
+            if (!inWord && words < wordStarts.length) {
+                wordStarts[words++] = out.length();
+            }
+            inWord = true;
+            append(c, out);
+        }
+        return words;
+    }
+
+    static String decompose(String text) {
+        StringBuilder out = new StringBuilder();
+        decompose(text, out, new int[0]);
+        return out.toString();
+    }
+
+    private static void append(char c, StringBuilder out) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            int index = c - SYLLABLE_BASE;
+            out.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            out.append(JUNGSEONG[index % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT]);
+            int jongseong = index % JONGSEONG_COUNT;
+            if (jongseong > 0) {
+                out.append(JONGSEONG[jongseong]);
+            }
+        } else if (c >= CHOSEONG_BASE && c < CHOSEONG_BASE + CHOSEONG.length) {
+            out.append(CHOSEONG[c - CHOSEONG_BASE]);
+        } else if (c >= JUNGSEONG_BASE && c < JUNGSEONG_BASE + JUNGSEONG_COUNT) {
+            out.append(JUNGSEONG[c - JUNGSEONG_BASE]);
+        } else if (c > JONGSEONG_BASE && c < JONGSEONG_BASE + JONGSEONG_COUNT) {
+            out.append(JONGSEONG[c - JONGSEONG_BASE]);
+        } else {
+            out.append(c);
+        }
+    }
+
+    private static String[] split(String jamo) {
+        return jamo.split(" ");
+    }
+}
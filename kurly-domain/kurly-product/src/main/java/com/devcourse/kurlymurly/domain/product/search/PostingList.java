@@ -0,0 +1,86 @@
+package com.devcourse.kurlymurly.domain.product.search;
+
+import java.util.Arrays;
+
+/**
+ * 문서 번호 차이와 빈도를 varint 로 이어 붙인 posting list.
+ * 문서 번호는 항상 증가하는 순서로만 추가되므로 차이는 대부분 1~2 바이트에 들어간다.
+ */
+final class PostingList {
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(int doc, int frequency);
+    }
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int lastDoc = -1;
+    private int documentCount;
+
+    void add(int doc, int frequency) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("documents must be added in increasing order : " + doc + " <= " + lastDoc);
+        }
+
+        writeVarint(doc - lastDoc);
+        writeVarint(frequency);
+        lastDoc = doc;
+        documentCount++;
+    }
+
+    void forEach(PostingConsumer consumer) {
+        int position = 0;
+        int doc = -1;
+        while (position < length) {
+            int delta = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+
+            int frequency = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[position++];
+                frequency |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+
+            doc += delta;
+            consumer.accept(doc, frequency);
+        }
+    }
+
+    int documentCount() {
+        return documentCount;
+    }
+
+    long memoryBytes() {
+        return bytes.length;
+    }
+
+    void trim() {
+        bytes = Arrays.copyOf(bytes, length);
+    }
+
+    private void writeVarint(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+}
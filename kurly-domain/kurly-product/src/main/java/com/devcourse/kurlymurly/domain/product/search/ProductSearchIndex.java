@@ -0,0 +1,317 @@
+package com.devcourse.kurlymurly.domain.product.search;
+
+import com.devcourse.kurlymurly.domain.product.Product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 이름, 설명, 상세 정보를 글자 2-gram 으로 색인하는 메모리 역색인.
+ * 점수는 BM25 이고, 질의 term 의 절반 이상이 들어간 상품만 결과에 넣는다.
+ * <p>
+ * 상품이 바뀌면 기존 문서를 지우고 새 문서 번호로 다시 추가한다. 지워진 문서는 posting 에 남아 있다가
+ * 전체의 1/4 을 넘으면 {@link #compact()} 로 정리한다. 정리 전까지는 지워진 문서도 문서 빈도(idf)에 들어간다.
+ * 검색은 읽기 락, 색인 변경은 쓰기 락 아래에서 실행한다.
+ */
+public class ProductSearchIndex {
+    private static final int NAME_WEIGHT = 3;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docsByProductId = new HashMap<>();
+
+    private long[] productIds = new long[INITIAL_CAPACITY];
+    private long[] categoryIds = new long[INITIAL_CAPACITY];
+    private byte[] deliveries = new byte[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private final BitSet kurlyOnly = new BitSet();
+    private final BitSet live = new BitSet();
+
+    private int docCount;
+    private int liveCount;
+    private long totalLength;
+
+    /**
+     * 상품을 추가하거나 바꾼다. 삭제된 상품은 색인에서 뺀다.
+     */
+    public void upsert(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.productId());
+            if (document.status() != Product.Status.DELETED) {
+                addInternal(document);
+            }
+            if (docCount - liveCount > Math.max(INITIAL_CAPACITY, docCount / 4)) {
+                compactInternal();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SearchHit> search(String query, SearchFilter filter, int limit) {
+        int[] terms = queryTerms(query);
+        if (terms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return searchInternal(terms, filter, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            compactInternal();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * posting 과 문서 배열이 차지하는 대략적인 바이트 수. 해시 맵 자체의 크기는 뺀다.
+     */
+    public long memoryBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = (long) productIds.length * (Long.BYTES * 2 + Integer.BYTES + 1);
+            for (PostingList postingList : postings.values()) {
+                bytes += postingList.memoryBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(SearchDocument document) {
+        Map<Integer, Integer> frequencies = new HashMap<>();
+        BigramTokenizer.tokenize(document.name(), term -> frequencies.merge(term, NAME_WEIGHT, Integer::sum));
+        BigramTokenizer.tokenize(document.description(), term -> frequencies.merge(term, 1, Integer::sum));
+        BigramTokenizer.tokenize(document.detail(), term -> frequencies.merge(term, 1, Integer::sum));
+
+        int doc = docCount++;
+        ensureCapacity(docCount);
+        productIds[doc] = document.productId();
+        categoryIds[doc] = document.categoryId();
+        deliveries[doc] = (byte) document.delivery().ordinal();
+        kurlyOnly.set(doc, document.kurlyOnly());
+        live.set(doc);
+
+        int length = 0;
+        for (Map.Entry<Integer, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).add(doc, entry.getValue());
+            length += entry.getValue();
+        }
+        lengths[doc] = length;
+        totalLength += length;
+        liveCount++;
+        docsByProductId.put(document.productId(), doc);
+    }
+
+    private void removeInternal(long productId) {
+        Integer doc = docsByProductId.remove(productId);
+        if (doc == null) {
+            return;
+        }
+
+        live.clear(doc);
+        liveCount--;
+        totalLength -= lengths[doc];
+    }
+
+    private List<SearchHit> searchInternal(int[] terms, SearchFilter filter, int limit) {
+        ScoreAccumulator scores = new ScoreAccumulator(postingCount(terms));
+        float averageLength = liveCount == 0 ? 1 : (float) totalLength / liveCount;
+
+        for (int term : terms) {
+            PostingList postingList = postings.get(term);
+            if (postingList == null) {
+                continue;
+            }
+
+            float idf = idf(postingList.documentCount());
+            postingList.forEach((doc, frequency) -> {
+                if (!live.get(doc) || !matches(doc, filter)) {
+                    return;
+                }
+
+                float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                scores.add(doc, idf * frequency * (K1 + 1) / (frequency + norm));
+            });
+        }
+
+        int minimumMatches = (terms.length + 1) / 2;
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(SearchHit::score));
+        for (int slot = 0; slot < scores.docs.length; slot++) {
+            int doc = scores.docs[slot] - 1;
+            if (doc >= 0 && scores.matches[slot] >= minimumMatches) {
+                float score = scores.scores[slot];
+                if (top.size() < limit) {
+                    top.add(new SearchHit(productIds[doc], score));
+                } else if (score > top.peek().score()) {
+                    top.poll();
+                    top.add(new SearchHit(productIds[doc], score));
+                }
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed().thenComparingLong(SearchHit::productId));
+        return hits;
+    }
+
+    // 질의 term 의 posting 을 모두 더한 값이 점수를 받을 수 있는 문서 수의 상한이다.
+    private int postingCount(int[] terms) {
+        long count = 0;
+        for (int term : terms) {
+            PostingList postingList = postings.get(term);
+            if (postingList != null) {
+                count += postingList.documentCount();
+            }
+        }
+        return (int) Math.min(count, docCount);
+    }
+
+    private boolean matches(int doc, SearchFilter filter) {
+        if (filter.categoryId() != null && categoryIds[doc] != filter.categoryId()) {
+            return false;
+        }
+        if (filter.delivery() != null && deliveries[doc] != filter.delivery().ordinal()) {
+            return false;
+        }
+        return filter.kurlyOnly() == null || kurlyOnly.get(doc) == filter.kurlyOnly();
+    }
+
+    // posting 의 문서 수에는 지워진 문서도 들어 있으므로 전체 문서 수도 지워진 문서를 포함해서 센다.
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1 + (docCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void compactInternal() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (live.get(doc)) {
+                remap[doc] = next;
+                productIds[next] = productIds[doc];
+                categoryIds[next] = categoryIds[doc];
+                deliveries[next] = deliveries[doc];
+                lengths[next] = lengths[doc];
+                kurlyOnly.set(next, kurlyOnly.get(doc));
+                next++;
+            } else {
+                remap[doc] = -1;
+            }
+        }
+
+        postings.replaceAll((term, postingList) -> {
+            PostingList compacted = new PostingList();
+            postingList.forEach((doc, frequency) -> {
+                if (remap[doc] >= 0) {
+                    compacted.add(remap[doc], frequency);
+                }
+            });
+            compacted.trim();
+            return compacted;
+        });
+        postings.values().removeIf(postingList -> postingList.documentCount() == 0);
+
+        docsByProductId.replaceAll((productId, doc) -> remap[doc]);
+        live.clear();
+        live.set(0, next);
+        kurlyOnly.clear(next, docCount);
+        docCount = next;
+    }
+
+    private int[] queryTerms(String query) {
+        List<Integer> terms = new ArrayList<>();
+        BigramTokenizer.tokenize(query, term -> {
+            if (!terms.contains(term)) {
+                terms.add(term);
+            }
+        });
+        return terms.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= productIds.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, productIds.length * 2);
+        productIds = Arrays.copyOf(productIds, newCapacity);
+        categoryIds = Arrays.copyOf(categoryIds, newCapacity);
+        deliveries = Arrays.copyOf(deliveries, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+    }
+
+    /**
+     * 검색 한 번의 문서별 점수를 모으는 open addressing 해시 테이블. 전체 문서 수가 아니라 건드릴 posting 수만큼만 잡는다.
+     * 빈 칸은 0 이고 문서 번호는 1 을 더해서 넣는다.
+     */
+    private static final class ScoreAccumulator {
+        private final int[] docs;
+        private final float[] scores;
+        private final byte[] matches;
+        private final int mask;
+
+        ScoreAccumulator(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 1) * 2 - 1) << 1;
+            docs = new int[capacity];
+            scores = new float[capacity];
+            matches = new byte[capacity];
+            mask = capacity - 1;
+        }
+
+        void add(int doc, float score) {
+            int slot = (doc * 0x9E3779B9) & mask;
+            while (docs[slot] != 0 && docs[slot] != doc + 1) {
+                slot = (slot + 1) & mask;
+            }
+
+            docs[slot] = doc + 1;
+            scores[slot] += score;
+            if (matches[slot] < Byte.MAX_VALUE) {
+                matches[slot]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.devcourse.kurlymurly.domain.product.search;
+
+import com.devcourse.kurlymurly.domain.product.Product;
+
+/**
+ * 색인에 넣는 상품 스냅샷. 이름은 설명, 상세 정보보다 가중치를 크게 준다.
+ */
+public record SearchDocument(
+        long productId,
+        long categoryId,
+        Product.Delivery delivery,
+        Product.Status status,
+        boolean kurlyOnly,
+        String name,
+        String description,
+        String detail
+) {
+    public static SearchDocument from(Product product) {
+        return new SearchDocument(
+                product.getId(),
+                product.getCategoryId(),
+                product.getDelivery(),
+                product.getStatus(),
+                product.isKurlyOnly(),
+                product.getName(),
+                product.getDescription(),
+                product.getDetail() == null ? null : product.getDetail().toSearchText()
+        );
+    }
+}
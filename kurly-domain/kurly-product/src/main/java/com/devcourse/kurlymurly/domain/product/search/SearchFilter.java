@@ -0,0 +1,10 @@
+package com.devcourse.kurlymurly.domain.product.search;
+
+import com.devcourse.kurlymurly.domain.product.Product;
+
+/**
+ * null 인 조건은 거르지 않는다. 삭제된 상품은 색인에 남지 않으므로 따로 거를 필요가 없다.
+ */
+public record SearchFilter(Long categoryId, Product.Delivery delivery, Boolean kurlyOnly) {
+    public static final SearchFilter NONE = new SearchFilter(null, null, null);
+}
@@ -0,0 +1,4 @@
+package com.devcourse.kurlymurly.domain.product.search;
+
+public record SearchHit(long productId, float score) {
+}
@@ -0,0 +1,49 @@
+package com.devcourse.kurlymurly.domain.product.stock;
+
+import com.devcourse.kurlymurly.data.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * 한 상품의 재고를 여러 행으로 나눈 것 중 하나. 상품의 재고는 모든 칸의 합이다.
+ * 인기 상품에 주문이 몰려도 주문마다 다른 칸을 잡으므로 한 행의 락을 두고 줄을 서지 않는다.
+ */
+@Entity
+@Table(name = "product_stocks", uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "bucket"}))
+public class StockBucket extends BaseEntity {
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private int bucket;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    protected StockBucket() {
+    }
+
+    public StockBucket(Long productId, int bucket, int quantity) {
+        this.productId = productId;
+        this.bucket = bucket;
+        this.quantity = quantity;
+    }
+
+    public void refill(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public int getBucket() {
+        return bucket;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,38 @@
+package com.devcourse.kurlymurly.domain.product.stock;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StockBucketRepository extends JpaRepository<StockBucket, Long> {
+    // 빈 칸에는 되돌리지 않는다. 재고가 0 인 상품은 칸을 모두 잠그고 더해야 품절을 풀 수 있다.
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE StockBucket s SET s.quantity = s.quantity + :quantity
+            WHERE s.productId = :productId AND s.bucket = :bucket AND s.quantity > 0
+            """)
+    int putBack(@Param("productId") Long productId, @Param("bucket") int bucket, @Param("quantity") int quantity);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StockBucket s WHERE s.productId = :productId ORDER BY s.bucket")
+    List<StockBucket> findAllByProductIdForUpdate(@Param("productId") Long productId);
+
+    boolean existsByProductId(Long productId);
+
+    @Query("""
+            SELECT new com.devcourse.kurlymurly.domain.product.stock.StockTotal(s.productId, SUM(s.quantity))
+            FROM StockBucket s
+            WHERE s.productId IN :productIds
+            GROUP BY s.productId
+            """)
+    List<StockTotal> sumQuantityByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT COALESCE(SUM(s.quantity), 0) FROM StockBucket s WHERE s.productId = :productId")
+    long sumQuantityByProductId(@Param("productId") Long productId);
+}
@@ -0,0 +1,4 @@
+package com.devcourse.kurlymurly.domain.product.stock;
+
+public record StockTotal(Long productId, Long quantity) {
+}
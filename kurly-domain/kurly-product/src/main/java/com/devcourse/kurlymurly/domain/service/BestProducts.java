@@ -0,0 +1,127 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import com.devcourse.kurlymurly.domain.product.best.BestProductRanker;
+import com.devcourse.kurlymurly.domain.product.best.BestProductRanking;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 베스트 상품 순위표를 메모리에 들고 있는다.
+ * 순위는 주기적으로 다시 계산해서 best_products 에 저장한 뒤 참조만 바꿔 끼우고, 서버가 뜰 때는 저장된 순위부터 읽는다.
+ * 삭제된 상품은 다음 계산을 기다리지 않고 바로 순위표에서 빼서 페이지가 비지 않게 한다.
+ * 여러 인스턴스 중 갱신을 맡은 한 곳만 계산하고, 나머지는 그 인스턴스가 저장한 순위를 읽는다.
+ */
+@Component
+public class BestProducts implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(BestProducts.class);
+
+    private final BestProductRanker ranker;
+    private final Duration refreshInterval;
+    private final boolean refreshEnabled;
+
+    private final AtomicReference<BestProductRanking> ranking = new AtomicReference<>(BestProductRanking.empty());
+    private volatile long lastRefreshNanos;
+
+    public BestProducts(
+            BestProductRanker ranker,
+            @Value("${kurly.best.refresh-interval:PT10M}") Duration refreshInterval,
+            @Value("${kurly.best.refresh-enabled:true}") boolean refreshEnabled
+    ) {
+        this.ranker = ranker;
+        this.refreshInterval = refreshInterval;
+        this.refreshEnabled = refreshEnabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            replace(ranker.load());
+        } catch (DataAccessException e) {
+            log.warn("saved best product ranking could not be loaded, waiting for the next refresh", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${kurly.best.initial-delay:PT1M}",
+            fixedDelayString = "${kurly.best.refresh-interval:PT10M}"
+    )
+    public synchronized void refresh() {
+        if (!refreshEnabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!ranker.claimRefresh(now, refreshInterval)) {
+            load();
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        BestProductRanking computed = ranker.compute(now);
+        ranker.save(computed);
+        replace(computed);
+
+        lastRefreshNanos = System.nanoTime() - startedAt;
+        log.info("best product ranking refreshed: {} products in {} ms",
+                computed.size(BestProductRanking.ALL_CATEGORIES), TimeUnit.NANOSECONDS.toMillis(lastRefreshNanos));
+    }
+
+    public BestProductRanking ranking() {
+        return ranking.get();
+    }
+
+    void replace(BestProductRanking ranking) {
+        this.ranking.set(ranking);
+    }
+
+    public void remove(long productId) {
+        ranking.updateAndGet(current -> current.without(productId));
+    }
+
+    public void removeAfterCommit(long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(productId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(productId);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("kurly.best.products", this, best -> best.ranking().size(BestProductRanking.ALL_CATEGORIES))
+                .register(registry);
+        Gauge.builder("kurly.best.age", this, BestProducts::ageSeconds)
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("kurly.best.refresh.duration", this, best -> best.lastRefreshNanos / 1e9)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    private double ageSeconds() {
+        LocalDateTime computedAt = ranking().computedAt();
+        return computedAt == null ? Double.NaN : Duration.between(computedAt, LocalDateTime.now()).toMillis() / 1e3;
+    }
+}
@@ -17,7 +17,7 @@ public class CategoryQuery {
     }
 
     public void validateIsExist(Long id) {
-        if (!categoryRepository.existsById(id)) {
+        if (!categoryRepository.existsCachedById(id)) {
             throw KurlyBaseException.withId(CATEGORY_NOT_FOUND, id);
         }
     }
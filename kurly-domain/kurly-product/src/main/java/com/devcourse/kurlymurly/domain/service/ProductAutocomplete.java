@@ -0,0 +1,99 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import com.devcourse.kurlymurly.domain.product.ProductRepository;
+import com.devcourse.kurlymurly.domain.product.search.AutocompleteIndex;
+import com.devcourse.kurlymurly.web.product.ProductResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 이름 자동완성. 주문이 많은 상품을 먼저 보여준다.
+ * 색인은 백그라운드에서 통째로 새로 만든 뒤 참조만 바꿔 끼우므로, 조회는 다시 만드는 동안에도 막히지 않고 이전 색인을 읽는다.
+ * 자동완성을 제공하지 않는 서버는 kurly.autocomplete.enabled=false 로 색인을 만들지 않는다.
+ */
+@Component
+public class ProductAutocomplete implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(ProductAutocomplete.class);
+
+    private final ProductRepository productRepository;
+    private final int topK;
+    private final int rebuildBatchSize;
+    private final boolean enabled;
+
+    private volatile AutocompleteIndex index = AutocompleteIndex.empty();
+    private volatile long lastRebuildNanos;
+
+    public ProductAutocomplete(
+            ProductRepository productRepository,
+            @Value("${kurly.autocomplete.top-k:10}") int topK,
+            @Value("${kurly.autocomplete.rebuild-batch-size:5000}") int rebuildBatchSize,
+            @Value("${kurly.autocomplete.enabled:true}") boolean enabled
+    ) {
+        this.productRepository = productRepository;
+        this.topK = topK;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(
+            initialDelayString = "${kurly.autocomplete.initial-delay:PT0S}",
+            fixedDelayString = "${kurly.autocomplete.rebuild-interval:PT10M}"
+    )
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        AutocompleteIndex.Builder builder = AutocompleteIndex.builder(topK);
+
+        long lastId = 0;
+        List<ProductRepository.NameWithOrderCount> products;
+        do {
+            products = productRepository.findNamesWithOrderCountAfter(lastId, rebuildBatchSize);
+            for (ProductRepository.NameWithOrderCount product : products) {
+                builder.add(product.getId(), product.getName(), product.getOrderCount());
+            }
+            if (!products.isEmpty()) {
+                lastId = products.get(products.size() - 1).getId();
+            }
+        } while (products.size() == rebuildBatchSize);
+
+        AutocompleteIndex rebuilt = builder.build();
+        index = rebuilt;
+        lastRebuildNanos = System.nanoTime() - startedAt;
+        log.info("product autocomplete rebuilt: {} products, {} nodes in {} ms",
+                rebuilt.size(), rebuilt.nodeCount(), TimeUnit.NANOSECONDS.toMillis(lastRebuildNanos));
+    }
+
+    public List<ProductResponse.Suggestion> suggest(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+
+        return index.suggest(keyword, topK).stream()
+                .map(suggestion -> new ProductResponse.Suggestion(suggestion.productId(), suggestion.name()))
+                .toList();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("kurly.autocomplete.products", this, autocomplete -> autocomplete.index.size()).register(registry);
+        Gauge.builder("kurly.autocomplete.nodes", this, autocomplete -> autocomplete.index.nodeCount()).register(registry);
+        Gauge.builder("kurly.autocomplete.memory", this, autocomplete -> autocomplete.index.memoryBytes())
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("kurly.autocomplete.rebuild.duration", this, autocomplete -> autocomplete.lastRebuildNanos / 1e9)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+}
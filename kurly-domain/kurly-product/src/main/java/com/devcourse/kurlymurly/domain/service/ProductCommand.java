@@ -22,26 +22,38 @@ public class ProductCommand {
     private final ProductRepository productRepository;
     private final ProductSupportRepository productSupportRepository;
     private final FavoriteRepository favoriteRepository;
+    private final ProductPageCache productPageCache;
+    private final ProductSearch productSearch;
+    private final BestProducts bestProducts;
 
     public ProductCommand(
             CategoryQuery categoryQuery,
             ProductQuery productQuery,
             ProductRepository productRepository,
             ProductSupportRepository productSupportRepository,
-            FavoriteRepository favoriteRepository
+            FavoriteRepository favoriteRepository,
+            ProductPageCache productPageCache,
+            ProductSearch productSearch,
+            BestProducts bestProducts
     ) {
         this.categoryQuery = categoryQuery;
         this.productQuery = productQuery;
         this.productRepository = productRepository;
         this.productSupportRepository = productSupportRepository;
         this.favoriteRepository = favoriteRepository;
+        this.productPageCache = productPageCache;
+        this.productSearch = productSearch;
+        this.bestProducts = bestProducts;
     }
 
     public Product create(Long categoryId, String imageUrl, ProductDomain productDomain) {
         categoryQuery.validateIsExist(categoryId);
 
         Product product = productDomain.toEntity(categoryId, imageUrl);
-        return productRepository.save(product);
+        productPageCache.evictCategoryAfterCommit(categoryId);
+        Product saved = productRepository.save(product);
+        productSearch.indexAfterCommit(saved);
+        return saved;
     }
 
     public void createSupport(Long userId, Long productId, SupportDomain supportDomain) {
@@ -61,16 +73,34 @@ public class ProductCommand {
     public void soldOutProduct(Long id) {
         Product product = productQuery.findProductByIdOrThrow(id);
         product.soldOut();
+        productPageCache.evictCategoryAfterCommit(product.getCategoryId());
+        productSearch.indexAfterCommit(product);
+    }
+
+    public void reopenProduct(Long id) {
+        Product product = productQuery.findProductByIdOrThrow(id);
+        if (product.getStatus() != Product.Status.SOLD_OUT) {
+            return;
+        }
+
+        product.backInStock();
+        productPageCache.evictCategoryAfterCommit(product.getCategoryId());
+        productSearch.indexAfterCommit(product);
     }
 
     public void updateProductToBest(Long id) {
         Product product = productQuery.findProductByIdOrThrow(id);
         product.toBest();
+        productPageCache.evictCategoryAfterCommit(product.getCategoryId());
+        productSearch.indexAfterCommit(product);
     }
 
     public void deleteProduct(Long id) {
         Product product = productQuery.findProductByIdOrThrow(id);
         product.softDelete();
+        productPageCache.evictCategoryAfterCommit(product.getCategoryId());
+        productSearch.indexAfterCommit(product);
+        bestProducts.removeAfterCommit(id);
     }
 
     public void favoriteProduct(Long userId, Long productId) {
@@ -0,0 +1,218 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import com.devcourse.kurlymurly.web.product.ProductResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 카테고리별 상품 페이지 캐시.
+ * 상품 수 기준으로 크기를 제한하고, 같은 키의 동시 요청은 한 번만 조회한다.
+ */
+@Component
+public class ProductPageCache implements MeterBinder {
+    private record Key(Long categoryId, int page, int size, String sort) {
+        static Key of(Long categoryId, Pageable pageable) {
+            return new Key(categoryId, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        }
+    }
+
+    private record Entry(Page<ProductResponse.GetSimple> page, int weight, long expireAt) {
+        boolean isExpired(long now) {
+            return now - expireAt >= 0;
+        }
+    }
+
+    private final long maxWeight;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Key, CompletableFuture<Page<ProductResponse.GetSimple>>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+    private long currentWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ProductPageCache(
+            @Value("${kurly.cache.product-page.max-weight:10000}") long maxWeight,
+            @Value("${kurly.cache.product-page.ttl:PT1M}") Duration ttl
+    ) {
+        this.maxWeight = maxWeight;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public Page<ProductResponse.GetSimple> get(Long categoryId, Pageable pageable, Supplier<Page<ProductResponse.GetSimple>> loader) {
+        Key key = Key.of(categoryId, pageable);
+        Page<ProductResponse.GetSimple> cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        CompletableFuture<Page<ProductResponse.GetSimple>> ownFuture = new CompletableFuture<>();
+        CompletableFuture<Page<ProductResponse.GetSimple>> running = inFlight.putIfAbsent(key, ownFuture);
+        // 캐시에 없던 요청이므로 적중으로 세지 않고 따로 센다.
+        if (running != null) {
+            coalesced.increment();
+            return join(running);
+        }
+
+        misses.increment();
+        long generation = generationOf(categoryId).get();
+        try {
+            Page<ProductResponse.GetSimple> loaded = loader.get();
+            store(key, loaded, generation);
+            ownFuture.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            ownFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, ownFuture);
+        }
+    }
+
+    /** 진행 중인 트랜잭션이 있으면 커밋된 뒤에, 없으면 즉시 해당 카테고리의 페이지를 비운다. */
+    public void evictCategoryAfterCommit(Long categoryId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictCategory(categoryId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictCategory(categoryId);
+            }
+        });
+    }
+
+    public void evictCategory(Long categoryId) {
+        generationOf(categoryId).incrementAndGet();
+
+        synchronized (entries) {
+            Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, Entry> entry = iterator.next();
+                if (entry.getKey().categoryId().equals(categoryId)) {
+                    currentWeight -= entry.getValue().weight();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long weight() {
+        synchronized (entries) {
+            return currentWeight;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("kurly.cache.product-page.hits", this, ProductPageCache::hitCount).register(registry);
+        FunctionCounter.builder("kurly.cache.product-page.misses", this, ProductPageCache::missCount).register(registry);
+        FunctionCounter.builder("kurly.cache.product-page.coalesced", this, ProductPageCache::coalescedCount).register(registry);
+        FunctionCounter.builder("kurly.cache.product-page.evictions", this, ProductPageCache::evictionCount).register(registry);
+        Gauge.builder("kurly.cache.product-page.weight", this, ProductPageCache::weight).register(registry);
+    }
+
+    private Page<ProductResponse.GetSimple> lookup(Key key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry.isExpired(System.nanoTime())) {
+                entries.remove(key);
+                currentWeight -= entry.weight();
+                return null;
+            }
+
+            return entry.page();
+        }
+    }
+
+    private void store(Key key, Page<ProductResponse.GetSimple> page, long generation) {
+        int weight = Math.max(1, page.getNumberOfElements());
+        if (weight > maxWeight) {
+            return;
+        }
+
+        synchronized (entries) {
+            // 조회 중에 상품이 변경되었다면 이전 데이터를 넣지 않는다.
+            if (generationOf(key.categoryId()).get() != generation) {
+                return;
+            }
+
+            Entry previous = entries.put(key, new Entry(page, weight, System.nanoTime() + ttlNanos));
+            if (previous != null) {
+                currentWeight -= previous.weight();
+            }
+            currentWeight += weight;
+            evictEldestOverWeight();
+        }
+    }
+
+    private void evictEldestOverWeight() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (currentWeight > maxWeight && iterator.hasNext()) {
+            currentWeight -= iterator.next().weight();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private AtomicLong generationOf(Long categoryId) {
+        return generations.computeIfAbsent(categoryId, id -> new AtomicLong());
+    }
+
+    private Page<ProductResponse.GetSimple> join(CompletableFuture<Page<ProductResponse.GetSimple>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -2,20 +2,33 @@ package com.devcourse.kurlymurly.domain.service;
 
 import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
 import com.devcourse.kurlymurly.domain.product.Product;
+import com.devcourse.kurlymurly.domain.product.ProductCursor;
 import com.devcourse.kurlymurly.domain.product.ProductRepository;
+import com.devcourse.kurlymurly.domain.product.best.BestProductCursor;
+import com.devcourse.kurlymurly.domain.product.best.BestProductRanking;
 import com.devcourse.kurlymurly.domain.product.favorite.FavoriteRepository;
+import com.devcourse.kurlymurly.domain.product.search.SearchFilter;
+import com.devcourse.kurlymurly.domain.product.search.SearchHit;
 import com.devcourse.kurlymurly.domain.product.support.ProductSupport;
 import com.devcourse.kurlymurly.domain.product.support.ProductSupportRepository;
+import com.devcourse.kurlymurly.web.common.KurlyCursorSlice;
 import com.devcourse.kurlymurly.web.product.FavoriteResponse;
 import com.devcourse.kurlymurly.web.product.ProductResponse;
 import com.devcourse.kurlymurly.web.product.SupportResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.devcourse.kurlymurly.common.exception.ErrorCode.NEVER_WRITE_PRODUCT_SUPPORT;
 import static com.devcourse.kurlymurly.common.exception.ErrorCode.PRODUCT_NOT_FOUND;
@@ -24,19 +37,34 @@ import static com.devcourse.kurlymurly.common.exception.ErrorCode.PRODUCT_NOT_FO
 @Transactional(readOnly = true)
 public class ProductQuery {
     private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int SEARCH_RESULT_SIZE = 20;
 
     private final ProductRepository productRepository;
     private final FavoriteRepository favoriteRepository;
     private final ProductSupportRepository productSupportRepository;
+    private final ProductPageCache productPageCache;
+    private final ProductSearch productSearch;
+    private final BestProducts bestProducts;
 
-    public ProductQuery(ProductRepository productRepository, FavoriteRepository favoriteRepository, ProductSupportRepository productSupportRepository) {
+    public ProductQuery(
+            ProductRepository productRepository,
+            FavoriteRepository favoriteRepository,
+            ProductSupportRepository productSupportRepository,
+            ProductPageCache productPageCache,
+            ProductSearch productSearch,
+            BestProducts bestProducts
+    ) {
         this.productRepository = productRepository;
         this.favoriteRepository = favoriteRepository;
         this.productSupportRepository = productSupportRepository;
+        this.productPageCache = productPageCache;
+        this.productSearch = productSearch;
+        this.bestProducts = bestProducts;
     }
 
     public Page<ProductResponse.GetSimple> getProductsPageOfCategory(Long categoryId, Pageable pageable) {
-        return productRepository.loadProductsByCategory(categoryId, pageable);
+        return productPageCache.get(categoryId, pageable,
+                () -> productRepository.loadProductsByCategory(categoryId, pageable));
     }
 
     public Page<ProductResponse.GetSimple> getNewProductPageResponse(Pageable pageable) {
@@ -44,7 +72,87 @@ public class ProductQuery {
     }
 
     public Page<ProductResponse.GetSimple> getBestProductPageResponse(Pageable pageable) {
-        return productRepository.loadBestProducts(pageable);
+        return getBestProductPageResponse(BestProductRanking.ALL_CATEGORIES, pageable);
+    }
+
+    // 미리 계산한 순위표에서 이번 페이지의 id 만 잘라 조회하므로 페이지 위치와 상관없이 한 페이지만큼만 읽는다.
+    public Page<ProductResponse.GetSimple> getBestProductPageResponse(long categoryId, Pageable pageable) {
+        BestProductRanking ranking = bestProducts.ranking();
+        List<Long> ids = ranking.page(categoryId, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(findSimpleResponsesInOrder(ids), pageable, ranking.size(categoryId));
+    }
+
+    public KurlyCursorSlice<ProductResponse.GetSimple> getProductsSliceOfCategory(Long categoryId, String cursor) {
+        return seek(cursor, (from) -> productRepository.seekProductsByCategory(categoryId, from.createAt(), from.id(), seekLimit()));
+    }
+
+    public KurlyCursorSlice<ProductResponse.GetSimple> getNewProductSlice(String cursor) {
+        return seek(cursor, (from) -> productRepository.seekNewProducts(from.createAt(), from.id(), seekLimit()));
+    }
+
+    // 페이지와 같은 순위표를 순위 위치로 이어서 읽으므로 개수도 다음 페이지 여부도 순위표에서 알아낸다.
+    public KurlyCursorSlice<ProductResponse.GetSimple> getBestProductSlice(String cursor) {
+        BestProductRanking ranking = bestProducts.ranking();
+        BestProductCursor from = BestProductCursor.decode(cursor);
+        List<Long> ids = ranking.page(BestProductRanking.ALL_CATEGORIES, from.offset(), DEFAULT_PAGE_SIZE);
+
+        BestProductCursor next = from.next(ids.size());
+        boolean hasNext = next.offset() < ranking.size(BestProductRanking.ALL_CATEGORIES);
+        return new KurlyCursorSlice<>(findSimpleResponsesInOrder(ids), hasNext, hasNext ? next.encode() : null);
+    }
+
+    public List<ProductResponse.GetSimple> searchProducts(String keyword, SearchFilter filter) {
+        List<Long> ids = productSearch.search(keyword, filter, SEARCH_RESULT_SIZE).stream()
+                .map(SearchHit::productId)
+                .toList();
+        return findSimpleResponsesInOrder(ids);
+    }
+
+    // IN 조회는 순서를 지키지 않으므로 주어진 id 순서대로 다시 정렬한다. 삭제가 커밋되기 전에 잘라 온 상품은 뺀다.
+    private List<ProductResponse.GetSimple> findSimpleResponsesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
+                .filter(product -> product.getStatus() != Product.Status.DELETED)
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(this::toSimpleResponse)
+                .toList();
+    }
+
+    // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 한 건을 더 조회한다.
+    private Pageable seekLimit() {
+        return PageRequest.ofSize(DEFAULT_PAGE_SIZE + 1);
+    }
+
+    private KurlyCursorSlice<ProductResponse.GetSimple> seek(String cursor, Function<ProductCursor, List<Product>> finder) {
+        List<Product> products = finder.apply(ProductCursor.decode(cursor));
+        boolean hasNext = products.size() > DEFAULT_PAGE_SIZE;
+        List<Product> contents = hasNext ? products.subList(0, DEFAULT_PAGE_SIZE) : products;
+
+        String nextCursor = hasNext ? ProductCursor.from(contents.get(contents.size() - 1)).encode() : null;
+        List<ProductResponse.GetSimple> responses = contents.stream()
+                .map(this::toSimpleResponse)
+                .toList();
+
+        return new KurlyCursorSlice<>(responses, hasNext, nextCursor);
+    }
+
+    private ProductResponse.GetSimple toSimpleResponse(Product product) {
+        return new ProductResponse.GetSimple(
+                product.getImageUrl(),
+                product.getDelivery().name(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getReviewCount(),
+                product.isKurlyOnly(),
+                product.getStatus().name()
+        );
     }
 
     public List<FavoriteResponse.Get> getAllFavoritesByUserId(Long userId) {
@@ -69,4 +177,19 @@ public class ProductQuery {
         Product product = findProductByIdOrThrow(id);
         product.validateOrderable();
     }
+
+    // 주문 상품 수와 상관없이 한 번에 읽고, 없거나 주문할 수 없는 상품이 하나라도 있으면 주문 전체를 거절한다.
+    public Map<Long, Product> getOrderableProducts(Collection<Long> ids) {
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        for (Long id : ids) {
+            Product product = products.get(id);
+            if (product == null) {
+                throw KurlyBaseException.withId(PRODUCT_NOT_FOUND, id);
+            }
+            product.validateOrderable();
+        }
+        return products;
+    }
 }
@@ -0,0 +1,171 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import com.devcourse.kurlymurly.domain.product.Product;
+import com.devcourse.kurlymurly.domain.product.ProductRepository;
+import com.devcourse.kurlymurly.domain.product.search.ProductSearchIndex;
+import com.devcourse.kurlymurly.domain.product.search.SearchDocument;
+import com.devcourse.kurlymurly.domain.product.search.SearchFilter;
+import com.devcourse.kurlymurly.domain.product.search.SearchHit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품 검색 색인을 관리한다.
+ * 시작할 때 전체 상품으로 색인을 만들고, 이후에는 상품 변경이 커밋될 때마다 해당 상품만 다시 색인한다.
+ * 다른 인스턴스(관리자 API 등)에서 바뀐 상품은 커밋 알림을 받지 못하므로 updated_at 으로 주기적으로 읽어 온다.
+ * <p>
+ * 다시 만드는 동안 들어온 변경은 새 색인에도 반영하고, 다시 만드는 쪽에서는 그 상품을 건너뛴다.
+ * DB 에서 먼저 읽은 예전 상태가 나중에 들어온 변경을 덮어쓰지 않게 하기 위해서다.
+ */
+@Component
+public class ProductSearch implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(ProductSearch.class);
+
+    private final ProductRepository productRepository;
+    private final int rebuildBatchSize;
+    private final Duration refreshOverlap;
+
+    private volatile ProductSearchIndex index = new ProductSearchIndex();
+    private volatile LocalDateTime refreshedFrom;
+    private ProductSearchIndex rebuilding;
+    private final Set<Long> changedWhileRebuilding = new HashSet<>();
+
+    public ProductSearch(
+            ProductRepository productRepository,
+            @Value("${kurly.search.rebuild-batch-size:1000}") int rebuildBatchSize,
+            @Value("${kurly.search.refresh-overlap:PT1M}") Duration refreshOverlap
+    ) {
+        this.productRepository = productRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.refreshOverlap = refreshOverlap;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        ProductSearchIndex fresh = new ProductSearchIndex();
+        synchronized (this) {
+            rebuilding = fresh;
+            changedWhileRebuilding.clear();
+        }
+
+        try {
+            long lastId = 0;
+            List<Product> products;
+            do {
+                products = productRepository.findIndexableAfter(lastId, PageRequest.ofSize(rebuildBatchSize));
+                synchronized (this) {
+                    for (Product product : products) {
+                        if (!changedWhileRebuilding.contains(product.getId())) {
+                            fresh.upsert(SearchDocument.from(product));
+                        }
+                    }
+                }
+                if (!products.isEmpty()) {
+                    lastId = products.get(products.size() - 1).getId();
+                }
+            } while (products.size() == rebuildBatchSize);
+
+            fresh.compact();
+            synchronized (this) {
+                index = fresh;
+            }
+            refreshedFrom = startedAt;
+            log.info("product search index rebuilt: {} products, {} terms", fresh.size(), fresh.termCount());
+        } finally {
+            synchronized (this) {
+                rebuilding = null;
+                changedWhileRebuilding.clear();
+            }
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 시각 이후에 바뀐 상품을 다시 색인한다.
+     * updated_at 은 커밋보다 먼저 찍히고 인스턴스마다 시계가 조금씩 다르므로, 겹치는 구간만큼 앞에서부터 다시 읽는다.
+     */
+    @Scheduled(
+            initialDelayString = "${kurly.search.refresh-interval:PT1M}",
+            fixedDelayString = "${kurly.search.refresh-interval:PT1M}"
+    )
+    public void refresh() {
+        LocalDateTime from = refreshedFrom;
+        if (from == null) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime lastUpdatedAt = from.minus(refreshOverlap);
+        long lastId = 0;
+        int refreshed = 0;
+        List<Product> products;
+        do {
+            products = productRepository.findUpdatedAfter(lastUpdatedAt, lastId, PageRequest.ofSize(rebuildBatchSize));
+            for (Product product : products) {
+                index(SearchDocument.from(product));
+            }
+            if (!products.isEmpty()) {
+                Product last = products.get(products.size() - 1);
+                lastUpdatedAt = last.getUpdatedAt();
+                lastId = last.getId();
+                refreshed += products.size();
+            }
+        } while (products.size() == rebuildBatchSize);
+
+        refreshedFrom = startedAt;
+        log.debug("product search index refreshed: {} products changed since {}", refreshed, from);
+    }
+
+    /** 진행 중인 트랜잭션이 있으면 커밋된 뒤에, 없으면 즉시 상품을 다시 색인한다. */
+    public void indexAfterCommit(Product product) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index(SearchDocument.from(product));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index(SearchDocument.from(product));
+            }
+        });
+    }
+
+    public synchronized void index(SearchDocument document) {
+        index.upsert(document);
+        if (rebuilding != null) {
+            rebuilding.upsert(document);
+            changedWhileRebuilding.add(document.productId());
+        }
+    }
+
+    public List<SearchHit> search(String keyword, SearchFilter filter, int size) {
+        return index.search(keyword, filter, size);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("kurly.search.documents", this, search -> search.index.size()).register(registry);
+        Gauge.builder("kurly.search.terms", this, search -> search.index.termCount()).register(registry);
+        Gauge.builder("kurly.search.memory", this, search -> search.index.memoryBytes())
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
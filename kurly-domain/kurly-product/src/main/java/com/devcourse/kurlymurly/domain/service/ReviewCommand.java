@@ -1,6 +1,7 @@
 package com.devcourse.kurlymurly.domain.service;
 
 import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
+import com.devcourse.kurlymurly.domain.product.ProductRepository;
 import com.devcourse.kurlymurly.domain.product.review.Review;
 import com.devcourse.kurlymurly.domain.product.review.ReviewLike;
 import com.devcourse.kurlymurly.domain.product.review.ReviewLikeRepository;
@@ -16,20 +17,27 @@ public class ReviewCommand {
     private final ReviewQuery reviewQuery;
     private final ReviewRepository reviewRepository;
     private final ReviewLikeRepository reviewLikeRepository;
+    private final ProductRepository productRepository;
+    private final ReviewLikeAccumulator reviewLikeAccumulator;
 
     public ReviewCommand(
             ReviewQuery reviewQuery,
             ReviewRepository reviewRepository,
-            ReviewLikeRepository reviewLikeRepository
+            ReviewLikeRepository reviewLikeRepository,
+            ProductRepository productRepository,
+            ReviewLikeAccumulator reviewLikeAccumulator
     ) {
         this.reviewQuery = reviewQuery;
         this.reviewRepository = reviewRepository;
         this.reviewLikeRepository = reviewLikeRepository;
+        this.productRepository = productRepository;
+        this.reviewLikeAccumulator = reviewLikeAccumulator;
     }
 
     public void create(Long userId, Long productId, String productName, String content, boolean isSecret) {
         Review review = new Review(userId, productId, productName, content, isSecret);
         reviewRepository.save(review);
+        productRepository.increaseReviewCount(productId);
     }
 
     public void update(Long userId, Long id, String content, boolean isSecret) {
@@ -40,6 +48,7 @@ public class ReviewCommand {
 
     public void banned(Long id) {
         Review review = reviewQuery.findReviewByIdOrThrow(id);
+        uncount(review, Review.Status.BANNED);
         review.ban();
     }
 
@@ -51,29 +60,44 @@ public class ReviewCommand {
     public void delete(Long userId, Long id) {
         Review review = reviewQuery.findReviewByIdOrThrow(id);
         review.validateAuthor(userId);
+        uncount(review, Review.Status.DELETED);
         review.softDelete();
     }
 
+    // 읽어 둔 상태가 아니라 조건부 UPDATE 가 실제로 바꾼 경우에만 차감해서, 동시에 들어온 요청도 한 번만 줄인다.
+    // 엔티티 변경보다 먼저 실행해야 자동 flush 로 상태가 미리 바뀌지 않는다.
+    private void uncount(Review review, Review.Status status) {
+        if (reviewRepository.updateStatusIfCounted(review.getId(), status) == 1) {
+            productRepository.decreaseReviewCount(review.getProductId());
+        }
+    }
+
+    /**
+     * 처음 누른 좋아요는 (사용자, 후기) 유니크 키로 한 행만 들어간다.
+     * 동시에 처음 누른 요청 중 늦은 쪽은 중복 키 예외로 롤백되어 좋아요 수를 더하지 않는다.
+     */
     public void likeReview(Long userId, Long reviewId) {
-        ReviewLike like = reviewLikeRepository.findByUserIdAndReviewId(userId, reviewId)
-                .orElseGet(() -> createLike(userId, reviewId));
-        Review review = reviewQuery.findReviewByIdOrThrow(like.getReviewId());
+        reviewQuery.validateReviewExists(reviewId);
 
-        like.activate();
-        review.liked();
-    }
+        if (reviewLikeRepository.activateIfCanceled(userId, reviewId) == 1) {
+            reviewLikeAccumulator.addAfterCommit(reviewId, 1);
+            return;
+        }
 
-    private ReviewLike createLike(Long userId, Long reviewId) {
-        ReviewLike like = new ReviewLike(userId, reviewId);
-        return reviewLikeRepository.save(like);
+        if (!reviewLikeRepository.existsByUserIdAndReviewId(userId, reviewId)) {
+            reviewLikeRepository.saveAndFlush(new ReviewLike(userId, reviewId));
+            reviewLikeAccumulator.addAfterCommit(reviewId, 1);
+        }
     }
 
     public void cancelLike(Long userId, Long reviewId) {
-        ReviewLike like = reviewLikeRepository.findByUserIdAndReviewId(userId, reviewId)
-                .orElseThrow(() -> KurlyBaseException.withId(NEVER_LIKED, userId));
-        Review review = reviewQuery.findReviewByIdOrThrow(like.getReviewId());
+        if (reviewLikeRepository.cancelIfActive(userId, reviewId) == 1) {
+            reviewLikeAccumulator.addAfterCommit(reviewId, -1);
+            return;
+        }
 
-        like.cancel();
-        review.disliked();
+        if (!reviewLikeRepository.existsByUserIdAndReviewId(userId, reviewId)) {
+            throw KurlyBaseException.withId(NEVER_LIKED, userId);
+        }
     }
 }
@@ -0,0 +1,35 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import com.devcourse.kurlymurly.domain.product.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * products.review_count 가 실제 후기 수와 어긋난 상품을 찾아 다시 집계한다.
+ */
+@Component
+public class ReviewCountReconciler {
+    private static final Logger log = LoggerFactory.getLogger(ReviewCountReconciler.class);
+
+    private final ProductRepository productRepository;
+
+    public ReviewCountReconciler(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Transactional
+    @Scheduled(cron = "${kurly.review-count.reconcile-cron:0 0 4 * * *}")
+    public int reconcile() {
+        long drifted = productRepository.countReviewCountDrift();
+        if (drifted == 0) {
+            return 0;
+        }
+
+        int repaired = productRepository.reconcileReviewCounts();
+        log.warn("review_count drift detected: {} products, {} repaired", drifted, repaired);
+        return repaired;
+    }
+}
@@ -0,0 +1,205 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 후기 좋아요 증감분을 메모리에 모았다가 주기적으로 한 번에 반영한다.
+ * 좋아요 여부의 기준은 review_likes 이고, reviews.likes 는 이 누적기로만 갱신한다.
+ * 임계치에 도달한 반영은 요청 스레드가 아니라 전용 스레드에서 한다.
+ */
+@Component
+public class ReviewLikeAccumulator {
+    private static final Logger log = LoggerFactory.getLogger(ReviewLikeAccumulator.class);
+    private static final int STRIPE_COUNT = 16;
+    private static final String UPDATE_LIKES = "UPDATE reviews SET likes = likes + ? WHERE id = ?";
+
+    private static final class Stripe {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private Map<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long flushThreshold;
+    private final ExecutorService flushExecutor;
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Autowired
+    public ReviewLikeAccumulator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${kurly.review-like.flush-threshold:1000}") long flushThreshold
+    ) {
+        this(jdbcTemplate, transactionManager, flushThreshold,
+                Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "review-like-flush")));
+    }
+
+    ReviewLikeAccumulator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            long flushThreshold,
+            ExecutorService flushExecutor
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushThreshold = flushThreshold;
+        this.flushExecutor = flushExecutor;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /** 진행 중인 트랜잭션이 커밋된 뒤에 증감분을 더한다. */
+    public void addAfterCommit(Long reviewId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(reviewId, delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(reviewId, delta);
+            }
+        });
+    }
+
+    public void add(Long reviewId, long delta) {
+        Stripe stripe = stripeOf(reviewId);
+        stripe.lock.readLock().lock();
+        try {
+            stripe.deltas.computeIfAbsent(reviewId, id -> new LongAdder()).add(delta);
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+
+        if (pending.incrementAndGet() >= flushThreshold) {
+            requestFlush();
+        }
+    }
+
+    // 커밋 직후 콜백에서 불리므로 여기서 DB 를 기다리지 않는다. 대기 중인 반영이 있으면 더 넘기지 않는다.
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        } catch (RejectedExecutionException e) {
+            flushRequested.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kurly.review-like.flush-interval:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+
+        try {
+            write(drain());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushExecutor.shutdown();
+        flushLock.lock();
+        try {
+            write(drain());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** 모인 증감분을 후기 id 순으로 꺼내고 비운다. */
+    Map<Long, Long> drain() {
+        pending.set(0);
+        Map<Long, Long> drained = new TreeMap<>();
+
+        for (Stripe stripe : stripes) {
+            Map<Long, LongAdder> swapped;
+            stripe.lock.writeLock().lock();
+            try {
+                swapped = stripe.deltas;
+                stripe.deltas = new ConcurrentHashMap<>();
+            } finally {
+                stripe.lock.writeLock().unlock();
+            }
+
+            swapped.forEach((reviewId, adder) -> {
+                long delta = adder.sum();
+                if (delta != 0) {
+                    drained.merge(reviewId, delta, Long::sum);
+                }
+            });
+        }
+
+        return drained;
+    }
+
+    private void write(Map<Long, Long> drained) {
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(drained.size());
+        drained.forEach((reviewId, delta) -> args.add(new Object[]{delta, reviewId}));
+
+        // 한 트랜잭션으로 묶어야 실패했을 때 일부만 반영된 채로 전부 되돌려 두 번 더해지지 않는다.
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_LIKES, args));
+        } catch (RuntimeException e) {
+            log.warn("review like flush failed, {} reviews will be retried", drained.size(), e);
+            drained.forEach(this::restore);
+        }
+    }
+
+    private void restore(Long reviewId, long delta) {
+        Stripe stripe = stripeOf(reviewId);
+        stripe.lock.readLock().lock();
+        try {
+            stripe.deltas.computeIfAbsent(reviewId, id -> new LongAdder()).add(delta);
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    private Stripe stripeOf(Long reviewId) {
+        return stripes[Long.hashCode(reviewId) & (STRIPE_COUNT - 1)];
+    }
+}
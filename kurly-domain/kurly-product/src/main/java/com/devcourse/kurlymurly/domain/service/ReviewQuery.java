@@ -6,18 +6,19 @@ import com.devcourse.kurlymurly.domain.product.review.ReviewLike;
 import com.devcourse.kurlymurly.domain.product.review.ReviewLikeRepository;
 import com.devcourse.kurlymurly.domain.product.review.ReviewRepository;
 import com.devcourse.kurlymurly.web.product.ReviewResponse;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 import static com.devcourse.kurlymurly.common.exception.ErrorCode.NOT_FOUND_REVIEW;
 import static com.devcourse.kurlymurly.common.exception.ErrorCode.NOT_FOUND_REVIEW_LIKE;
 
 @Component
 @Transactional(readOnly = true)
 public class ReviewQuery {
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
     private final ReviewRepository reviewRepository;
     private final ReviewLikeRepository reviewLikeRepository;
 
@@ -26,8 +27,9 @@ public class ReviewQuery {
         this.reviewLikeRepository = reviewLikeRepository;
     }
 
-    public List<ReviewResponse.Reviewed> getAllReviewsOfUser(Long userId) {
-        return reviewRepository.getAllReviewsByUserId(userId);
+    public Slice<ReviewResponse.Reviewed> getReviewsOfUser(Long userId, Long start) {
+        Long startId = start == null ? Long.MAX_VALUE : start;
+        return reviewRepository.getReviewsByUserIdFromStart(userId, startId, PageRequest.ofSize(DEFAULT_PAGE_SIZE));
     }
 
     public Slice<ReviewResponse.OfProduct> getReviewsOfProduct(Long productId, Long start) {
@@ -39,6 +41,12 @@ public class ReviewQuery {
                 .orElseThrow(() -> KurlyBaseException.withId(NOT_FOUND_REVIEW, id));
     }
 
+    public void validateReviewExists(Long id) {
+        if (!reviewRepository.existsById(id)) {
+            throw KurlyBaseException.withId(NOT_FOUND_REVIEW, id);
+        }
+    }
+
     public ReviewLike findLikesByIdOrThrow(Long likeId) {
         return reviewLikeRepository.findById(likeId)
                 .orElseThrow(() -> KurlyBaseException.withId(NOT_FOUND_REVIEW_LIKE, likeId));
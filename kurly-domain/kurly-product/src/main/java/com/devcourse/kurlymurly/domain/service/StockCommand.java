@@ -0,0 +1,173 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
+import com.devcourse.kurlymurly.domain.product.stock.StockBucket;
+import com.devcourse.kurlymurly.domain.product.stock.StockBucketRepository;
+import com.devcourse.kurlymurly.domain.product.stock.StockTotal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.OUT_OF_STOCK;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * 상품 재고를 여러 칸(product_stocks)에 나눠 두고 주문마다 임의의 칸 하나에서만 뺀다.
+ * 칸에 넉넉히 남아 있으면 그 행 하나만 조건부 UPDATE 로 줄이므로 인기 상품의 주문도 한 줄로 서지 않는다.
+ * 고른 칸이 모자라면 그 상품의 칸을 모두 잠그고 합계로 판단한 뒤 남은 재고를 다시 고르게 나눈다.
+ * 재고가 0 이 되는 것은 항상 이 경로이므로 품절 처리도 여기서 하고, 재고가 0 에서 다시 늘어날 때만 품절을 푼다.
+ * 관리자가 재고가 남은 상품을 직접 품절시켰다면 취소나 입고로 풀리지 않는다.
+ * 재고 칸이 없는 상품은 재고를 관리하지 않는 상품으로 보고 제한 없이 주문을 받는다.
+ */
+@Component
+@Transactional
+public class StockCommand {
+    // 칸을 비우지 않을 때만 뺀다. 재고가 0 이 되는 순간은 모든 칸을 잠근 쪽에서만 생긴다.
+    private static final String TAKE_LEAVING_SOME = """
+            UPDATE product_stocks SET quantity = quantity - ?
+            WHERE product_id = ? AND bucket = ? AND quantity > ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StockBucketRepository stockBucketRepository;
+    private final ProductCommand productCommand;
+    private final int buckets;
+
+    public StockCommand(
+            JdbcTemplate jdbcTemplate,
+            StockBucketRepository stockBucketRepository,
+            ProductCommand productCommand,
+            @Value("${kurly.stock.buckets:8}") int buckets
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stockBucketRepository = stockBucketRepository;
+        this.productCommand = productCommand;
+        this.buckets = buckets;
+    }
+
+    /**
+     * 주문 한 건의 상품별 수량을 모두 잡는다. 하나라도 모자라면 예외가 나고 트랜잭션째 되돌아간다.
+     * 상품마다 고른 칸에서 빼는 UPDATE 를 한 번의 배치로 보내고, 빼지 못한 상품만 한 번에 합계를 읽으므로 주문 상품 수와 상관없이 쿼리 수가 일정하다.
+     * 여러 주문이 같은 상품들을 잠글 때 순서가 엇갈리지 않도록 상품 id 순서로 처리한다.
+     */
+    public void reserve(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Integer>> requested = List.copyOf(new TreeMap<>(quantities).entrySet());
+        List<Object[]> args = requested.stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey(), ThreadLocalRandom.current().nextInt(buckets), entry.getValue()})
+                .toList();
+
+        // 드라이버가 행마다 반영 건수를 돌려줘야 한다. (MySQL Connector/J 는 UPDATE 배치의 건수를 그대로 돌려준다)
+        int[] taken = jdbcTemplate.batchUpdate(TAKE_LEAVING_SOME, args);
+        Map<Long, Integer> missed = new TreeMap<>();
+        for (int i = 0; i < taken.length; i++) {
+            if (taken[i] == 0) {
+                missed.put(requested.get(i).getKey(), requested.get(i).getValue());
+            }
+        }
+
+        if (!missed.isEmpty()) {
+            reserveLocked(missed);
+        }
+    }
+
+    // 재고가 바닥날 무렵에는 주문이 이 경로로 모여 잠금을 기다린다.
+    // 배치에서 이미 잡은 칸과 여기서 잠그는 칸의 순서가 엇갈리면 드물게 데드락이 나고, DB 가 한쪽 트랜잭션을 되돌린다.
+    // 되돌아간 주문은 호출하는 쪽에서 새 트랜잭션으로 다시 시도한다. (OrderFacade)
+    // 이미 모자란 것이 보이면 잠그지 않고 바로 거절해서 품절 뒤에 몰리는 주문은 줄을 서지 않게 한다.
+    private void reserveLocked(Map<Long, Integer> missed) {
+        Map<Long, Long> totals = stockBucketRepository.sumQuantityByProductIds(missed.keySet()).stream()
+                .collect(toMap(StockTotal::productId, StockTotal::quantity));
+
+        missed.forEach((productId, quantity) -> {
+            Long total = totals.get(productId);
+            if (total == null) {
+                return;
+            }
+            if (total < quantity) {
+                throw KurlyBaseException.withId(OUT_OF_STOCK, productId);
+            }
+            reserveLocked(productId, quantity);
+        });
+    }
+
+    private void reserveLocked(Long productId, int quantity) {
+        List<StockBucket> locked = stockBucketRepository.findAllByProductIdForUpdate(productId);
+        int total = sum(locked);
+        if (total < quantity) {
+            throw KurlyBaseException.withId(OUT_OF_STOCK, productId);
+        }
+
+        spread(locked, total - quantity);
+        if (total == quantity) {
+            productCommand.soldOutProduct(productId);
+        }
+    }
+
+    /** 취소된 주문의 수량을 되돌린다. 재고가 바닥나 품절이었던 상품은 다시 판매 상태가 된다. */
+    public void release(Map<Long, Integer> quantities) {
+        new TreeMap<>(quantities).forEach(this::release);
+    }
+
+    public void release(Long productId, int quantity) {
+        int bucket = ThreadLocalRandom.current().nextInt(buckets);
+        if (stockBucketRepository.putBack(productId, bucket, quantity) == 0) {
+            addLocked(productId, quantity);
+        }
+    }
+
+    /** 관리자가 입고한 수량을 더한다. 처음 입고하는 상품이면 칸을 만든다. */
+    public void addStock(Long productId, int quantity) {
+        if (!addLocked(productId, quantity)) {
+            List<StockBucket> created = new ArrayList<>(buckets);
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                created.add(new StockBucket(productId, bucket, 0));
+            }
+            spread(created, quantity);
+            stockBucketRepository.saveAll(created);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long getStock(Long productId) {
+        return stockBucketRepository.sumQuantityByProductId(productId);
+    }
+
+    // 칸이 없으면 false 를 돌려준다.
+    private boolean addLocked(Long productId, int quantity) {
+        List<StockBucket> locked = stockBucketRepository.findAllByProductIdForUpdate(productId);
+        if (locked.isEmpty()) {
+            return false;
+        }
+
+        int total = sum(locked);
+        spread(locked, total + quantity);
+        if (total == 0) {
+            productCommand.reopenProduct(productId);
+        }
+        return true;
+    }
+
+    private int sum(List<StockBucket> stockBuckets) {
+        return stockBuckets.stream()
+                .mapToInt(StockBucket::getQuantity)
+                .sum();
+    }
+
+    private void spread(List<StockBucket> stockBuckets, int total) {
+        int size = stockBuckets.size();
+        for (int i = 0; i < size; i++) {
+            stockBuckets.get(i).refill(total / size + (i < total % size ? 1 : 0));
+        }
+    }
+}
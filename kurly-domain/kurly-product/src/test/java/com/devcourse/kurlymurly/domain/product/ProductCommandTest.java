@@ -5,9 +5,12 @@ import com.devcourse.kurlymurly.domain.product.favorite.Favorite;
 import com.devcourse.kurlymurly.domain.product.favorite.FavoriteRepository;
 import com.devcourse.kurlymurly.domain.product.support.ProductSupport;
 import com.devcourse.kurlymurly.domain.product.support.ProductSupportRepository;
+import com.devcourse.kurlymurly.domain.service.BestProducts;
 import com.devcourse.kurlymurly.domain.service.CategoryQuery;
 import com.devcourse.kurlymurly.domain.service.ProductCommand;
+import com.devcourse.kurlymurly.domain.service.ProductPageCache;
 import com.devcourse.kurlymurly.domain.service.ProductQuery;
+import com.devcourse.kurlymurly.domain.service.ProductSearch;
 import com.devcourse.kurlymurly.web.product.ProductRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -56,6 +59,15 @@ class ProductCommandTest {
     @Mock
     private FavoriteRepository favoriteRepository;
 
+    @Mock
+    private ProductPageCache productPageCache;
+
+    @Mock
+    private ProductSearch productSearch;
+
+    @Mock
+    private BestProducts bestProducts;
+
     @Nested
     class createTest {
         private final ProductRequest.Create request = LA_GOGI.toRequest();
@@ -104,6 +116,8 @@ class ProductCommandTest {
 
             // then
             then(productQuery).should(times(1)).findProductByIdOrThrow(any());
+            then(productPageCache).should(times(1)).evictCategoryAfterCommit(product.getCategoryId());
+            then(bestProducts).should(times(1)).removeAfterCommit(productId);
             assertThat(product.getStatus()).isEqualTo(DELETED);
         }
 
@@ -0,0 +1,39 @@
+package com.devcourse.kurlymurly.domain.product;
+
+import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ProductCursorTest {
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 위치를 가리켜야 한다.")
+    void encode_decode_Success() {
+        // given
+        ProductCursor cursor = new ProductCursor(LocalDateTime.of(2023, 8, 30, 12, 0, 1, 123_000_000), 42L);
+
+        // when
+        ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 위치를 반환한다.")
+    void decode_First_WhenEmpty() {
+        assertThat(ProductCursor.decode(null)).isEqualTo(ProductCursor.first());
+        assertThat(ProductCursor.decode(" ")).isEqualTo(ProductCursor.first());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서가 들어오면 예외를 던진다.")
+    void decode_Fail_ByInvalidToken() {
+        assertThatExceptionOfType(KurlyBaseException.class)
+                .isThrownBy(() -> ProductCursor.decode("invalid-cursor"));
+    }
+}
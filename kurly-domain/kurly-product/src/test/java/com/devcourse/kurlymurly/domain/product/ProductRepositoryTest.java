@@ -1,5 +1,7 @@
 package com.devcourse.kurlymurly.domain.product;
 
+import com.devcourse.kurlymurly.domain.product.review.Review;
+import com.devcourse.kurlymurly.domain.product.review.ReviewRepository;
 import com.devcourse.kurlymurly.web.common.KurlyPagingRequest;
 import com.devcourse.kurlymurly.web.product.ProductResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,8 +11,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.devcourse.kurlymurly.domain.product.ReviewFixture.REVIEW_FIXTURE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.data.domain.Sort.Direction;
 
@@ -19,6 +26,9 @@ class ProductRepositoryTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ReviewRepository reviewRepository;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -87,4 +97,80 @@ class ProductRepositoryTest {
         ProductResponse.GetSimple response = responses.get().toList().get(0);
         assertThat(response.reviewCount()).isNotNull().isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("상품 목록은 products.review_count 에 저장된 후기 수를 그대로 담아야 한다.")
+    void loadProductsByCategory_ReadsReviewCount() {
+        // given
+        productRepository.increaseReviewCount(product.getId());
+        productRepository.increaseReviewCount(product.getId());
+        entityManager.clear();
+
+        Pageable request = new KurlyPagingRequest(1, DEFAULT_DIRECTION).toPageable();
+
+        // when
+        Page<ProductResponse.GetSimple> responses = productRepository.loadProductsByCategory(1L, request);
+
+        // then
+        ProductResponse.GetSimple response = responses.get().toList().get(0);
+        assertThat(response.reviewCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("후기 수는 0 아래로 차감되지 않아야 한다.")
+    void decreaseReviewCount_NotBelowZero() {
+        // when
+        int updated = productRepository.decreaseReviewCount(product.getId());
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getReviewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("실제 후기 수와 어긋난 review_count 를 찾아 다시 집계해야 한다.")
+    void reconcileReviewCounts_Success() {
+        // given
+        Review review = REVIEW_FIXTURE.toEntity(product.getId());
+        Review banned = REVIEW_FIXTURE.toEntity(product.getId());
+        banned.ban();
+        reviewRepository.saveAll(List.of(review, banned));
+
+        productRepository.increaseReviewCount(product.getId());
+        productRepository.increaseReviewCount(product.getId());
+        productRepository.increaseReviewCount(product.getId());
+        entityManager.clear();
+
+        // when
+        long drifted = productRepository.countReviewCountDrift();
+        int repaired = productRepository.reconcileReviewCounts();
+        entityManager.clear();
+
+        // then
+        assertThat(drifted).isEqualTo(1);
+        assertThat(repaired).isEqualTo(1);
+        assertThat(productRepository.countReviewCountDrift()).isZero();
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getReviewCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커서 이후의 상품들을 생성일, id 내림차순으로 겹치지 않게 가져와야 한다.")
+    void seekProductsByCategory_Success() {
+        // given
+        IntStream.range(0, 12).forEach(i -> productRepository.save(ProductFixture.LA_GOGI.toEntity()));
+        ProductCursor first = ProductCursor.first();
+        Pageable limit = PageRequest.ofSize(10);
+
+        // when
+        List<Product> firstPage = productRepository.seekProductsByCategory(1L, first.createAt(), first.id(), limit);
+        ProductCursor next = ProductCursor.from(firstPage.get(firstPage.size() - 1));
+        List<Product> secondPage = productRepository.seekProductsByCategory(1L, next.createAt(), next.id(), limit);
+
+        // then
+        assertThat(firstPage).hasSize(10);
+        assertThat(secondPage).hasSize(3);
+        assertThat(secondPage).doesNotContainAnyElementsOf(firstPage);
+        assertThat(secondPage.get(0).getId()).isLessThan(next.id());
+    }
 }
@@ -0,0 +1,182 @@
+package com.devcourse.kurlymurly.domain.product;
+
+import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
+import com.devcourse.kurlymurly.domain.product.best.BestProductRanker;
+import com.devcourse.kurlymurly.domain.product.category.Category;
+import com.devcourse.kurlymurly.domain.product.category.CategoryRepository;
+import com.devcourse.kurlymurly.domain.service.BestProducts;
+import com.devcourse.kurlymurly.domain.service.CategoryQuery;
+import com.devcourse.kurlymurly.domain.service.ProductCommand;
+import com.devcourse.kurlymurly.domain.service.ProductPageCache;
+import com.devcourse.kurlymurly.domain.service.ProductQuery;
+import com.devcourse.kurlymurly.domain.service.ProductSearch;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.HibernateMetrics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import static com.devcourse.kurlymurly.domain.product.CategoryFixture.KOREAN_SOGOGI;
+import static com.devcourse.kurlymurly.domain.product.Product.Status.BEST;
+import static com.devcourse.kurlymurly.domain.product.Product.Status.DELETED;
+import static com.devcourse.kurlymurly.domain.product.Product.Status.SOLD_OUT;
+import static com.devcourse.kurlymurly.domain.product.ProductFixture.LA_GOGI;
+import static com.devcourse.kurlymurly.domain.product.SecondLevelCacheConfig.PRODUCT_REGION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SecondLevelCacheConfig.class, ProductQuery.class, ProductCommand.class, CategoryQuery.class, ProductPageCache.class,
+        ProductSearch.class, BestProducts.class, BestProductRanker.class})
+class SecondLevelCacheTest {
+    @Autowired
+    private ProductQuery productQuery;
+
+    @Autowired
+    private ProductCommand productCommand;
+
+    @Autowired
+    private CategoryQuery categoryQuery;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(LA_GOGI.toEntity()).getId();
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 상품을 다시 조회하면 DB 대신 2차 캐시에서 꺼내야 한다.")
+    void findProductByIdOrThrow_cached() {
+        // when
+        productQuery.findProductByIdOrThrow(productId);
+        productQuery.findProductByIdOrThrow(productId);
+
+        // then
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(PRODUCT_REGION);
+        assertThat(region.getMissCount()).isEqualTo(1);
+        assertThat(region.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("statusChanges")
+    @DisplayName("상품 상태를 바꾸면 캐시된 상품도 바뀐 상태로 갱신되어야 한다.")
+    void changeStatus_refreshCache(Product.Status expected, BiConsumer<ProductCommand, Long> change) {
+        // given
+        productQuery.findProductByIdOrThrow(productId);
+
+        // when
+        change.accept(productCommand, productId);
+
+        // then
+        statistics.clear();
+        Product product = productQuery.findProductByIdOrThrow(productId);
+        assertThat(product.getStatus()).isEqualTo(expected);
+        assertThat(statistics.getDomainDataRegionStatistics(PRODUCT_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    static Stream<Arguments> statusChanges() {
+        return Stream.of(
+                Arguments.of(SOLD_OUT, (BiConsumer<ProductCommand, Long>) ProductCommand::soldOutProduct),
+                Arguments.of(BEST, (BiConsumer<ProductCommand, Long>) ProductCommand::updateProductToBest),
+                Arguments.of(DELETED, (BiConsumer<ProductCommand, Long>) ProductCommand::deleteProduct)
+        );
+    }
+
+    @Test
+    @DisplayName("후기 수를 바꾸면 그 상품만 캐시에서 빠지고 다른 상품은 계속 캐시에서 꺼내야 한다.")
+    void increaseReviewCount_evictOnlyChangedProduct() {
+        // given
+        Long otherId = productRepository.save(LA_GOGI.toEntity()).getId();
+        productQuery.findProductByIdOrThrow(productId);
+        productQuery.findProductByIdOrThrow(otherId);
+
+        // when
+        productRepository.increaseReviewCount(productId);
+
+        // then
+        statistics.clear();
+        productQuery.findProductByIdOrThrow(otherId);
+        Product product = productQuery.findProductByIdOrThrow(productId);
+
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(PRODUCT_REGION);
+        assertThat(product.getReviewCount()).isEqualTo(1);
+        assertThat(region.getHitCount()).isEqualTo(1);
+        assertThat(region.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카테고리 존재 여부는 쿼리 캐시에서 꺼내고, 카테고리가 삭제되면 다시 조회해야 한다.")
+    void validateIsExist_queryCache() {
+        // given
+        Category category = categoryRepository.save(KOREAN_SOGOGI.toEntity());
+        categoryQuery.validateIsExist(category.getId());
+
+        // when
+        categoryQuery.validateIsExist(category.getId());
+        categoryRepository.deleteById(category.getId());
+
+        // then
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThrows(KurlyBaseException.class, () -> categoryQuery.validateIsExist(category.getId()));
+    }
+
+    @Test
+    @DisplayName("2차 캐시 영역별 적중 횟수를 지표로 남긴다.")
+    void regionMetrics() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class), "entityManagerFactory", Tags.empty())
+                .bindTo(registry);
+
+        // when
+        productQuery.findProductByIdOrThrow(productId);
+        productQuery.findProductByIdOrThrow(productId);
+
+        // then
+        double hits = registry.get("hibernate.second.level.cache.requests")
+                .tags("region", PRODUCT_REGION, "result", "hit")
+                .functionCounter()
+                .count();
+        assertThat(hits).isEqualTo(1);
+    }
+}
@@ -0,0 +1,194 @@
+package com.devcourse.kurlymurly.domain.product.best;
+
+import com.devcourse.kurlymurly.data.generator.DatasetGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.devcourse.kurlymurly.domain.product.best.BestProductRanking.ALL_CATEGORIES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 데이터셋 위에서 순위를 계산하고, 원본 행을 하나씩 읽어 자바로 다시 집계한 결과와 비교한다.
+ * 데이터셋은 2023-10-01 까지의 2년치이므로 그 시각을 현재로 두고 계산한다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BestProductRankerTest {
+    private static final String URL = "jdbc:h2:mem:best_products;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final long ROWS = 100_000;
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 10, 1, 0, 0);
+    private static final Duration WINDOW = Duration.ofDays(90);
+    private static final int LIMIT = 20;
+
+    private JdbcTemplate jdbcTemplate;
+    private BestProductRanker ranker;
+
+    private final Map<Long, Long> ordered = new HashMap<>();
+    private final Map<Long, Long> reviews = new HashMap<>();
+    private final Map<Long, Long> favorites = new HashMap<>();
+
+    @BeforeAll
+    void generateDataset() throws SQLException {
+        DatasetGenerator.main(new String[]{"--url=" + URL, "--rows=" + ROWS, "--migrate"});
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+        ranker = new BestProductRanker(jdbcTemplate, WINDOW, LIMIT, 1.0, 3.0, 2.0);
+
+        jdbcTemplate.query("SELECT o.created_at, o.status, ol.product_id, ol.quantity FROM orders o JOIN order_lines ol ON ol.order_id = o.id",
+                (RowCallbackHandler) resultSet -> {
+                    if (inWindow(resultSet.getTimestamp(1).toLocalDateTime()) && !resultSet.getString(2).equals("CANCELED")) {
+                        ordered.merge(resultSet.getLong(3), resultSet.getLong(4), Long::sum);
+                    }
+                });
+        jdbcTemplate.query("SELECT created_at, status, product_id FROM reviews", (RowCallbackHandler) resultSet -> {
+            if (inWindow(resultSet.getTimestamp(1).toLocalDateTime()) && Set.of("NORMAL", "BEST").contains(resultSet.getString(2))) {
+                reviews.merge(resultSet.getLong(3), 1L, Long::sum);
+            }
+        });
+        jdbcTemplate.query("SELECT created_at, is_deleted, product_id FROM favorites", (RowCallbackHandler) resultSet -> {
+            if (inWindow(resultSet.getTimestamp(1).toLocalDateTime()) && !resultSet.getBoolean(2)) {
+                favorites.merge(resultSet.getLong(3), 1L, Long::sum);
+            }
+        });
+    }
+
+    @AfterAll
+    void dropDataset() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("전체 순위와 카테고리별 순위는 최근 주문 수량, 후기 수, 찜 수를 직접 집계한 순위와 같아야 한다.")
+    void compute_MatchesBruteForce() {
+        // given
+        Map<Long, List<Long>> expected = bruteForce();
+
+        // when
+        BestProductRanking ranking = ranker.compute(NOW);
+
+        // then
+        assertThat(expected).containsKey(ALL_CATEGORIES).hasSizeGreaterThan(1);
+        expected.forEach((categoryId, productIds) -> {
+            assertThat(ranking.size(categoryId)).isEqualTo(productIds.size());
+            assertThat(ranking.page(categoryId, 0, LIMIT)).as("category " + categoryId).isEqualTo(productIds);
+        });
+    }
+
+    @Test
+    @DisplayName("주문이 몰리는 인기 상품이 순위 위쪽을 차지하고, 삭제된 상품은 순위에 없어야 한다.")
+    void compute_PopularProductsFirst() {
+        // when
+        BestProductRanking ranking = ranker.compute(NOW);
+
+        // then
+        List<Long> topTen = ranking.page(ALL_CATEGORIES, 0, 10);
+        long topTenOrdered = topTen.stream().mapToLong(id -> ordered.getOrDefault(id, 0L)).sum();
+        long totalOrdered = ordered.values().stream().mapToLong(Long::longValue).sum();
+        assertThat((double) topTenOrdered / totalOrdered).isGreaterThan(0.2);
+
+        List<String> statuses = jdbcTemplate.queryForList("SELECT status FROM products WHERE id IN ("
+                + String.join(",", ranking.page(ALL_CATEGORIES, 0, LIMIT).stream().map(String::valueOf).toList()) + ")", String.class);
+        assertThat(statuses).hasSize(LIMIT).doesNotContain("DELETED");
+    }
+
+    @Test
+    @DisplayName("갱신 주기 안에 다른 인스턴스가 갱신을 맡았으면 다시 맡을 수 없고, 주기가 지나면 맡을 수 있어야 한다.")
+    void claimRefresh_OncePerInterval() {
+        // given
+        Duration interval = Duration.ofMinutes(10);
+        LocalDateTime claimedAt = NOW.plusYears(1);
+
+        // when
+        boolean first = ranker.claimRefresh(claimedAt, interval);
+        boolean other = ranker.claimRefresh(claimedAt.plusMinutes(1), interval);
+        boolean next = ranker.claimRefresh(claimedAt.plus(interval), interval);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(other).isFalse();
+        assertThat(next).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장한 순위를 다시 읽으면 같은 순위표가 되어야 한다.")
+    void saveAndLoad() {
+        // given
+        BestProductRanking ranking = ranker.compute(NOW);
+
+        // when
+        ranker.save(ranking);
+        ranker.save(ranking);
+        BestProductRanking loaded = ranker.load();
+
+        // then
+        assertThat(loaded.entries()).isEqualTo(ranking.entries());
+        assertThat(loaded.computedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("저장한 뒤에 삭제된 상품은 저장된 순위를 읽을 때 빠져야 한다.")
+    void load_SkipsDeletedProduct() {
+        // given
+        BestProductRanking ranking = ranker.compute(NOW);
+        ranker.save(ranking);
+        long first = ranking.page(ALL_CATEGORIES, 0, 1).get(0);
+        String status = jdbcTemplate.queryForObject("SELECT status FROM products WHERE id = ?", String.class, first);
+        jdbcTemplate.update("UPDATE products SET status = 'DELETED' WHERE id = ?", first);
+
+        try {
+            // when
+            BestProductRanking loaded = ranker.load();
+
+            // then
+            assertThat(loaded.page(ALL_CATEGORIES, 0, LIMIT)).doesNotContain(first);
+            assertThat(loaded.entries()).isEqualTo(ranking.without(first).entries());
+        } finally {
+            jdbcTemplate.update("UPDATE products SET status = ? WHERE id = ?", status, first);
+        }
+    }
+
+    private Map<Long, List<Long>> bruteForce() {
+        Map<Long, List<long[]>> candidates = new HashMap<>();
+        jdbcTemplate.query("SELECT id, category_id, status FROM products", (RowCallbackHandler) resultSet -> {
+            long productId = resultSet.getLong(1);
+            double score = ranker.score(ordered.getOrDefault(productId, 0L), reviews.getOrDefault(productId, 0L),
+                    favorites.getOrDefault(productId, 0L));
+            if (resultSet.getString(3).equals("DELETED") || score <= 0) {
+                return;
+            }
+
+            long[] candidate = {productId, Double.doubleToLongBits(score)};
+            candidates.computeIfAbsent(ALL_CATEGORIES, id -> new ArrayList<>()).add(candidate);
+            candidates.computeIfAbsent(resultSet.getLong(2), id -> new ArrayList<>()).add(candidate);
+        });
+
+        Comparator<long[]> bestFirst = Comparator.<long[]>comparingDouble(candidate -> Double.longBitsToDouble(candidate[1]))
+                .reversed()
+                .thenComparingLong(candidate -> candidate[0]);
+        Map<Long, List<Long>> rankings = new HashMap<>();
+        candidates.forEach((categoryId, list) -> rankings.put(categoryId, list.stream()
+                .sorted(bestFirst)
+                .limit(LIMIT)
+                .map(candidate -> candidate[0])
+                .toList()));
+        return rankings;
+    }
+
+    private boolean inWindow(LocalDateTime createdAt) {
+        return !createdAt.isBefore(NOW.minus(WINDOW)) && createdAt.isBefore(NOW);
+    }
+}
@@ -0,0 +1,93 @@
+package com.devcourse.kurlymurly.domain.product.best;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static com.devcourse.kurlymurly.domain.product.best.BestProductRanking.ALL_CATEGORIES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BestProductRankingTest {
+    private static final LocalDateTime COMPUTED_AT = LocalDateTime.of(2023, 10, 1, 0, 0);
+
+    @Test
+    @DisplayName("점수가 높은 순서로 상위 limit 개만 남기고, 점수가 같으면 id 가 작은 상품을 앞에 둔다.")
+    void build_KeepsTopByScore() {
+        // given
+        BestProductRanking.Builder builder = BestProductRanking.builder(3);
+        builder.add(ALL_CATEGORIES, 1L, 10)
+                .add(ALL_CATEGORIES, 2L, 50)
+                .add(ALL_CATEGORIES, 3L, 5)
+                .add(ALL_CATEGORIES, 4L, 50)
+                .add(ALL_CATEGORIES, 5L, 20);
+
+        // when
+        BestProductRanking ranking = builder.build(COMPUTED_AT);
+
+        // then
+        assertThat(ranking.size(ALL_CATEGORIES)).isEqualTo(3);
+        assertThat(ranking.page(ALL_CATEGORIES, 0, 10)).containsExactly(2L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("페이지는 순위표를 잘라서 만들고, 순위표를 넘어가거나 순위가 없는 카테고리는 빈 목록을 돌려준다.")
+    void page() {
+        // given
+        BestProductRanking.Builder builder = BestProductRanking.builder(100);
+        for (long id = 1; id <= 25; id++) {
+            builder.add(1L, id, 100 - id);
+        }
+        BestProductRanking ranking = builder.build(COMPUTED_AT);
+
+        // when, then
+        assertThat(ranking.page(1L, 10, 10)).containsExactly(11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L);
+        assertThat(ranking.page(1L, 20, 10)).containsExactly(21L, 22L, 23L, 24L, 25L);
+        assertThat(ranking.page(1L, 30, 10)).isEmpty();
+        assertThat(ranking.page(2L, 0, 10)).isEmpty();
+        assertThat(ranking.size(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("상품을 빼면 그 상품이 있던 모든 카테고리에서 뒤 순위가 한 칸씩 당겨진다.")
+    void without() {
+        // given
+        BestProductRanking ranking = BestProductRanking.builder(10)
+                .add(ALL_CATEGORIES, 1L, 3)
+                .add(ALL_CATEGORIES, 2L, 2)
+                .add(ALL_CATEGORIES, 3L, 1)
+                .add(5L, 2L, 2)
+                .add(5L, 3L, 1)
+                .add(6L, 1L, 1)
+                .build(COMPUTED_AT);
+
+        // when
+        BestProductRanking removed = ranking.without(2L);
+
+        // then
+        assertThat(removed.page(ALL_CATEGORIES, 0, 10)).containsExactly(1L, 3L);
+        assertThat(removed.page(5L, 0, 10)).containsExactly(3L);
+        assertThat(removed.page(6L, 0, 10)).containsExactly(1L);
+        assertThat(removed.computedAt()).isEqualTo(COMPUTED_AT);
+        assertThat(ranking.size(ALL_CATEGORIES)).isEqualTo(3);
+        assertThat(removed.without(2L)).isSameAs(removed);
+    }
+
+    @Test
+    @DisplayName("저장용 항목은 카테고리, 순위 순으로 1위부터 나온다.")
+    void entries() {
+        // given
+        BestProductRanking ranking = BestProductRanking.builder(10)
+                .add(2L, 7L, 1)
+                .add(ALL_CATEGORIES, 7L, 1)
+                .add(ALL_CATEGORIES, 8L, 3)
+                .build(COMPUTED_AT);
+
+        // when, then
+        assertThat(ranking.entries()).containsExactly(
+                new BestProductRanking.Entry(ALL_CATEGORIES, 1, 8L, 3),
+                new BestProductRanking.Entry(ALL_CATEGORIES, 2, 7L, 1),
+                new BestProductRanking.Entry(2L, 1, 7L, 1)
+        );
+    }
+}
@@ -0,0 +1,140 @@
+package com.devcourse.kurlymurly.domain.product.review;
+
+import com.devcourse.kurlymurly.domain.product.ProductRepository;
+import com.devcourse.kurlymurly.domain.service.ReviewCommand;
+import com.devcourse.kurlymurly.domain.service.ReviewLikeAccumulator;
+import com.devcourse.kurlymurly.domain.service.ReviewQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.devcourse.kurlymurly.domain.product.ReviewFixture.REVIEW_FIXTURE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewCommandTest {
+    @InjectMocks
+    private ReviewCommand reviewCommand;
+
+    @Mock
+    private ReviewQuery reviewQuery;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReviewLikeRepository reviewLikeRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ReviewLikeAccumulator reviewLikeAccumulator;
+
+    private final Long productId = 1L;
+    private final Long userId = 1L;
+    private final Long reviewId = 1L;
+
+    @Test
+    @DisplayName("후기를 작성하면 상품의 후기 수가 증가한다.")
+    void create_IncreaseReviewCount() {
+        // when
+        reviewCommand.create(userId, productId, "상품", "후기", false);
+
+        // then
+        then(reviewRepository).should(times(1)).save(any());
+        then(productRepository).should(times(1)).increaseReviewCount(productId);
+    }
+
+    @Nested
+    class decreaseReviewCountTest {
+        @Test
+        @DisplayName("노출 중인 후기를 삭제하면 상품의 후기 수가 한 번만 차감된다.")
+        void delete_DecreaseOnlyOnce() {
+            // given
+            Review review = REVIEW_FIXTURE.toEntity(productId);
+            given(reviewQuery.findReviewByIdOrThrow(any())).willReturn(review);
+            given(reviewRepository.updateStatusIfCounted(any(), eq(Review.Status.DELETED))).willReturn(1, 0);
+
+            // when
+            reviewCommand.delete(userId, reviewId);
+            reviewCommand.delete(userId, reviewId);
+
+            // then
+            then(productRepository).should(times(1)).decreaseReviewCount(productId);
+        }
+
+        @Test
+        @DisplayName("이미 삭제된 후기를 차단해도 상품의 후기 수는 차감되지 않는다.")
+        void banned_NotDecrease_WhenAlreadyDeleted() {
+            // given
+            Review review = REVIEW_FIXTURE.toEntity(productId);
+            review.softDelete();
+            given(reviewQuery.findReviewByIdOrThrow(any())).willReturn(review);
+            given(reviewRepository.updateStatusIfCounted(any(), eq(Review.Status.BANNED))).willReturn(0);
+
+            // when
+            reviewCommand.banned(reviewId);
+
+            // then
+            then(productRepository).should(never()).decreaseReviewCount(any());
+        }
+    }
+
+    @Nested
+    class likeTest {
+        @Test
+        @DisplayName("처음 좋아요를 누르면 좋아요 수를 1 올린다.")
+        void likeReview_AddOne_WhenFirstLike() {
+            // given
+            given(reviewLikeRepository.existsByUserIdAndReviewId(userId, reviewId)).willReturn(false);
+
+            // when
+            reviewCommand.likeReview(userId, reviewId);
+
+            // then
+            then(reviewLikeRepository).should(times(1)).saveAndFlush(any());
+            then(reviewLikeAccumulator).should(times(1)).addAfterCommit(reviewId, 1);
+        }
+
+        @Test
+        @DisplayName("이미 좋아요한 후기에 다시 좋아요를 눌러도 좋아요 수는 변하지 않는다.")
+        void likeReview_Ignore_WhenAlreadyLiked() {
+            // given
+            given(reviewLikeRepository.activateIfCanceled(userId, reviewId)).willReturn(0);
+            given(reviewLikeRepository.existsByUserIdAndReviewId(userId, reviewId)).willReturn(true);
+
+            // when
+            reviewCommand.likeReview(userId, reviewId);
+
+            // then
+            then(reviewLikeRepository).should(never()).saveAndFlush(any());
+            then(reviewLikeAccumulator).should(never()).addAfterCommit(any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("좋아요를 취소하면 좋아요 수를 1 내리고, 이미 취소된 경우는 무시한다.")
+        void cancelLike_SubtractOnlyOnce() {
+            // given
+            given(reviewLikeRepository.cancelIfActive(userId, reviewId)).willReturn(1, 0);
+            given(reviewLikeRepository.existsByUserIdAndReviewId(userId, reviewId)).willReturn(true);
+
+            // when
+            reviewCommand.cancelLike(userId, reviewId);
+            reviewCommand.cancelLike(userId, reviewId);
+
+            // then
+            then(reviewLikeAccumulator).should(times(1)).addAfterCommit(reviewId, -1);
+        }
+    }
+}
@@ -1,17 +1,27 @@
 package com.devcourse.kurlymurly.domain.product.review;
 
+import com.devcourse.kurlymurly.data.IdSequences;
 import com.devcourse.kurlymurly.domain.product.Product;
 import com.devcourse.kurlymurly.domain.product.ProductRepository;
 import com.devcourse.kurlymurly.web.product.ReviewResponse;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static com.devcourse.kurlymurly.domain.product.ProductFixture.LA_GOGI;
 import static com.devcourse.kurlymurly.domain.product.ReviewFixture.REVIEW_FIXTURE;
@@ -19,6 +29,7 @@ import static com.devcourse.kurlymurly.domain.product.ReviewFixture.SECRET_REVIE
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(IdSequences.class)
 class ReviewRepositoryTest {
     @Autowired
     private ProductRepository productRepository;
@@ -26,6 +37,17 @@ class ReviewRepositoryTest {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdSequences idSequences;
+
+    private static final Pageable PAGE = PageRequest.ofSize(10);
+
     private Product product;
 
     @BeforeEach
@@ -34,16 +56,17 @@ class ReviewRepositoryTest {
     }
 
     @Test
-    @DisplayName("유저가 작성한 리뷰를 아이디 내림차순으로 가져올 수 있어야한다.")
-    void getAllReviewsByUserId_Success() {
+    @DisplayName("유저가 작성한 리뷰만 아이디 내림차순으로 가져올 수 있어야한다.")
+    void getReviewsByUserIdFromStart_Success() {
         // given
         Long userId = 1L;
         Review review = REVIEW_FIXTURE.toEntity(product.getId());
         Review review2 = SECRET_REVIEW_FIXTURE.toEntity(product.getId());
-        reviewRepository.saveAll(List.of(review, review2));
+        Review othersReview = new Review(2L, product.getId(), product.getName(), "다른 사람 리뷰", false);
+        reviewRepository.saveAll(List.of(review, review2, othersReview));
 
         // when
-        List<ReviewResponse.Reviewed> result = reviewRepository.getAllReviewsByUserId(userId);
+        Slice<ReviewResponse.Reviewed> result = reviewRepository.getReviewsByUserIdFromStart(userId, Long.MAX_VALUE, PAGE);
 
         // then
         assertThat(result).isNotEmpty().hasSize(2);
@@ -52,6 +75,49 @@ class ReviewRepositoryTest {
         assertThat(result).extracting("isSecret").containsExactlyInAnyOrder(true, false);
     }
 
+    @Test
+    @DisplayName("리뷰가 많아도 유저 리뷰 조회는 페이지 크기만큼만 읽어야 한다.")
+    void getReviewsByUserIdFromStart_BoundedByPageSize() {
+        // given
+        Long userId = 1L;
+        int othersReviewCount = 20_000;
+        int myReviewCount = 25;
+        insertReviews(2L, othersReviewCount);
+        insertReviews(userId, myReviewCount);
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        Slice<ReviewResponse.Reviewed> firstPage = reviewRepository.getReviewsByUserIdFromStart(userId, Long.MAX_VALUE, PAGE);
+        Long nextStart = firstPage.getContent().get(firstPage.getNumberOfElements() - 1).reviewId();
+        Slice<ReviewResponse.Reviewed> secondPage = reviewRepository.getReviewsByUserIdFromStart(userId, nextStart, PAGE);
+
+        // then
+        assertThat(firstPage.getContent()).hasSize(PAGE.getPageSize());
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.getContent()).hasSize(PAGE.getPageSize())
+                .allMatch(reviewed -> reviewed.reviewId() < nextStart);
+
+        long fetchedRows = Arrays.stream(statistics.getQueries())
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .sum();
+        assertThat(fetchedRows).isLessThanOrEqualTo(2L * (PAGE.getPageSize() + 1));
+    }
+
+    private void insertReviews(Long userId, int count) {
+        long firstId = idSequences.reserve("reviews", count);
+        List<Object[]> rows = IntStream.range(0, count)
+                .mapToObj(i -> new Object[]{firstId + i, userId, product.getId(), product.getName(), "리뷰 " + i})
+                .toList();
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO reviews(id, user_id, product_id, product_name, content, likes, status, is_secret, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, 0, 'NORMAL', false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, rows);
+    }
+
     @Test
     @DisplayName("마지막 번호부터 상품에 대한 10건의 리뷰를 가져올 수 있어야한다.")
     void getTenReviewsOfProductFromStart_Success() {
@@ -68,4 +134,19 @@ class ReviewRepositoryTest {
         assertThat(response.productName()).isEqualTo(product.getName());
         assertThat(response.reviewId()).isEqualTo(review.getId());
     }
+
+    @Test
+    @DisplayName("후기 수에 포함된 후기의 상태는 한 번만 바뀌어야 한다.")
+    void updateStatusIfCounted_OnlyOnce() {
+        // given
+        Review review = reviewRepository.save(REVIEW_FIXTURE.toEntity(product.getId()));
+
+        // when
+        int first = reviewRepository.updateStatusIfCounted(review.getId(), Review.Status.DELETED);
+        int second = reviewRepository.updateStatusIfCounted(review.getId(), Review.Status.BANNED);
+
+        // then
+        assertThat(first).isOne();
+        assertThat(second).isZero();
+    }
 }
@@ -0,0 +1,80 @@
+package com.devcourse.kurlymurly.domain.product.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteIndexTest {
+    private final AutocompleteIndex index = AutocompleteIndex.builder(3)
+            .add(1L, "[고기반찬] 양념 LA 갈비", 10)
+            .add(2L, "닭가슴살 스테이크", 50)
+            .add(3L, "달콤 고구마", 5)
+            .add(4L, "다시마 육수", 1)
+            .add(5L, "과일 선물세트", 7)
+            .add(6L, "국내산 닭볶음탕", 60)
+            .add(7L, "닭가슴살 볼", 3)
+            .build();
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+            "닭|6,2,7",
+            "달|6,2,3",
+            "ㄷ|6,2,3",
+            "닭가슴|2,7",
+            "닭가슴살스|2",
+            "과|5",
+            "ㄱㅗ|1,5,3",
+            "갈|1",
+            "la|1"
+    })
+    @DisplayName("입력 중인 글자로 시작하는 상품을 주문이 많은 순서로 보여준다.")
+    void suggest(String prefix, String expected) {
+        // when
+        List<Long> productIds = productIds(index.suggest(prefix, 10));
+
+        // then
+        assertThat(productIds).containsExactlyElementsOf(
+                Arrays.stream(expected.split(",")).map(Long::valueOf).toList());
+    }
+
+    @Test
+    @DisplayName("맞는 상품이 없거나 입력이 비어 있으면 빈 목록을 돌려준다.")
+    void suggest_empty() {
+        // when, then
+        assertThat(index.suggest("xyz", 10)).isEmpty();
+        assertThat(index.suggest(" ", 10)).isEmpty();
+        assertThat(AutocompleteIndex.empty().suggest("가", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("요청한 개수만큼만 보여준다.")
+    void suggest_limited() {
+        // when
+        List<Long> productIds = productIds(index.suggest("ㄷ", 1));
+
+        // then
+        assertThat(productIds).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("겹받침과 이중 모음은 입력 순서대로 낱자로 풀어 쓴다.")
+    void decompose() {
+        // when, then
+        assertThat(Jamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(Jamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(Jamo.decompose("ㄳ ㅘ")).isEqualTo("ㄱㅅㅗㅏ");
+        assertThat(Jamo.decompose("Ａ 1")).isEqualTo("a1");
+    }
+
+    private List<Long> productIds(List<AutocompleteIndex.Suggestion> suggestions) {
+        return suggestions.stream()
+                .map(AutocompleteIndex.Suggestion::productId)
+                .toList();
+    }
+}
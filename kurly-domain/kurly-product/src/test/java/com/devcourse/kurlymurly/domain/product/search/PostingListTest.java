@@ -0,0 +1,58 @@
+package com.devcourse.kurlymurly.domain.product.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class PostingListTest {
+    @Test
+    @DisplayName("varint 로 압축한 문서 번호와 빈도를 그대로 다시 읽는다.")
+    void forEach_roundTrip() {
+        // given
+        PostingList postingList = new PostingList();
+        int[][] postings = {{0, 1}, {127, 3}, {128, 300}, {100_000, 1}, {Integer.MAX_VALUE, 70_000}};
+        for (int[] posting : postings) {
+            postingList.add(posting[0], posting[1]);
+        }
+
+        // when
+        List<int[]> read = new ArrayList<>();
+        postingList.forEach((doc, frequency) -> read.add(new int[]{doc, frequency}));
+
+        // then
+        assertThat(read).containsExactly(postings);
+        assertThat(postingList.documentCount()).isEqualTo(postings.length);
+    }
+
+    @Test
+    @DisplayName("가까운 문서 번호는 한 바이트씩만 차지한다.")
+    void add_compact() {
+        // given
+        PostingList postingList = new PostingList();
+
+        // when
+        for (int doc = 0; doc < 1000; doc++) {
+            postingList.add(doc, 1);
+        }
+        postingList.trim();
+
+        // then
+        assertThat(postingList.memoryBytes()).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("문서 번호가 줄어드는 순서로 추가하면 예외가 발생한다.")
+    void add_decreasing() {
+        // given
+        PostingList postingList = new PostingList();
+        postingList.add(10, 1);
+
+        // when, then
+        assertThatIllegalArgumentException().isThrownBy(() -> postingList.add(10, 1));
+    }
+}
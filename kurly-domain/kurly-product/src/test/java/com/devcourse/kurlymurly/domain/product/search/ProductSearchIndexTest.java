@@ -0,0 +1,116 @@
+package com.devcourse.kurlymurly.domain.product.search;
+
+import com.devcourse.kurlymurly.domain.product.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.devcourse.kurlymurly.domain.product.Product.Delivery.EXPRESS;
+import static com.devcourse.kurlymurly.domain.product.Product.Delivery.NORMAL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.upsert(document(1L, 1L, EXPRESS, true, "한우 등심 스테이크", "1등급 한우"));
+        index.upsert(document(2L, 2L, NORMAL, false, "국내산 돼지 삼겹살", "구이용 삼겹살"));
+        index.upsert(document(3L, 1L, NORMAL, false, "호주산 소고기 등심", "스테이크용"));
+        index.upsert(document(4L, 1L, EXPRESS, false, "국내산 소고기 불고기", "양념 불고기"));
+    }
+
+    @Test
+    @DisplayName("검색어가 더 많이 들어간 상품을 먼저 보여준다.")
+    void search_ranked() {
+        // when
+        List<Long> result = productIds(index.search("한우 등심", SearchFilter.NONE, 10));
+
+        // then
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기가 달라도 같은 상품을 찾는다.")
+    void search_ignoreSpacing() {
+        // when
+        List<Long> result = productIds(index.search("국내산소고기", SearchFilter.NONE, 10));
+
+        // then
+        assertThat(result).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("카테고리, 배송, 컬리 Only 조건에 맞는 상품만 보여준다.")
+    void search_filtered() {
+        // when
+        List<Long> normal = productIds(index.search("등심", new SearchFilter(null, NORMAL, null), 10));
+        List<Long> kurlyOnly = productIds(index.search("등심", new SearchFilter(null, null, true), 10));
+        List<Long> category = productIds(index.search("국내산", new SearchFilter(2L, null, null), 10));
+
+        // then
+        assertThat(normal).containsExactly(3L);
+        assertThat(kurlyOnly).containsExactly(1L);
+        assertThat(category).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("결과는 요청한 개수까지만 보여준다.")
+    void search_limited() {
+        // when
+        List<SearchHit> result = index.search("등심 소고기 국내산", SearchFilter.NONE, 1);
+
+        // then
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("상품이 바뀌면 바뀐 내용으로, 삭제되면 결과에서 빠진다.")
+    void upsert_updateAndDelete() {
+        // when
+        index.upsert(document(3L, 1L, NORMAL, false, "호주산 소고기 안심", "스테이크용"));
+        index.upsert(new SearchDocument(1L, 1L, EXPRESS, Product.Status.DELETED, true, "한우 등심 스테이크", "1등급 한우", ""));
+
+        // then
+        assertThat(index.search("등심", SearchFilter.NONE, 10)).isEmpty();
+        assertThat(productIds(index.search("안심", SearchFilter.NONE, 10))).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("지워진 문서를 정리해도 검색 결과는 같다.")
+    void compact_sameResult() {
+        // given
+        for (long id = 10; id < 200; id++) {
+            index.upsert(document(id, 3L, NORMAL, false, "제주 감귤 " + id, "새콤달콤 감귤"));
+        }
+        for (long id = 10; id < 200; id += 2) {
+            index.upsert(document(id, 3L, EXPRESS, false, "제주 한라봉 " + id, "달콤한 한라봉"));
+        }
+        List<Long> before = productIds(index.search("제주 감귤", SearchFilter.NONE, 200));
+        long memoryBefore = index.memoryBytes();
+
+        // when
+        index.compact();
+
+        // then
+        assertThat(productIds(index.search("제주 감귤", SearchFilter.NONE, 200))).isEqualTo(before);
+        assertThat(productIds(index.search("한라봉", new SearchFilter(3L, EXPRESS, null), 200))).hasSize(95);
+        assertThat(index.size()).isEqualTo(194);
+        assertThat(index.memoryBytes()).isLessThanOrEqualTo(memoryBefore);
+    }
+
+    private SearchDocument document(Long id, Long categoryId, Product.Delivery delivery, boolean kurlyOnly,
+                                    String name, String description) {
+        return new SearchDocument(id, categoryId, delivery, Product.Status.NORMAL, kurlyOnly, name, description, "컬리 1팩");
+    }
+
+    private List<Long> productIds(List<SearchHit> hits) {
+        return hits.stream()
+                .map(SearchHit::productId)
+                .toList();
+    }
+}
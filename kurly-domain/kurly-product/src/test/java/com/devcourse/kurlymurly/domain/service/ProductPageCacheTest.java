@@ -0,0 +1,125 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import com.devcourse.kurlymurly.web.product.ProductResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductPageCacheTest {
+    private final Pageable pageable = PageRequest.of(0, 10);
+
+    private Page<ProductResponse.GetSimple> pageOf(int size) {
+        List<ProductResponse.GetSimple> contents = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            contents.add(new ProductResponse.GetSimple("", "EXPRESS", "상품" + i, "", 1000, 0L, false, "NORMAL"));
+        }
+        return new PageImpl<>(contents, pageable, size);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 조회하면 DB를 거치지 않고 캐시된 페이지를 반환한다.")
+    void get_Hit() {
+        // given
+        ProductPageCache cache = new ProductPageCache(100, Duration.ofMinutes(1));
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        cache.get(1L, pageable, () -> { loadCount.incrementAndGet(); return pageOf(3); });
+        cache.get(1L, pageable, () -> { loadCount.incrementAndGet(); return pageOf(3); });
+
+        // then
+        assertThat(loadCount).hasValue(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카테고리를 비우면 해당 카테고리의 페이지만 다시 조회한다.")
+    void evictCategory_Success() {
+        // given
+        ProductPageCache cache = new ProductPageCache(100, Duration.ofMinutes(1));
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.get(1L, pageable, () -> { loadCount.incrementAndGet(); return pageOf(3); });
+        cache.get(2L, pageable, () -> { loadCount.incrementAndGet(); return pageOf(3); });
+
+        // when
+        cache.evictCategory(1L);
+        cache.get(1L, pageable, () -> { loadCount.incrementAndGet(); return pageOf(3); });
+        cache.get(2L, pageable, () -> { loadCount.incrementAndGet(); return pageOf(3); });
+
+        // then
+        assertThat(loadCount).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("상품 수 합계가 최대치를 넘으면 가장 오래 사용되지 않은 페이지부터 제거한다.")
+    void store_EvictEldest_WhenOverWeight() {
+        // given
+        ProductPageCache cache = new ProductPageCache(10, Duration.ofMinutes(1));
+
+        // when
+        cache.get(1L, pageable, () -> pageOf(6));
+        cache.get(2L, pageable, () -> pageOf(6));
+
+        // then
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(cache.weight()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("비어 있는 키에 동시에 요청이 몰려도 DB 조회는 한 번만 일어난다.")
+    void get_SingleFlight() throws Exception {
+        // given
+        ProductPageCache cache = new ProductPageCache(100, Duration.ofMinutes(1));
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        int threads = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<Page<ProductResponse.GetSimple>>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> cache.get(1L, pageable, () -> {
+                loadCount.incrementAndGet();
+                await(loading);
+                return pageOf(3);
+            })));
+        }
+        Thread.sleep(200);
+        loading.countDown();
+
+        for (Future<Page<ProductResponse.GetSimple>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).hasSize(3);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(loadCount).hasValue(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount() + cache.coalescedCount()).isEqualTo(threads - 1);
+        assertThat(cache.coalescedCount()).isPositive();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import com.devcourse.kurlymurly.data.metrics.MaxQueries;
+import com.devcourse.kurlymurly.data.metrics.StatementMetricsConfig;
+import com.devcourse.kurlymurly.domain.product.ProductRepository;
+import com.devcourse.kurlymurly.domain.product.best.BestProductCursor;
+import com.devcourse.kurlymurly.domain.product.best.BestProductRanker;
+import com.devcourse.kurlymurly.domain.product.best.BestProductRanking;
+import com.devcourse.kurlymurly.web.common.KurlyCursorSlice;
+import com.devcourse.kurlymurly.web.product.ProductResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.devcourse.kurlymurly.domain.product.ProductFixture.LA_GOGI;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({ProductQuery.class, ProductPageCache.class, ProductSearch.class, BestProducts.class, BestProductRanker.class,
+        StatementMetricsConfig.class})
+class ProductQueryStatementBudgetTest {
+    private static final Long CATEGORY_ID = 1L;
+    private static final int PRODUCT_COUNT = 30;
+    private static final Pageable PAGE = PageRequest.ofSize(10);
+
+    @Autowired
+    private ProductQuery productQuery;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BestProducts bestProducts;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Long> productIds;
+
+    @BeforeEach
+    void initProducts() {
+        productIds = IntStream.range(0, PRODUCT_COUNT)
+                .mapToObj(i -> productRepository.save(LA_GOGI.toEntity()).getId())
+                .toList();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void clearRanking() {
+        bestProducts.replace(BestProductRanking.empty());
+    }
+
+    @Test
+    @MaxQueries(2)
+    @DisplayName("카테고리 상품 페이지는 목록과 개수 쿼리만 실행하고, 같은 페이지를 다시 요청하면 캐시에서 꺼내야 한다.")
+    void getProductsPageOfCategory() {
+        // when
+        Page<ProductResponse.GetSimple> first = productQuery.getProductsPageOfCategory(CATEGORY_ID, PAGE);
+        Page<ProductResponse.GetSimple> second = productQuery.getProductsPageOfCategory(CATEGORY_ID, PAGE);
+
+        // then
+        assertThat(first.getContent()).hasSize(10);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @MaxQueries(2)
+    @DisplayName("신상품 페이지는 목록과 개수 쿼리만 실행해야 한다.")
+    void getNewProductPageResponse() {
+        // when
+        Page<ProductResponse.GetSimple> products = productQuery.getNewProductPageResponse(PAGE);
+
+        // then
+        assertThat(products.getTotalElements()).isEqualTo(PRODUCT_COUNT);
+    }
+
+    @Test
+    @MaxQueries(1)
+    @DisplayName("베스트 상품 페이지는 순위표에서 자른 id 로 한 번만 조회하고, 개수는 순위표에서 알아내야 한다.")
+    void getBestProductPageResponse() {
+        // given
+        BestProductRanking.Builder builder = BestProductRanking.builder(PRODUCT_COUNT);
+        productIds.forEach(id -> builder.add(BestProductRanking.ALL_CATEGORIES, id, id));
+        bestProducts.replace(builder.build(LocalDateTime.now()));
+
+        // when
+        Page<ProductResponse.GetSimple> products = productQuery.getBestProductPageResponse(PAGE.next());
+
+        // then
+        assertThat(products.getContent()).hasSize(10);
+        assertThat(products.getTotalElements()).isEqualTo(PRODUCT_COUNT);
+    }
+
+    @Test
+    @MaxQueries(0)
+    @DisplayName("순위를 아직 계산하지 않았다면 베스트 상품 페이지는 쿼리 없이 빈 페이지를 돌려준다.")
+    void getBestProductPageResponse_Empty() {
+        // when
+        Page<ProductResponse.GetSimple> products = productQuery.getBestProductPageResponse(PAGE);
+
+        // then
+        assertThat(products.getContent()).isEmpty();
+    }
+
+    @Test
+    @MaxQueries(1)
+    @DisplayName("커서 기반 카테고리 상품 목록은 개수 쿼리 없이 한 번에 조회해야 한다.")
+    void getProductsSliceOfCategory() {
+        // when
+        KurlyCursorSlice<ProductResponse.GetSimple> products = productQuery.getProductsSliceOfCategory(CATEGORY_ID, null);
+
+        // then
+        assertThat(products.contents()).hasSize(10);
+        assertThat(products.hasNext()).isTrue();
+    }
+
+    @Test
+    @MaxQueries(1)
+    @DisplayName("커서 기반 신상품 목록은 개수 쿼리 없이 한 번에 조회해야 한다.")
+    void getNewProductSlice() {
+        // when
+        KurlyCursorSlice<ProductResponse.GetSimple> products = productQuery.getNewProductSlice(null);
+
+        // then
+        assertThat(products.contents()).hasSize(10);
+    }
+
+    @Test
+    @MaxQueries(2)
+    @DisplayName("커서 기반 베스트 상품 목록은 순위표를 순위대로 이어서 읽고, 한 번에 한 쿼리만 실행해야 한다.")
+    void getBestProductSlice() {
+        // given
+        rankAll();
+
+        // when
+        KurlyCursorSlice<ProductResponse.GetSimple> first = productQuery.getBestProductSlice(null);
+        KurlyCursorSlice<ProductResponse.GetSimple> last = productQuery.getBestProductSlice(
+                new BestProductCursor(PRODUCT_COUNT - 5).encode());
+
+        // then
+        assertThat(first.contents()).hasSize(10);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(BestProductCursor.decode(first.nextCursor()).offset()).isEqualTo(10);
+        assertThat(last.contents()).hasSize(5);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제된 상품은 순위표에서 빠져서 베스트 상품 페이지가 모자라지 않아야 한다.")
+    void getBestProductPageResponse_WithoutDeleted() {
+        // given
+        rankAll();
+
+        // when
+        bestProducts.remove(productIds.get(PRODUCT_COUNT - 1));
+        Page<ProductResponse.GetSimple> products = productQuery.getBestProductPageResponse(PAGE);
+
+        // then
+        assertThat(products.getContent()).hasSize(10);
+        assertThat(products.getTotalElements()).isEqualTo(PRODUCT_COUNT - 1);
+    }
+
+    private void rankAll() {
+        BestProductRanking.Builder builder = BestProductRanking.builder(PRODUCT_COUNT);
+        productIds.forEach(id -> builder.add(BestProductRanking.ALL_CATEGORIES, id, id));
+        bestProducts.replace(builder.build(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import com.devcourse.kurlymurly.domain.product.Product;
+import com.devcourse.kurlymurly.domain.product.ProductRepository;
+import com.devcourse.kurlymurly.domain.product.SecondLevelCacheConfig;
+import com.devcourse.kurlymurly.domain.product.search.SearchFilter;
+import com.devcourse.kurlymurly.domain.product.search.SearchHit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static com.devcourse.kurlymurly.domain.product.ProductFixture.LA_GOGI;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({SecondLevelCacheConfig.class, ProductSearch.class})
+class ProductSearchRefreshTest {
+    @Autowired
+    private ProductSearch productSearch;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("커밋 알림 없이 DB 에서만 바뀐 상품도 주기적 갱신에서 색인에 넣고, 삭제되면 뺀다.")
+    void refresh_AppliesChangesFromOtherInstances() {
+        // given
+        productSearch.rebuild();
+        Product product = productRepository.save(LA_GOGI.toEntity());
+
+        // when
+        productSearch.refresh();
+        List<Long> afterCreate = productIds(productSearch.search("갈비", SearchFilter.NONE, 10));
+
+        product.softDelete();
+        productRepository.saveAndFlush(product);
+        productSearch.refresh();
+        List<Long> afterDelete = productIds(productSearch.search("갈비", SearchFilter.NONE, 10));
+
+        // then
+        assertThat(afterCreate).containsExactly(product.getId());
+        assertThat(afterDelete).isEmpty();
+    }
+
+    private List<Long> productIds(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::productId).toList();
+    }
+}
@@ -0,0 +1,128 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class ReviewLikeAccumulatorTest {
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    @DisplayName("수천 건의 동시 좋아요와 취소가 중간에 비워져도 최종 증감분은 정확해야 한다.")
+    void add_Exact_UnderConcurrency() throws Exception {
+        // given
+        ReviewLikeAccumulator accumulator = new ReviewLikeAccumulator(jdbcTemplate, transactionManager, Long.MAX_VALUE);
+        int threads = 32;
+        int likesPerThread = 500;
+        int cancelsPerThread = 100;
+        List<Long> reviewIds = List.of(1L, 2L, 3L);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Map<Long, Long> flushed = new HashMap<>();
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                await(start);
+                for (int i = 0; i < likesPerThread; i++) {
+                    accumulator.add(reviewIds.get(i % reviewIds.size()), 1);
+                }
+                for (int i = 0; i < cancelsPerThread; i++) {
+                    accumulator.add(reviewIds.get(i % reviewIds.size()), -1);
+                }
+                done.countDown();
+            });
+        }
+
+        executor.submit(() -> {
+            await(start);
+            while (running.get()) {
+                accumulator.drain().forEach((id, delta) -> flushed.merge(id, delta, Long::sum));
+            }
+        });
+
+        // when
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        accumulator.drain().forEach((id, delta) -> flushed.merge(id, delta, Long::sum));
+
+        // then
+        long total = flushed.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(total).isEqualTo((long) threads * (likesPerThread - cancelsPerThread));
+        assertThat(flushed.get(1L)).isEqualTo(threads * (167L - 34L));
+        assertThat(flushed.get(2L)).isEqualTo(threads * (167L - 33L));
+        assertThat(flushed.get(3L)).isEqualTo(threads * (166L - 33L));
+    }
+
+    @Test
+    @DisplayName("임계치에 도달하면 모인 증감분을 반영 스레드에서 한 번의 배치로 반영한다.")
+    void add_Flush_WhenThresholdReached() throws Exception {
+        // given
+        ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+        ReviewLikeAccumulator accumulator = new ReviewLikeAccumulator(jdbcTemplate, transactionManager, 3, flushExecutor);
+
+        // when
+        accumulator.add(1L, 1);
+        accumulator.add(2L, 1);
+        accumulator.add(1L, 1);
+        flushExecutor.shutdown();
+        assertThat(flushExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        then(jdbcTemplate).should(times(1)).batchUpdate(anyString(), anyList());
+        then(transactionManager).should(times(1)).commit(any());
+        assertThat(accumulator.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감분은 다음 반영을 위해 다시 모아둔다.")
+    void flush_Restore_WhenWriteFailed() {
+        // given
+        ReviewLikeAccumulator accumulator = new ReviewLikeAccumulator(jdbcTemplate, transactionManager, Long.MAX_VALUE);
+        willThrow(new RuntimeException()).given(jdbcTemplate).batchUpdate(anyString(), anyList());
+        accumulator.add(1L, 1);
+        accumulator.add(1L, 1);
+
+        // when
+        accumulator.flush();
+
+        // then
+        then(transactionManager).should(times(1)).rollback(any());
+        then(transactionManager).should(never()).commit(any());
+        assertThat(accumulator.drain()).containsEntry(1L, 2L);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
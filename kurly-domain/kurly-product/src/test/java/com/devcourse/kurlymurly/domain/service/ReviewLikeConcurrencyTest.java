@@ -0,0 +1,135 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import com.devcourse.kurlymurly.domain.product.Product;
+import com.devcourse.kurlymurly.domain.product.ProductRepository;
+import com.devcourse.kurlymurly.domain.product.SecondLevelCacheConfig;
+import com.devcourse.kurlymurly.domain.product.review.Review;
+import com.devcourse.kurlymurly.domain.product.review.ReviewLikeRepository;
+import com.devcourse.kurlymurly.domain.product.review.ReviewRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.devcourse.kurlymurly.domain.product.ProductFixture.LA_GOGI;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SecondLevelCacheConfig.class, ReviewCommand.class, ReviewQuery.class, ReviewLikeAccumulator.class})
+class ReviewLikeConcurrencyTest {
+    private static final Long USER_ID = 1L;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ReviewCommand reviewCommand;
+
+    @Autowired
+    private ReviewLikeAccumulator reviewLikeAccumulator;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewLikeRepository reviewLikeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long reviewId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = productRepository.save(LA_GOGI.toEntity());
+        reviewId = reviewRepository.save(new Review(2L, product.getId(), product.getName(), "맛있어요", false)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewLikeRepository.deleteAllInBatch();
+        reviewRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 좋아요를 동시에 여러 번 눌러도 좋아요는 한 행만 생기고 좋아요 수는 1 이어야 한다.")
+    void likeReview_CountsOnce_UnderConcurrency() throws Exception {
+        // given
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        // when
+        runConcurrently(() -> reviewCommand.likeReview(USER_ID, reviewId), failures);
+        reviewLikeAccumulator.flush();
+
+        // then
+        assertThat(failures).allSatisfy(e -> assertThat(e).isInstanceOf(DataIntegrityViolationException.class));
+        assertThat(reviewLikeRepository.count()).isOne();
+        assertThat(likes()).isOne();
+    }
+
+    @Test
+    @DisplayName("좋아요 취소를 동시에 여러 번 눌러도 좋아요 수는 한 번만 줄어야 한다.")
+    void cancelLike_SubtractsOnce_UnderConcurrency() throws Exception {
+        // given
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        reviewCommand.likeReview(USER_ID, reviewId);
+        reviewLikeAccumulator.flush();
+
+        // when
+        runConcurrently(() -> reviewCommand.cancelLike(USER_ID, reviewId), failures);
+        reviewLikeAccumulator.flush();
+
+        // then
+        assertThat(failures).isEmpty();
+        assertThat(likes()).isZero();
+    }
+
+    private void runConcurrently(Runnable task, Queue<Throwable> failures) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                await(start);
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+    }
+
+    private Integer likes() {
+        return jdbcTemplate.queryForObject("SELECT likes FROM reviews WHERE id = ?", Integer.class, reviewId);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
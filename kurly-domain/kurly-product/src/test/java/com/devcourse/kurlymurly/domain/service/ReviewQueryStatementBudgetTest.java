@@ -0,0 +1,62 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import com.devcourse.kurlymurly.data.metrics.MaxQueries;
+import com.devcourse.kurlymurly.data.metrics.StatementMetricsConfig;
+import com.devcourse.kurlymurly.domain.product.Product;
+import com.devcourse.kurlymurly.domain.product.ProductRepository;
+import com.devcourse.kurlymurly.domain.product.review.Review;
+import com.devcourse.kurlymurly.domain.product.review.ReviewRepository;
+import com.devcourse.kurlymurly.web.product.ReviewResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+
+import java.util.stream.IntStream;
+
+import static com.devcourse.kurlymurly.domain.product.ProductFixture.LA_GOGI;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({ReviewQuery.class, StatementMetricsConfig.class})
+class ReviewQueryStatementBudgetTest {
+    private static final int REVIEW_COUNT = 30;
+
+    @Autowired
+    private ReviewQuery reviewQuery;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Product product;
+
+    @BeforeEach
+    void initReviews() {
+        product = productRepository.save(LA_GOGI.toEntity());
+        IntStream.range(0, REVIEW_COUNT).forEach(i -> reviewRepository.save(
+                new Review((long) i + 1, product.getId(), product.getName(), "맛있어요 " + i, false)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @MaxQueries(1)
+    @DisplayName("상품 후기 목록은 작성자와 상품 정보를 함께 한 번의 쿼리로 조회해야 한다.")
+    void getReviewsOfProduct() {
+        // when
+        Slice<ReviewResponse.OfProduct> reviews = reviewQuery.getReviewsOfProduct(product.getId(), Long.MAX_VALUE);
+
+        // then
+        assertThat(reviews.getContent()).hasSize(10);
+    }
+}
@@ -0,0 +1,143 @@
+package com.devcourse.kurlymurly.domain.service;
+
+import com.devcourse.kurlymurly.common.exception.ErrorCode;
+import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
+import com.devcourse.kurlymurly.domain.product.ProductRepository;
+import com.devcourse.kurlymurly.domain.product.SecondLevelCacheConfig;
+import com.devcourse.kurlymurly.domain.product.best.BestProductRanker;
+import com.devcourse.kurlymurly.domain.product.stock.StockBucket;
+import com.devcourse.kurlymurly.domain.product.stock.StockBucketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.devcourse.kurlymurly.domain.product.Product.Status.NORMAL;
+import static com.devcourse.kurlymurly.domain.product.Product.Status.SOLD_OUT;
+import static com.devcourse.kurlymurly.domain.product.ProductFixture.LA_GOGI;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SecondLevelCacheConfig.class, ProductQuery.class, ProductCommand.class, CategoryQuery.class, ProductPageCache.class,
+        ProductSearch.class, BestProducts.class, BestProductRanker.class, StockCommand.class})
+class StockCommandConcurrencyTest {
+    private static final int STOCK = 100;
+
+    @Autowired
+    private StockCommand stockCommand;
+
+    @Autowired
+    private ProductQuery productQuery;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockBucketRepository stockBucketRepository;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(LA_GOGI.toEntity()).getId();
+        stockCommand.addStock(productId, STOCK);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockBucketRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("재고 100개에 주문 10,000건이 동시에 몰려도 정확히 100건만 성공하고 재고가 음수가 되지 않아야 한다.")
+    void reserve_NoOversell_UnderConcurrency() throws Exception {
+        // given
+        int threads = 32;
+        int orders = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < orders; i++) {
+            executor.submit(() -> {
+                await(start);
+                try {
+                    stockCommand.reserve(Map.of(productId, 1));
+                    succeeded.incrementAndGet();
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        // then
+        assertThat(succeeded.get()).isEqualTo(STOCK);
+        assertThat(failures).hasSize(orders - STOCK)
+                .allSatisfy(e -> assertThat(e).isInstanceOf(KurlyBaseException.class)
+                        .extracting("errorCode").isEqualTo(ErrorCode.OUT_OF_STOCK));
+
+        List<StockBucket> buckets = stockBucketRepository.findAll();
+        assertThat(buckets).isNotEmpty().allSatisfy(bucket -> assertThat(bucket.getQuantity()).isZero());
+        assertThat(productQuery.findProductByIdOrThrow(productId).getStatus()).isEqualTo(SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("품절된 상품의 주문을 취소하면 재고가 돌아오고 다시 판매 상태가 되어야 한다.")
+    void release_RestoresStockAndReopens() {
+        // given
+        stockCommand.reserve(Map.of(productId, STOCK));
+
+        // when
+        stockCommand.release(Map.of(productId, 3));
+
+        // then
+        assertThat(stockCommand.getStock(productId)).isEqualTo(3);
+        assertThat(productQuery.findProductByIdOrThrow(productId).getStatus()).isEqualTo(NORMAL);
+    }
+
+    @Test
+    @DisplayName("재고를 입고한 적 없는 상품은 수량 제한 없이 주문을 받는다.")
+    void reserve_Untracked() {
+        // given
+        Long untracked = productRepository.save(LA_GOGI.toEntity()).getId();
+
+        // when
+        stockCommand.reserve(Map.of(untracked, 1_000));
+        stockCommand.release(Map.of(untracked, 1_000));
+
+        // then
+        assertThat(stockBucketRepository.existsByProductId(untracked)).isFalse();
+        assertThat(productQuery.findProductByIdOrThrow(untracked).getStatus()).isEqualTo(NORMAL);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
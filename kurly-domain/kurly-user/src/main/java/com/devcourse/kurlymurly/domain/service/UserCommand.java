@@ -1,6 +1,7 @@
 package com.devcourse.kurlymurly.domain.service;
 
 import com.devcourse.kurlymurly.domain.user.User;
+import com.devcourse.kurlymurly.domain.user.UserCredentialChanged;
 import com.devcourse.kurlymurly.domain.user.cart.Cart;
 import com.devcourse.kurlymurly.domain.user.cart.CartRepository;
 import com.devcourse.kurlymurly.domain.user.payment.CreditInfo;
@@ -11,6 +12,7 @@ import com.devcourse.kurlymurly.domain.user.shipping.ShippingRepository;
 import com.devcourse.kurlymurly.web.user.RegisterPayment;
 import com.devcourse.kurlymurly.web.user.UpdateUser;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -21,19 +23,23 @@ public class UserCommand {
     private final PaymentRepository paymentRepository;
     private final ShippingRepository shippingRepository;
     private final CartRepository cartRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserCommand(
             PaymentRepository paymentRepository,
             ShippingRepository shippingRepository,
-            CartRepository cartRepository
+            CartRepository cartRepository,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.paymentRepository = paymentRepository;
         this.shippingRepository = shippingRepository;
         this.cartRepository = cartRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public void updateUserInfo(UpdateUser.Request request, String editPassword, User user) {
         user.update(request.name(), editPassword, request.email(), request.sex(), request.birth(), request.phoneNumber());
+        eventPublisher.publishEvent(new UserCredentialChanged(user.getLoginId()));
     }
 
     public void addAddress(Long userId, String address, boolean isDefault) {
@@ -74,6 +80,7 @@ public class UserCommand {
 
     public void updatePaymentPassword(User user, String encodedPassword) {
         user.updatePayPassword(encodedPassword);
+        eventPublisher.publishEvent(new UserCredentialChanged(user.getLoginId()));
     }
 
     public void addCart(Long id, Long productId, int quantity) {
@@ -29,7 +29,7 @@ public class User extends BaseEntity {
     @Column(nullable = false, length = 10)
     private String name;
 
-    @Column(nullable = false, length = 50)
+    @Column(nullable = false, length = 50, unique = true)
     private String loginId;
 
     @Column(nullable = false)
@@ -108,6 +108,10 @@ public class User extends BaseEntity {
         return password;
     }
 
+    public String getPayPassword() {
+        return payPassword;
+    }
+
     public User.Role getRole() {
         return this.role;
     }
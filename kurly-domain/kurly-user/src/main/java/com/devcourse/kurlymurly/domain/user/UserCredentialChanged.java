@@ -0,0 +1,7 @@
+package com.devcourse.kurlymurly.domain.user;
+
+/**
+ * 로그인 정보나 결제 비밀번호처럼 인증된 사용자 정보가 바뀌었을 때 발행하는 이벤트
+ */
+public record UserCredentialChanged(String loginId) {
+}
@@ -1,6 +1,8 @@
 package com.devcourse.kurlymurly.domain.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -8,4 +10,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     boolean existsByLoginId(String loginId);
     Optional<User> findByLoginId(String loginId);
+
+    @Query("SELECT u.payPassword FROM User u WHERE u.id = :id")
+    Optional<String> findPayPasswordById(@Param("id") Long id);
 }
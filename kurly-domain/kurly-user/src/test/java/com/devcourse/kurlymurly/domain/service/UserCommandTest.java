@@ -2,6 +2,7 @@ package com.devcourse.kurlymurly.domain.service;
 
 import com.devcourse.kurlymurly.domain.user.ShippingFixture;
 import com.devcourse.kurlymurly.domain.user.User;
+import com.devcourse.kurlymurly.domain.user.UserCredentialChanged;
 import com.devcourse.kurlymurly.domain.user.payment.Payment;
 import com.devcourse.kurlymurly.domain.user.payment.PaymentRepository;
 import com.devcourse.kurlymurly.domain.user.shipping.Shipping;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static com.devcourse.kurlymurly.domain.user.UserFixture.USER_FIXTURE;
 import static com.devcourse.kurlymurly.module.user.PaymentFixture.PAYMENT_FIXTURE;
@@ -36,6 +38,9 @@ class UserCommandTest {
     @Mock
     private ShippingRepository shippingRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private static User user;
 
     @BeforeEach
@@ -62,6 +67,7 @@ class UserCommandTest {
 
             // Then
             assertThat(user.getName()).isEqualTo("sehan");
+            then(eventPublisher).should(times(1)).publishEvent(new UserCredentialChanged(user.getLoginId()));
         }
     }
 
@@ -0,0 +1,52 @@
+package com.devcourse.kurlymurly.domain.user.cart;
+
+import com.devcourse.kurlymurly.data.metrics.StatementCounter;
+import com.devcourse.kurlymurly.data.metrics.StatementMetricsConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Import(StatementMetricsConfig.class)
+class CartRepositoryTest {
+    private static final int CART_COUNT = 250;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("장바구니를 여러 건 저장하면 id 를 미리 받아 두고 INSERT 를 배치로 묶어 보내야 한다.")
+    void saveAll_batched() {
+        // given
+        List<Cart> carts = LongStream.range(0, CART_COUNT)
+                .mapToObj(i -> new Cart(1L, i, 1))
+                .toList();
+
+        // when
+        long statements;
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            cartRepository.saveAll(carts);
+            entityManager.flush();
+            statements = scope.count();
+        }
+
+        // then
+        assertThat(carts).extracting(Cart::getId).doesNotHaveDuplicates().doesNotContainNull();
+        assertThat(statements).isLessThan(CART_COUNT / 10);
+        assertThat(cartRepository.count()).isEqualTo(CART_COUNT);
+    }
+}
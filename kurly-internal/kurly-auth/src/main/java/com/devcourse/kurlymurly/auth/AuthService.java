@@ -18,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import static com.devcourse.kurlymurly.common.exception.ErrorCode.EXIST_SAME_EMAIL;
 import static com.devcourse.kurlymurly.common.exception.ErrorCode.EXIST_SAME_ID;
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.NOT_CORRECT_PAY_PASSWORD;
 
 @Service
 @Transactional(readOnly = true)
@@ -86,6 +87,19 @@ public class AuthService {
         return passwordEncoder.encode(rawPassword);
     }
 
+    // 인증에 쓰는 사용자는 캐시에서 꺼낸 것이라 결제 비밀번호를 바꾼 직후에는 예전 값일 수 있으므로 DB 에서 다시 읽는다.
+    // 결제 비밀번호를 등록하지 않은 사용자도 결제할 수 없다. BCrypt 는 null 을 받으면 예외를 던지므로 먼저 거른다.
+    public void validatePayPassword(Long userId, String rawPayPassword) {
+        if (rawPayPassword == null) {
+            throw new KurlyBaseException(NOT_CORRECT_PAY_PASSWORD);
+        }
+
+        String payPassword = userRepository.findPayPasswordById(userId).orElse(null);
+        if (payPassword == null || !passwordEncoder.matches(rawPayPassword, payPassword)) {
+            throw new KurlyBaseException(NOT_CORRECT_PAY_PASSWORD);
+        }
+    }
+
     public Boolean checkId(String id) {
         return userRepository.existsByLoginId(id);
     }
@@ -0,0 +1,146 @@
+package com.devcourse.kurlymurly.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 서명 검증을 마친 토큰의 Claims 를 토큰 다이제스트 기준으로 보관한다.
+ * 만료 시각이 지난 토큰은 캐시에서 꺼내지 않고 다시 검증해서 만료 예외가 나도록 한다.
+ */
+@Component
+public class ClaimsCache implements MeterBinder {
+    private record Key(long high, long low) {
+        static Key of(byte[] digest) {
+            long high = 0;
+            long low = 0;
+            for (int i = 0; i < 8; i++) {
+                high = (high << 8) | (digest[i] & 0xFF);
+                low = (low << 8) | (digest[i + 8] & 0xFF);
+            }
+            return new Key(high, low);
+        }
+    }
+
+    private record Entry(Claims claims, long expireAt) {
+        boolean isExpired(long now) {
+            return now >= expireAt;
+        }
+    }
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(ClaimsCache::sha256);
+
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<Key, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ClaimsCache(@Value("${kurly.cache.jwt-claims.max-size:10000}") int maxSize) {
+        this(maxSize, System::currentTimeMillis);
+    }
+
+    ClaimsCache(int maxSize, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                boolean overflow = size() > ClaimsCache.this.maxSize;
+                if (overflow) {
+                    evictions.increment();
+                }
+                return overflow;
+            }
+        };
+    }
+
+    /** 만료되지 않은 검증 결과가 있으면 돌려주고, 없으면 parser 로 검증한 뒤 보관한다. */
+    public Claims get(String token, Function<String, Claims> parser) {
+        if (token == null || token.isBlank()) {
+            return parser.apply(token);
+        }
+
+        Key key = digestOf(token);
+        long now = clock.getAsLong();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (!entry.isExpired(now)) {
+                    hits.increment();
+                    return entry.claims();
+                }
+                entries.remove(key);
+            }
+        }
+
+        misses.increment();
+        Claims claims = parser.apply(token);
+
+        // 만료 시각이 없는 토큰은 언제까지 유효한지 알 수 없으므로 보관하지 않는다.
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            synchronized (entries) {
+                entries.put(key, new Entry(claims, expiration.getTime()));
+            }
+        }
+        return claims;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("kurly.cache.jwt-claims.hits", this, ClaimsCache::hitCount).register(registry);
+        FunctionCounter.builder("kurly.cache.jwt-claims.misses", this, ClaimsCache::missCount).register(registry);
+        FunctionCounter.builder("kurly.cache.jwt-claims.evictions", this, ClaimsCache::evictionCount).register(registry);
+        Gauge.builder("kurly.cache.jwt-claims.size", this, ClaimsCache::size).register(registry);
+    }
+
+    private static Key digestOf(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return Key.of(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
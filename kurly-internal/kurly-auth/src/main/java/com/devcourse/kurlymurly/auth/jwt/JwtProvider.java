@@ -4,6 +4,7 @@ import com.devcourse.kurlymurly.auth.CustomUserDetailService;
 import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -30,15 +31,23 @@ public class JwtProvider {
     private static final String AUTHORITY = "authority";
 
     private final Key key;
+    private final JwtParser parser;
     private final CustomUserDetailService userDetailService;
+    private final PrincipalCache principalCache;
+    private final ClaimsCache claimsCache;
 
     public JwtProvider(
             @Value("${secret-key}") String secretKey,
-            CustomUserDetailService userDetailService
+            CustomUserDetailService userDetailService,
+            PrincipalCache principalCache,
+            ClaimsCache claimsCache
     ) {
         byte[] secretByteKey = DatatypeConverter.parseBase64Binary(secretKey);
         this.key = Keys.hmacShaKeyFor(secretByteKey);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.userDetailService = userDetailService;
+        this.principalCache = principalCache;
+        this.claimsCache = claimsCache;
     }
 
     public String createToken(Authentication authentication) {
@@ -46,10 +55,13 @@ public class JwtProvider {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
+        long now = System.currentTimeMillis();
+
         return Jwts.builder()
                 .setSubject(authentication.getName())
                 .claim(AUTHORITY, authorities)
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + EXPIRATION_TIME))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
@@ -59,10 +71,19 @@ public class JwtProvider {
         String username = claims.getSubject();
         Collection<? extends GrantedAuthority> authorities = getAuthority(claims);
 
-        UserDetails user = userDetailService.loadUserByUsername(username);
+        UserDetails user = loadUser(username, claims.getIssuedAt());
         return new UsernamePasswordAuthenticationToken(user, null, authorities);
     }
 
+    // 발급 시각이 없는 이전 토큰은 캐시하지 않는다.
+    private UserDetails loadUser(String username, Date issuedAt) {
+        if (issuedAt == null) {
+            return userDetailService.loadUserByUsername(username);
+        }
+
+        return principalCache.get(username, issuedAt.getTime(), userDetailService::loadUserByUsername);
+    }
+
     private Collection<? extends GrantedAuthority> getAuthority(Claims claims) {
         try {
             String[] authorities = claims.get(AUTHORITY).toString().split(",");
@@ -75,7 +96,11 @@ public class JwtProvider {
     }
 
     private Claims parseClaims(String accessToken) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+        return claimsCache.get(accessToken, this::verify);
+    }
+
+    private Claims verify(String accessToken) {
+        return parser.parseClaimsJws(accessToken).getBody();
     }
 }
 
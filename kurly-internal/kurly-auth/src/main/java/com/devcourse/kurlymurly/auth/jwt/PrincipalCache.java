@@ -0,0 +1,125 @@
+package com.devcourse.kurlymurly.auth.jwt;
+
+import com.devcourse.kurlymurly.domain.user.UserCredentialChanged;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * (로그인 아이디, 토큰 발급 시각)별로 인증된 사용자를 짧게 보관해서 요청마다 회원을 조회하지 않도록 한다.
+ * 회원 정보가 바뀌면 해당 아이디로 보관된 사용자를 모두 비운다.
+ */
+@Component
+public class PrincipalCache implements MeterBinder {
+    private record Key(String loginId, long issuedAt) {
+    }
+
+    private record Entry(UserDetails principal, long expireAt) {
+        boolean isExpired(long now) {
+            return now - expireAt >= 0;
+        }
+    }
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Key, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PrincipalCache(
+            @Value("${kurly.cache.principal.max-size:10000}") int maxSize,
+            @Value("${kurly.cache.principal.ttl:PT1M}") Duration ttl
+    ) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                boolean overflow = size() > PrincipalCache.this.maxSize;
+                if (overflow) {
+                    evictions.increment();
+                }
+                return overflow;
+            }
+        };
+    }
+
+    public UserDetails get(String loginId, long issuedAt, Function<String, UserDetails> loader) {
+        Key key = new Key(loginId, issuedAt);
+        long now = System.nanoTime();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.isExpired(now)) {
+                hits.increment();
+                return entry.principal();
+            }
+        }
+
+        misses.increment();
+        long version = invalidations.get();
+        UserDetails principal = loader.apply(loginId);
+
+        synchronized (entries) {
+            // 조회하는 사이에 회원 정보가 바뀌었다면 이전 정보를 보관하지 않는다.
+            if (invalidations.get() == version) {
+                entries.put(key, new Entry(principal, now + ttlNanos));
+            }
+        }
+        return principal;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCredentialChanged(UserCredentialChanged event) {
+        invalidate(event.loginId());
+    }
+
+    public void invalidate(String loginId) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.keySet().removeIf(key -> key.loginId().equals(loginId));
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("kurly.cache.principal.hits", this, PrincipalCache::hitCount).register(registry);
+        FunctionCounter.builder("kurly.cache.principal.misses", this, PrincipalCache::missCount).register(registry);
+        FunctionCounter.builder("kurly.cache.principal.evictions", this, PrincipalCache::evictionCount).register(registry);
+        FunctionCounter.builder("kurly.cache.principal.invalidations", invalidations, AtomicLong::get).register(registry);
+        Gauge.builder("kurly.cache.principal.size", this, PrincipalCache::size).register(registry);
+    }
+}
@@ -15,13 +15,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Optional;
+
 import static com.devcourse.kurlymurly.auth.UserFixture.USER_FIXTURE;
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.NOT_CORRECT_PAY_PASSWORD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceTest {
+    private static final Long USER_ID = 1L;
+
     @InjectMocks
     private AuthService authService;
 
@@ -83,4 +91,61 @@ public class AuthServiceTest {
             assertThrows(KurlyBaseException.class, () -> authService.join(joinRequest));
         }
     }
+
+    @Nested
+    @DisplayName("결제 비밀번호 확인 테스트")
+    class validatePayPassword {
+        @Test
+        @DisplayName("등록한 결제 비밀번호와 같으면 통과한다.")
+        void validatePayPassword_Success() {
+            // given
+            doReturn(Optional.of(user.getPayPassword())).when(userRepository).findPayPasswordById(USER_ID);
+            doReturn(true).when(passwordEncoder).matches("123456", user.getPayPassword());
+
+            // when, then
+            assertDoesNotThrow(() -> authService.validatePayPassword(USER_ID, "123456"));
+        }
+
+        @Test
+        @DisplayName("결제 비밀번호가 틀리면 예외를 던진다.")
+        void validatePayPassword_Fail_ByWrongPassword() {
+            // given
+            doReturn(Optional.of(user.getPayPassword())).when(userRepository).findPayPasswordById(USER_ID);
+            doReturn(false).when(passwordEncoder).matches("654321", user.getPayPassword());
+
+            // when
+            KurlyBaseException exception = assertThrows(KurlyBaseException.class,
+                    () -> authService.validatePayPassword(USER_ID, "654321"));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(NOT_CORRECT_PAY_PASSWORD);
+        }
+
+        @Test
+        @DisplayName("결제 비밀번호를 보내지 않으면 비교하지 않고 예외를 던진다.")
+        void validatePayPassword_Fail_ByMissingPassword() {
+            // when
+            KurlyBaseException exception = assertThrows(KurlyBaseException.class,
+                    () -> authService.validatePayPassword(USER_ID, null));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(NOT_CORRECT_PAY_PASSWORD);
+            verifyNoInteractions(passwordEncoder);
+        }
+
+        @Test
+        @DisplayName("결제 비밀번호를 등록하지 않은 사용자는 결제할 수 없다.")
+        void validatePayPassword_Fail_ByNotRegistered() {
+            // given
+            doReturn(Optional.empty()).when(userRepository).findPayPasswordById(USER_ID);
+
+            // when
+            KurlyBaseException exception = assertThrows(KurlyBaseException.class,
+                    () -> authService.validatePayPassword(USER_ID, "123456"));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(NOT_CORRECT_PAY_PASSWORD);
+            verifyNoInteractions(passwordEncoder);
+        }
+    }
 }
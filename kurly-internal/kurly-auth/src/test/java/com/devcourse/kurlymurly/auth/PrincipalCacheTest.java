@@ -0,0 +1,97 @@
+package com.devcourse.kurlymurly.auth;
+
+import com.devcourse.kurlymurly.auth.jwt.PrincipalCache;
+import com.devcourse.kurlymurly.domain.user.UserCredentialChanged;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+    private static final long ISSUED_AT = 1_700_000_000_000L;
+
+    private PrincipalCache principalCache;
+    private AtomicInteger loadCount;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(2, Duration.ofMinutes(1));
+        loadCount = new AtomicInteger();
+        loader = loginId -> {
+            loadCount.incrementAndGet();
+            return User.withUsername(loginId).password("password").roles("USER").build();
+        };
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 다시 인증하면 회원을 조회하지 않는다")
+    void get_hit() {
+        // given
+        principalCache.get("kurly", ISSUED_AT, loader);
+
+        // when
+        UserDetails principal = principalCache.get("kurly", ISSUED_AT, loader);
+
+        // then
+        assertThat(principal.getUsername()).isEqualTo("kurly");
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(principalCache.hitCount()).isEqualTo(1);
+        assertThat(principalCache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 발급 시각이 다르면 따로 보관한다")
+    void get_differentIssuedAt() {
+        // given
+        principalCache.get("kurly", ISSUED_AT, loader);
+
+        // when
+        principalCache.get("kurly", ISSUED_AT + 1, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(principalCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("회원 정보가 바뀌면 해당 아이디의 사용자를 모두 비운다")
+    void onCredentialChanged() {
+        // given
+        principalCache.get("kurly", ISSUED_AT, loader);
+        principalCache.get("kurly", ISSUED_AT + 1, loader);
+
+        // when
+        principalCache.onCredentialChanged(new UserCredentialChanged("kurly"));
+        principalCache.get("kurly", ISSUED_AT, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+        assertThat(principalCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 쓰지 않은 사용자를 내보낸다")
+    void get_evictEldest() {
+        // given
+        principalCache.get("first", ISSUED_AT, loader);
+        principalCache.get("second", ISSUED_AT, loader);
+        principalCache.get("first", ISSUED_AT, loader);
+
+        // when
+        principalCache.get("third", ISSUED_AT, loader);
+        principalCache.get("first", ISSUED_AT, loader);
+
+        // then
+        assertThat(principalCache.size()).isEqualTo(2);
+        assertThat(principalCache.evictionCount()).isEqualTo(1);
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,108 @@
+package com.devcourse.kurlymurly.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClaimsCacheTest {
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long EXPIRE_AT = NOW + 60_000L;
+
+    private AtomicLong clock;
+    private AtomicInteger parseCount;
+    private ClaimsCache claimsCache;
+    private Function<String, Claims> parser;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(NOW);
+        parseCount = new AtomicInteger();
+        claimsCache = new ClaimsCache(2, clock::get);
+        parser = token -> {
+            parseCount.incrementAndGet();
+            return Jwts.claims().setSubject(token).setExpiration(new Date(EXPIRE_AT));
+        };
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증한다")
+    void get_hit() {
+        // given
+        claimsCache.get("token", parser);
+
+        // when
+        Claims claims = claimsCache.get("token", parser);
+
+        // then
+        assertThat(claims.getSubject()).isEqualTo("token");
+        assertThat(parseCount.get()).isEqualTo(1);
+        assertThat(claimsCache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 캐시에서 꺼내지 않고 다시 검증한다")
+    void get_expired() {
+        // given
+        claimsCache.get("token", parser);
+        clock.set(EXPIRE_AT);
+
+        // when
+        claimsCache.get("token", parser);
+
+        // then
+        assertThat(parseCount.get()).isEqualTo(2);
+        assertThat(claimsCache.hitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 보관하지 않는다")
+    void get_invalid() {
+        // given
+        Function<String, Claims> failing = token -> {
+            throw new IllegalArgumentException();
+        };
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> claimsCache.get("token", failing));
+        assertThat(claimsCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 캐시를 거치지 않고 바로 검증한다")
+    void get_blank() {
+        // when
+        claimsCache.get(null, parser);
+
+        // then
+        assertThat(parseCount.get()).isEqualTo(1);
+        assertThat(claimsCache.missCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 쓰지 않은 토큰을 내보낸다")
+    void get_evictEldest() {
+        // given
+        claimsCache.get("first", parser);
+        claimsCache.get("second", parser);
+        claimsCache.get("first", parser);
+
+        // when
+        claimsCache.get("third", parser);
+        claimsCache.get("first", parser);
+
+        // then
+        assertThat(claimsCache.size()).isEqualTo(2);
+        assertThat(claimsCache.evictionCount()).isEqualTo(1);
+        assertThat(parseCount.get()).isEqualTo(3);
+    }
+}
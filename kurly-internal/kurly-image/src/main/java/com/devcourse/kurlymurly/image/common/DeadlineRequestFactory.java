@@ -0,0 +1,48 @@
+package com.devcourse.kurlymurly.image.common;
+
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 청크 단위로 전송하는 요청 팩토리.
+ * {@link #within} 안에서 보내는 요청은 연결/응답 대기 시간을 설정값과 남은 마감 시간 중 짧은 쪽으로 줄인다.
+ */
+public class DeadlineRequestFactory extends SimpleClientHttpRequestFactory {
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    public DeadlineRequestFactory() {
+        setBufferRequestBody(false);
+    }
+
+    /** deadlineNanos 는 {@link System#nanoTime()} 기준의 마감 시각이다. */
+    public static <T> T within(long deadlineNanos, Supplier<T> request) {
+        DEADLINE.set(deadlineNanos);
+        try {
+            return request.get();
+        } finally {
+            DEADLINE.remove();
+        }
+    }
+
+    @Override
+    protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+
+        Long deadline = DEADLINE.get();
+        if (deadline == null) {
+            return;
+        }
+
+        int remaining = (int) Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+        connection.setConnectTimeout(cap(connection.getConnectTimeout(), remaining));
+        connection.setReadTimeout(cap(connection.getReadTimeout(), remaining));
+    }
+
+    private static int cap(int configured, int remaining) {
+        return configured <= 0 ? remaining : Math.min(configured, remaining);
+    }
+}
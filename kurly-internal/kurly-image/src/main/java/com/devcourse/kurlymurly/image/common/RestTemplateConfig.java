@@ -1,5 +1,6 @@
 package com.devcourse.kurlymurly.image.common;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,9 +17,11 @@ public class RestTemplateConfig {
     }
 
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(@Value("${kurly.image.upload.read-timeout:PT10S}") Duration readTimeout) {
         return restTemplateBuilder.rootUri("http://localhost:8080")
+                .requestFactory(DeadlineRequestFactory::new)
                 .setConnectTimeout(Duration.ofMillis(300))
+                .setReadTimeout(readTimeout)
                 .build();
     }
 }
@@ -0,0 +1,22 @@
+package com.devcourse.kurlymurly.image.common;
+
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.file.Path;
+
+/**
+ * 임시 파일을 스트리밍으로 전송하면서 원본 파일 이름을 유지한다.
+ */
+public class UploadFileResource extends FileSystemResource {
+    private final String originImageName;
+
+    public UploadFileResource(Path file, String originImageName) {
+        super(file);
+        this.originImageName = originImageName;
+    }
+
+    @Override
+    public String getFilename() {
+        return originImageName;
+    }
+}
@@ -8,4 +8,8 @@ public class ImageUploadFailException extends KurlyBaseException {
     public ImageUploadFailException() {
         super(IMAGE_UPLOAD_FAIL);
     }
+
+    public ImageUploadFailException(Throwable cause) {
+        super(IMAGE_UPLOAD_FAIL, cause);
+    }
 }
@@ -0,0 +1,11 @@
+package com.devcourse.kurlymurly.image.exception;
+
+import com.devcourse.kurlymurly.common.exception.KurlyBaseException;
+
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.IMAGE_UPLOAD_REJECTED;
+
+public class ImageUploadRejectedException extends KurlyBaseException {
+    public ImageUploadRejectedException() {
+        super(IMAGE_UPLOAD_REJECTED);
+    }
+}
@@ -1,54 +1,181 @@
 package com.devcourse.kurlymurly.image.service;
 
 import com.devcourse.kurlymurly.application.image.ImageUploader;
-import com.devcourse.kurlymurly.image.common.CustomInputStreamResource;
+import com.devcourse.kurlymurly.image.common.DeadlineRequestFactory;
+import com.devcourse.kurlymurly.image.common.UploadFileResource;
 import com.devcourse.kurlymurly.image.exception.ImageConvertFailException;
 import com.devcourse.kurlymurly.image.exception.ImageUploadFailException;
+import com.devcourse.kurlymurly.image.exception.ImageUploadRejectedException;
 import com.devcourse.kurlymurly.image.model.ImageResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
 
+/**
+ * 이미지 업로드 전용 스레드 풀에서 이미지 서버로 파일을 스트리밍 전송한다.
+ * 대기열이 가득 차면 요청을 바로 거절하고, 일시적인 실패는 지수 백오프로 재시도한다.
+ * 매 시도의 연결/응답 대기 시간은 전체 마감까지 남은 시간을 넘지 않는다. (RestTemplate 이 {@link DeadlineRequestFactory} 를 쓸 때)
+ */
 @Component
-class RestTemplateImageUploader implements ImageUploader {
+class RestTemplateImageUploader implements ImageUploader, MeterBinder {
     private static final Logger log = LoggerFactory.getLogger(RestTemplateImageUploader.class);
 
     private static final String IMAGE_KEY = "image";
     private static final String API_KEY = "key";
+    private static final String TEMP_FILE_PREFIX = "kurly-image-";
 
-    private final RestTemplate restTemplate;
-
-    @Value("${kurly.image.server}")
-    private String imageUrl;
+    record UploadPolicy(int threads, int queueCapacity, int maxAttempts, Duration initialBackoff, Duration timeout) {
+    }
 
-    @Value("${kurly.image.key}")
-    private String apiKey;
+    private final RestTemplate restTemplate;
+    private final String imageUrl;
+    private final String apiKey;
+    private final UploadPolicy policy;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private volatile Timer successTimer;
+    private volatile Timer failureTimer;
+
+    public RestTemplateImageUploader(
+            RestTemplate restTemplate,
+            @Value("${kurly.image.server}") String imageUrl,
+            @Value("${kurly.image.key}") String apiKey,
+            @Value("${kurly.image.upload.threads:4}") int threads,
+            @Value("${kurly.image.upload.queue-capacity:50}") int queueCapacity,
+            @Value("${kurly.image.upload.max-attempts:3}") int maxAttempts,
+            @Value("${kurly.image.upload.initial-backoff:PT0.2S}") Duration initialBackoff,
+            @Value("${kurly.image.upload.timeout:PT30S}") Duration timeout
+    ) {
+        this(restTemplate, imageUrl, apiKey, new UploadPolicy(threads, queueCapacity, maxAttempts, initialBackoff, timeout));
+    }
 
-    public RestTemplateImageUploader(RestTemplate restTemplate) {
+    RestTemplateImageUploader(RestTemplate restTemplate, String imageUrl, String apiKey, UploadPolicy policy) {
         this.restTemplate = restTemplate;
+        this.imageUrl = imageUrl;
+        this.apiKey = apiKey;
+        this.policy = policy;
+        this.executor = new ThreadPoolExecutor(
+                policy.threads(), policy.threads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(policy.queueCapacity()),
+                new CustomizableThreadFactory("KurlyMurly-Image-Upload-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
     }
 
-    @Async
+    /**
+     * 요청이 끝나면 multipart 임시 파일이 지워지므로 먼저 별도 임시 파일로 옮긴 뒤 업로드를 예약한다.
+     * @throws ImageUploadRejectedException 업로드 대기열이 가득 찬 경우
+     */
     @Override
     public CompletableFuture<String> upload(MultipartFile image) {
-        HttpEntity<MultiValueMap<String, Object>> request = generateHttpEntityRequest(image);
-        String uploadUrl = sendRequestToImageServer(request);
-        log.info("image uploaded : {}", uploadUrl);
-        return CompletableFuture.completedFuture(uploadUrl);
+        Path file = copyToTempFile(image);
+        UploadFileResource resource = new UploadFileResource(file, image.getOriginalFilename());
+
+        try {
+            return CompletableFuture.supplyAsync(() -> uploadWithRetry(resource), executor)
+                    .whenComplete((uploadUrl, e) -> {
+                        deleteQuietly(file);
+                        if (e != null) {
+                            log.warn("image upload failed : {}", image.getOriginalFilename(), e);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            deleteQuietly(file);
+            rejections.increment();
+            throw new ImageUploadRejectedException();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(policy.timeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public long rejectionCount() {
+        return rejections.sum();
+    }
+
+    public long retryCount() {
+        return retries.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("kurly.image.upload.queue", this, RestTemplateImageUploader::queueDepth).register(registry);
+        Gauge.builder("kurly.image.upload.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+        FunctionCounter.builder("kurly.image.upload.rejections", this, RestTemplateImageUploader::rejectionCount).register(registry);
+        FunctionCounter.builder("kurly.image.upload.retries", this, RestTemplateImageUploader::retryCount).register(registry);
+        successTimer = Timer.builder("kurly.image.upload.latency").tag("outcome", "success").register(registry);
+        failureTimer = Timer.builder("kurly.image.upload.latency").tag("outcome", "failure").register(registry);
+    }
+
+    private String uploadWithRetry(UploadFileResource resource) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + policy.timeout().toNanos();
+        long backoffMillis = policy.initialBackoff().toMillis();
+        boolean succeeded = false;
+
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    String uploadUrl = DeadlineRequestFactory.within(deadline,
+                            () -> sendRequestToImageServer(generateHttpEntityRequest(resource)));
+                    log.info("image uploaded : {}", uploadUrl);
+                    succeeded = true;
+                    return uploadUrl;
+                } catch (ResourceAccessException | HttpServerErrorException e) {
+                    boolean exhausted = attempt >= policy.maxAttempts();
+                    boolean timedOut = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis) - deadline >= 0;
+                    if (exhausted || timedOut) {
+                        throw new ImageUploadFailException(e);
+                    }
+
+                    retries.increment();
+                    log.info("image upload attempt {} failed, retry after {}ms : {}", attempt, backoffMillis, e.getMessage());
+                    sleep(backoffMillis);
+                    backoffMillis *= 2;
+                }
+            }
+        } finally {
+            record(succeeded ? successTimer : failureTimer, startedAt);
+        }
     }
 
     private String sendRequestToImageServer(HttpEntity<MultiValueMap<String, Object>> request) {
@@ -63,24 +190,29 @@ class RestTemplateImageUploader implements ImageUploader {
         }
     }
 
-    private HttpEntity<MultiValueMap<String, Object>> generateHttpEntityRequest(MultipartFile image) {
+    private HttpEntity<MultiValueMap<String, Object>> generateHttpEntityRequest(UploadFileResource resource) {
         HttpHeaders httpHeaders = multipartHeaders();
-        MultiValueMap<String, Object> valueMap = getMultiValueMap(image);
+        MultiValueMap<String, Object> valueMap = getMultiValueMap(resource);
         return new HttpEntity<>(valueMap, httpHeaders);
     }
 
-    private MultiValueMap<String, Object> getMultiValueMap(MultipartFile image) {
-        InputStreamResource resource = initResource(image);
+    private MultiValueMap<String, Object> getMultiValueMap(UploadFileResource resource) {
         return new LinkedMultiValueMap<>() {{
             add(API_KEY, apiKey);
             add(IMAGE_KEY, resource);
         }};
     }
 
-    private InputStreamResource initResource(MultipartFile image) {
+    private Path copyToTempFile(MultipartFile image) {
+        Path file = null;
         try {
-            return new CustomInputStreamResource(image.getInputStream(), image.getOriginalFilename(), image.getSize());
+            file = Files.createTempFile(TEMP_FILE_PREFIX, null);
+            image.transferTo(file);
+            return file;
         } catch (IOException e) {
+            if (file != null) {
+                deleteQuietly(file);
+            }
             throw new ImageConvertFailException(e);
         }
     }
@@ -90,4 +222,27 @@ class RestTemplateImageUploader implements ImageUploader {
         httpHeaders.setContentType(MULTIPART_FORM_DATA);
         return httpHeaders;
     }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageUploadFailException(e);
+        }
+    }
+
+    private void record(Timer timer, long startedAt) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("failed to delete temp image file : {}", file, e);
+        }
+    }
 }
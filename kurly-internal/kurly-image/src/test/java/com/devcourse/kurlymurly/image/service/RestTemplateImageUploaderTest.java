@@ -0,0 +1,212 @@
+package com.devcourse.kurlymurly.image.service;
+
+import com.devcourse.kurlymurly.image.common.RestTemplateConfig;
+import com.devcourse.kurlymurly.image.exception.ImageUploadFailException;
+import com.devcourse.kurlymurly.image.exception.ImageUploadRejectedException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RestTemplateImageUploaderTest {
+    private static final String UPLOADED_URL = "https://image.kurly.com/uploaded.png";
+    private static final String SUCCESS_BODY =
+            "{\"data\":{\"display_url\":\"" + UPLOADED_URL + "\"},\"success\":true,\"status\":200}";
+
+    private HttpServer server;
+    private final Deque<Integer> statuses = new ArrayDeque<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final List<String> transferEncodings = new CopyOnWriteArrayList<>();
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+    private CountDownLatch release = new CountDownLatch(0);
+
+    private RestTemplate restTemplate;
+    private String imageUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/upload", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        imageUrl = "http://localhost:" + server.getAddress().getPort() + "/upload";
+        restTemplate = new RestTemplateConfig(new RestTemplateBuilder()).restTemplate(Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("이미지 파일을 청크 단위로 스트리밍해서 업로드한다")
+    void upload() throws Exception {
+        // given
+        RestTemplateImageUploader uploader = uploader(policy(3, 1));
+
+        // when
+        String uploadUrl = uploader.upload(image()).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(uploadUrl).isEqualTo(UPLOADED_URL);
+        assertThat(transferEncodings).containsExactly("chunked");
+        assertThat(receivedBodies.get(0)).contains("kurly.png", "image-bytes");
+    }
+
+    @Test
+    @DisplayName("이미지 서버가 5xx 를 응답하면 백오프 후 재시도한다")
+    void upload_retry() throws Exception {
+        // given
+        statuses.add(503);
+        statuses.add(500);
+        RestTemplateImageUploader uploader = uploader(policy(3, 1));
+
+        // when
+        String uploadUrl = uploader.upload(image()).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(uploadUrl).isEqualTo(UPLOADED_URL);
+        assertThat(requestCount.get()).isEqualTo(3);
+        assertThat(uploader.retryCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 쓰면 업로드 실패로 끝난다")
+    void upload_exhausted() {
+        // given
+        statuses.add(500);
+        statuses.add(500);
+        statuses.add(500);
+        RestTemplateImageUploader uploader = uploader(policy(2, 1));
+
+        // when
+        CompletableFuture<String> future = uploader.upload(image());
+
+        // then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(e.getCause()).isInstanceOf(ImageUploadFailException.class);
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않는다")
+    void upload_clientError() {
+        // given
+        statuses.add(400);
+        RestTemplateImageUploader uploader = uploader(policy(3, 1));
+
+        // when
+        CompletableFuture<String> future = uploader.upload(image());
+
+        // then
+        assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(uploader.retryCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("업로드 대기열이 가득 차면 바로 거절한다")
+    void upload_rejected() throws Exception {
+        // given
+        release = new CountDownLatch(1);
+        RestTemplateImageUploader uploader = uploader(policy(1, 1));
+        CompletableFuture<String> running = uploader.upload(image());
+        CompletableFuture<String> queued = uploader.upload(image());
+
+        // when, then
+        assertThrows(ImageUploadRejectedException.class, () -> uploader.upload(image()));
+        assertThat(uploader.rejectionCount()).isEqualTo(1);
+        assertThat(uploader.queueDepth()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo(UPLOADED_URL);
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo(UPLOADED_URL);
+    }
+
+    @Test
+    @DisplayName("이미지 서버가 응답하지 않으면 읽기 제한 시간이 아니라 전체 마감 시간에 맞춰 끝난다")
+    void upload_deadline() {
+        // given
+        release = new CountDownLatch(1);
+        RestTemplateImageUploader uploader = uploader(
+                new RestTemplateImageUploader.UploadPolicy(1, 1, 3, Duration.ofMillis(10), Duration.ofMillis(300)));
+
+        // when
+        CompletableFuture<String> future = uploader.upload(image());
+
+        // then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertThat(e.getCause()).isInstanceOf(ImageUploadFailException.class);
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    private RestTemplateImageUploader uploader(RestTemplateImageUploader.UploadPolicy policy) {
+        return new RestTemplateImageUploader(restTemplate, imageUrl, "api-key", policy);
+    }
+
+    private RestTemplateImageUploader.UploadPolicy policy(int maxAttempts, int queueCapacity) {
+        return new RestTemplateImageUploader.UploadPolicy(1, queueCapacity, maxAttempts, Duration.ofMillis(10), Duration.ofSeconds(5));
+    }
+
+    private MockMultipartFile image() {
+        return new MockMultipartFile("image", "kurly.png", "image/png", "image-bytes".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        transferEncodings.add(exchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+        receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        awaitRelease();
+
+        Integer status;
+        synchronized (statuses) {
+            status = statuses.poll();
+        }
+        if (status != null) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] body = SUCCESS_BODY.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,22 +1,56 @@
 package com.devcourse.kurlymurly.async;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
+    private static final String THREAD_NAME_PREFIX = "KurlyMurly-Async-Executor";
+
+    private final ThreadMode threadMode;
+
+    public AsyncConfig(@Value("${kurly.threads.mode:platform}") ThreadMode threadMode) {
+        this.threadMode = threadMode;
+    }
+
     @Override
     public Executor getAsyncExecutor() {
+        if (threadMode == ThreadMode.VIRTUAL) {
+            return VirtualThreads.factory(THREAD_NAME_PREFIX + "-")
+                    .map(this::virtualThreadExecutor)
+                    .orElseGet(() -> {
+                        log.warn("falling back to platform thread pool for @Async");
+                        return platformThreadExecutor();
+                    });
+        }
+
+        return platformThreadExecutor();
+    }
+
+    // 작업마다 가상 스레드를 새로 만들기 때문에 풀과 대기열을 두지 않는다.
+    private Executor virtualThreadExecutor(ThreadFactory threadFactory) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadFactory);
+        log.info("@Async tasks run on virtual threads");
+        return executor;
+    }
+
+    private Executor platformThreadExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(3);
         executor.setMaxPoolSize(30);
         executor.setQueueCapacity(50);
-        executor.setThreadNamePrefix("KurlyMurly-Async-Executor");
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
         executor.initialize();
         return executor;
     }
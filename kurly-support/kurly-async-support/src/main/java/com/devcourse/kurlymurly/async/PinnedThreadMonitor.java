@@ -0,0 +1,82 @@
+package com.devcourse.kurlymurly.async;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * JFR 의 jdk.VirtualThreadPinned 이벤트를 구독해서 가상 스레드가 캐리어 스레드에 고정된 지점을 기록한다.
+ * JDBC 드라이버나 커넥션 풀의 synchronized 블록 안에서 I/O 를 기다리면 발생한다.
+ */
+public class PinnedThreadMonitor implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final LongAdder pinnedCount = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private RecordingStream stream;
+
+    public PinnedThreadMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("watching virtual thread pinning longer than {}ms", threshold.toMillis());
+    }
+
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public long pinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    public double pinnedSeconds() {
+        return pinnedNanos.sum() / 1_000_000_000.0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("kurly.threads.virtual.pinned", this, PinnedThreadMonitor::pinnedCount).register(registry);
+        FunctionCounter.builder("kurly.threads.virtual.pinned.seconds", this, PinnedThreadMonitor::pinnedSeconds).register(registry);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+        log.warn("virtual thread pinned for {}ms\n{}", event.getDuration().toMillis(), topFrames(event.getStackTrace()));
+    }
+
+    private String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,9 @@
+package com.devcourse.kurlymurly.async;
+
+/**
+ * 요청 처리와 @Async 작업을 실행할 스레드 종류
+ */
+public enum ThreadMode {
+    PLATFORM,
+    VIRTUAL
+}
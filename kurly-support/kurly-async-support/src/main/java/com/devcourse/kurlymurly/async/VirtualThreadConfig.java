@@ -0,0 +1,40 @@
+package com.devcourse.kurlymurly.async;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * kurly.threads.mode=virtual 이면 톰캣 요청 처리도 가상 스레드에서 실행하고 캐리어 스레드 고정(pinning)을 감시한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "kurly.threads.mode", havingValue = "virtual")
+public class VirtualThreadConfig {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean
+    @ConditionalOnClass(name = "org.apache.coyote.ProtocolHandler")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> VirtualThreads.factory("KurlyMurly-Http-").ifPresentOrElse(
+                threadFactory -> {
+                    protocolHandler.setExecutor(command -> threadFactory.newThread(command).start());
+                    log.info("tomcat requests run on virtual threads");
+                },
+                () -> log.warn("falling back to platform thread pool for tomcat")
+        );
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public PinnedThreadMonitor pinnedThreadMonitor(
+            @Value("${kurly.threads.pinned-threshold:PT0.02S}") Duration threshold
+    ) {
+        return new PinnedThreadMonitor(threshold);
+    }
+}
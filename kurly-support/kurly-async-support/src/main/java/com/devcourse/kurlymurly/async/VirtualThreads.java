@@ -0,0 +1,34 @@
+package com.devcourse.kurlymurly.async;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Java 20 에서 가상 스레드는 preview 기능이라 컴파일 시점에 직접 참조하지 않고 실행 시점에 찾아서 쓴다.
+ * --enable-preview 없이 실행했거나 지원하지 않는 JVM 이면 빈 값을 돌려준다.
+ */
+public final class VirtualThreads {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private VirtualThreads() {
+    }
+
+    public static Optional<ThreadFactory> factory(String namePrefix) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return Optional.of((ThreadFactory) builderType.getMethod("factory").invoke(builder));
+        } catch (InvocationTargetException e) {
+            log.warn("virtual threads are not enabled on this JVM : {}", e.getCause().toString());
+            return Optional.empty();
+        } catch (ReflectiveOperationException e) {
+            log.warn("virtual threads are not supported on this JVM : {}", e.toString());
+            return Optional.empty();
+        }
+    }
+}
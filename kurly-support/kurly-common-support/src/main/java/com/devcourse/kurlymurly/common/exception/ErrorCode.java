@@ -6,6 +6,7 @@ import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
@@ -18,6 +19,8 @@ public enum ErrorCode {
     CLIENT_INPUT_INVALID(BAD_REQUEST, null),
     INORDERABLE_PRODUCT(BAD_REQUEST, "주문할 수 없는 상품입니다."),
     INVALID_ORDER_LINE_INDEX(BAD_REQUEST, "주문 상품 인덱스로 잘못된 값이 들어왔습니다."),
+    INVALID_CURSOR(BAD_REQUEST, "잘못된 페이지 커서입니다."),
+    ORDER_AMOUNT_OVERFLOW(BAD_REQUEST, "주문 금액이 너무 큽니다."),
 
     // 401
     NOT_CORRECT_PAY_PASSWORD(UNAUTHORIZED, "잘못된 결제 비밀번호입니다."),
@@ -49,6 +52,7 @@ public enum ErrorCode {
     NOT_OWNER(CONFLICT, "주문자가 아닙니다."),
     EXIST_SAME_ID(CONFLICT, "사용 불가능한 아이디 입니다."),
     EXIST_SAME_EMAIL(CONFLICT, "사용 불가능한 이메일 입니다."),
+    OUT_OF_STOCK(CONFLICT, "상품의 재고가 부족합니다."),
 
     // 422
     LOGIN_FAILED(UNPROCESSABLE_ENTITY, "아이디, 비밀번호를 확인해주세요."),
@@ -57,6 +61,10 @@ public enum ErrorCode {
     KURLY_SERVER_ERROR(INTERNAL_SERVER_ERROR, "서버 내부 문제입니다. 관리자에게 문의바랍니다."),
     IMAGE_UPLOAD_FAIL(INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
     IMAGE_CONVERT_FAIL(INTERNAL_SERVER_ERROR, "파일 변환에 실패했습니다."),
+
+    // 503
+    IMAGE_UPLOAD_REJECTED(SERVICE_UNAVAILABLE, "이미지 업로드 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    ORDER_REJECTED(SERVICE_UNAVAILABLE, "주문이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
     ;
 
     private final HttpStatus httpStatus;
@@ -74,4 +82,12 @@ public enum ErrorCode {
     public String getMessage() {
         return message;
     }
+
+    /**
+     * 클라이언트 요청으로 예상 가능한 비즈니스 규칙 위반인지 여부
+     * 5xx 가 아닌 예외는 스택 트레이스 없이 만든다.
+     */
+    public boolean isBusinessRule() {
+        return !httpStatus.is5xxServerError();
+    }
 }
@@ -1,27 +1,29 @@
 package com.devcourse.kurlymurly.common.exception;
 
+/**
+ * 비즈니스 규칙 위반(ErrorCode#isBusinessRule)은 자주, 예상 가능하게 발생하므로 스택 트레이스를 채우지 않는다.
+ * 서버 오류는 원인을 추적할 수 있도록 스택 트레이스를 남긴다.
+ */
 public class KurlyBaseException extends RuntimeException {
     private static final String ID_PREFIX = " ID: ";
 
     private final ErrorCode errorCode;
 
     public KurlyBaseException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage(), null);
     }
 
     public KurlyBaseException(ErrorCode errorCode, Throwable cause) {
-        super(errorCode.getMessage(), cause);
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage(), cause);
     }
 
-    private KurlyBaseException(ErrorCode errorCode, Long id) {
-        super(errorCode.getMessage() + ID_PREFIX + id);
+    private KurlyBaseException(ErrorCode errorCode, String message, Throwable cause) {
+        super(message, cause, true, !errorCode.isBusinessRule());
         this.errorCode = errorCode;
     }
 
     public static KurlyBaseException withId(ErrorCode errorCode, Long id) {
-        return new KurlyBaseException(errorCode, id);
+        return new KurlyBaseException(errorCode, errorCode.getMessage() + ID_PREFIX + id, null);
     }
 
     public ErrorCode getErrorCode() {
@@ -0,0 +1,53 @@
+package com.devcourse.kurlymurly.common.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.IMAGE_UPLOAD_FAIL;
+import static com.devcourse.kurlymurly.common.exception.ErrorCode.OUT_OF_STOCK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KurlyBaseExceptionTest {
+    @Test
+    @DisplayName("4xx 비즈니스 규칙 위반 예외는 스택 트레이스를 채우지 않는다.")
+    void businessRule_HasNoStackTrace() {
+        // given
+        Throwable cause = new IllegalStateException("cause");
+
+        // when
+        KurlyBaseException exception = new KurlyBaseException(OUT_OF_STOCK, cause);
+
+        // then
+        assertThat(OUT_OF_STOCK.isBusinessRule()).isTrue();
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getCause()).isSameAs(cause);
+    }
+
+    @Test
+    @DisplayName("5xx 서버 오류 예외는 스택 트레이스와 원인을 남긴다.")
+    void serverError_KeepsStackTraceAndCause() {
+        // given
+        Throwable cause = new IllegalStateException("cause");
+
+        // when
+        KurlyBaseException exception = new KurlyBaseException(IMAGE_UPLOAD_FAIL, cause);
+
+        // then
+        assertThat(IMAGE_UPLOAD_FAIL.isBusinessRule()).isFalse();
+        assertThat(exception.getStackTrace()).isNotEmpty();
+        assertThat(exception.getCause()).isSameAs(cause);
+    }
+
+    @Test
+    @DisplayName("id 를 붙인 예외도 상태 코드에 따라 스택 트레이스를 채운다.")
+    void withId_FollowsErrorCode() {
+        // when
+        KurlyBaseException businessRule = KurlyBaseException.withId(OUT_OF_STOCK, 1L);
+        KurlyBaseException serverError = KurlyBaseException.withId(IMAGE_UPLOAD_FAIL, 1L);
+
+        // then
+        assertThat(businessRule.getStackTrace()).isEmpty();
+        assertThat(businessRule.getMessage()).endsWith(" ID: 1");
+        assertThat(serverError.getStackTrace()).isNotEmpty();
+    }
+}
@@ -0,0 +1,21 @@
+package com.devcourse.kurlymurly.web.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 객체
+ * @param nextCursor 다음 페이지 요청에 그대로 넘겨주는 값으로, 다음 페이지가 없으면 null 입니다.
+ */
+public record KurlyCursorSlice<T>(
+        @Schema(description = "조회 결과")
+        List<T> contents,
+
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext,
+
+        @Schema(description = "다음 페이지 커서")
+        String nextCursor
+) {
+}
@@ -3,8 +3,7 @@ package com.devcourse.kurlymurly.web.order;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.NotEmpty;
 
 import java.util.List;
 
@@ -13,18 +12,10 @@ import static com.devcourse.kurlymurly.web.order.CreateOrder.Response;
 
 public sealed interface CreateOrder permits Request, Response {
     record Request(
-            @NotNull(message = "빈 값이 들어올 수 없습니다.")
+            @NotEmpty(message = "빈 값이 들어올 수 없습니다.")
             @Schema(description = "주문 상품 정보들")
             @Valid List<CreateOrderLine.Request> orderItems,
 
-            @Positive(message = "0보다 작은 값이 들어올 수 없습니다.")
-            @Schema(description = "총 주문 금액")
-            int totalPrice,
-
-            @Positive(message = "0보다 작은 값이 들어올 수 없습니다.")
-            @Schema(description = "총 할인 금액")
-            int totalDiscount,
-
             @NotBlank(message = "빈 값이 들어올 수 없습니다.")
             @Schema(description = "결제 수단")
             String payment,
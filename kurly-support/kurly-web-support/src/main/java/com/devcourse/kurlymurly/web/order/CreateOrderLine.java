@@ -1,7 +1,7 @@
 package com.devcourse.kurlymurly.web.order;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
@@ -13,19 +13,8 @@ public sealed interface CreateOrderLine permits Request {
             @Schema(description = "상품 아이디")
             Long productId,
 
-            @NotBlank(message = "빈 값이 들어올 수 없습니다.")
-            @Schema(description = "상품 이름")
-            String productName,
-
-            @NotBlank(message = "이미지 경로에 빈 값이 들어올 수 없습니다.")
-            @Schema(description = "상품 사진")
-            String imageUrl,
-
-            @Positive(message = "0보다 작은 값이 들어올 수 없습니다.")
-            @Schema(description = "총 주문 금액")
-            int totalPrice,
-
             @Positive(message = "0보다 작은 값이 들어올 수 없습니다.")
+            @Max(value = 99, message = "한 상품은 99개까지 주문할 수 있습니다.")
             @Schema(description = "주문 수량")
             int quantity
     ) implements CreateOrderLine {
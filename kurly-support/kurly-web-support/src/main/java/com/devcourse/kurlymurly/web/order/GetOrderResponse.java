@@ -8,6 +8,7 @@ import static com.devcourse.kurlymurly.web.order.GetOrderResponse.SimpleInfo;
 
 public sealed interface GetOrderResponse permits SimpleInfo, DetailInfo {
     record SimpleInfo(
+            Long orderId,
             String productName,
             String orderNumber,
             String payment,
@@ -3,11 +3,14 @@ package com.devcourse.kurlymurly.web.product;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
 
 import static com.devcourse.kurlymurly.web.product.ProductRequest.Create;
+import static com.devcourse.kurlymurly.web.product.ProductRequest.Search;
+import static com.devcourse.kurlymurly.web.product.ProductRequest.Stock;
 
-public sealed interface ProductRequest permits Create {
+public sealed interface ProductRequest permits Create, Search, Stock {
     record Create(
             @NotNull(message = "카테고리 번호로 빈 값이 들어올 수 없습니다.")
             @Schema(description = "카테고리 아이디")
@@ -62,4 +65,28 @@ public sealed interface ProductRequest permits Create {
             boolean isKurlyOnly
     ) implements ProductRequest {
     }
+
+    record Search(
+            @NotBlank(message = "검색어에 빈 값이 들어올 수 없습니다.")
+            @Schema(description = "검색어")
+            String keyword,
+
+            @Schema(description = "카테고리 아이디")
+            Long categoryId,
+
+            @Pattern(regexp = "EXPRESS|NORMAL", message = "배송 정보로 잘못된 값이 들어왔습니다.")
+            @Schema(description = "배송 정보", allowableValues = {"EXPRESS", "NORMAL"})
+            String delivery,
+
+            @Schema(description = "컬리 Only")
+            Boolean kurlyOnly
+    ) implements ProductRequest {
+    }
+
+    record Stock(
+            @Positive(message = "입고 수량에 0보다 작은 값이 들어올 수 없습니다.")
+            @Schema(description = "입고 수량")
+            int quantity
+    ) implements ProductRequest {
+    }
 }
@@ -1,8 +1,9 @@
 package com.devcourse.kurlymurly.web.product;
 
 import static com.devcourse.kurlymurly.web.product.ProductResponse.GetSimple;
+import static com.devcourse.kurlymurly.web.product.ProductResponse.Suggestion;
 
-public sealed interface ProductResponse permits GetSimple {
+public sealed interface ProductResponse permits GetSimple, Suggestion {
     record GetSimple(
             String imageUrl,
             String delivery,
@@ -14,4 +15,10 @@ public sealed interface ProductResponse permits GetSimple {
             String status
     ) implements ProductResponse {
     }
+
+    record Suggestion(
+            Long id,
+            String name
+    ) implements ProductResponse {
+    }
 }